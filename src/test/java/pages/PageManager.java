@@ -7,6 +7,7 @@ import pages.authentication.SignUpPage;
 import pages.dashboard.ProjectListPage;
 import pages.dashboard.ProjectSelectionPage;
 import pages.dashboard.ActivityLogPage;
+import pages.dashboard.project.ProjectTypeDriver;
 import pages.dashboard.project.building.BuildingProjectPage;
 import pages.dashboard.project.building.BuildingOverviewTab;
 import pages.dashboard.project.building.BuildingBasicInfoTab;
@@ -40,6 +41,7 @@ public class PageManager {
     private ProjectListPage projectListPage;
     private ProjectSelectionPage projectSelectionPage;
     private ActivityLogPage activityLogPage;
+    private ProjectTypeDriver projectTypeDriver;
 
     // Building project page objects - lazy initialization
     private BuildingProjectPage buildingProjectPage;
@@ -115,6 +117,13 @@ public class PageManager {
         return activityLogPage;
     }
 
+    public ProjectTypeDriver getProjectTypeDriver() {
+        if (projectTypeDriver == null) {
+            projectTypeDriver = new ProjectTypeDriver(page);
+        }
+        return projectTypeDriver;
+    }
+
     /**
      * Building Project Pages
      */
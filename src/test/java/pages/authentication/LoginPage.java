@@ -3,6 +3,7 @@ package pages.authentication;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import utils.AutoStep;
+import utils.PagePerformance;
 
 public class LoginPage {
     private final Page page;
@@ -31,6 +32,7 @@ public class LoginPage {
         if (!currentUrl.equals(expectedUrl)) {
             page.navigate(baseUrl);
         }
+        PagePerformance.capture(page, "login");
     }
 
     @AutoStep
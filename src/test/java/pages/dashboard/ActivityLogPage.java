@@ -2,7 +2,12 @@ package pages.dashboard;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.WaitForSelectorState;
 import utils.AutoStep;
+import utils.DomExtractor;
+import utils.FeedPaginator;
+import utils.PagePerformance;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -17,6 +22,19 @@ import java.util.Map;
 public class ActivityLogPage {
     private final Page page;
 
+    /**
+     * One activity entry as shown in the log
+     */
+    public record Activity(String userName, String actionType, String date, String projectName, String description) {}
+
+    // Fields of an activity card, relative to the entry (same selectors as the per-index getters)
+    private static final DomExtractor.Fields ACTIVITY_FIELDS = DomExtractor.fields()
+        .text("userName", "a.text-dark-primary")
+        .text("header", "div")
+        .text("date", "small.activity-date")
+        .text("projectName", ".projectLink a")
+        .lastText("description", "div.ps-md-2.pe-2 span");
+
     // ==================== BREADCRUMB NAVIGATION ====================
     private final Locator breadcrumbNav;
     private final Locator dashboardBreadcrumb;
@@ -143,6 +161,7 @@ public class ActivityLogPage {
         page.waitForLoadState();
         activityPage.waitFor();
         activityCard.waitFor();
+        PagePerformance.capture(page, "activityLog");
         page.waitForTimeout(1000);
     }
 
@@ -382,12 +401,7 @@ public class ActivityLogPage {
     public List<String> getAllActivityUserNames() {
         page.waitForLoadState();
         waitForActivityLogToLoad();
-        List<String> userNames = new ArrayList<>();
-        int count = activityUserNames.count();
-        for (int i = 0; i < count; i++) {
-            userNames.add(activityUserNames.nth(i).textContent().trim());
-        }
-        return userNames;
+        return DomExtractor.texts(activityUserNames);
     }
 
     /**
@@ -398,12 +412,7 @@ public class ActivityLogPage {
     public List<String> getAllActivityProjectNames() {
         page.waitForLoadState();
         waitForActivityLogToLoad();
-        List<String> projectNames = new ArrayList<>();
-        int count = activityProjectLinks.count();
-        for (int i = 0; i < count; i++) {
-            projectNames.add(activityProjectLinks.nth(i).textContent().trim());
-        }
-        return projectNames;
+        return DomExtractor.texts(activityProjectLinks);
     }
 
     /**
@@ -414,12 +423,7 @@ public class ActivityLogPage {
     public List<String> getAllActivityDates() {
         page.waitForLoadState();
         waitForActivityLogToLoad();
-        List<String> dates = new ArrayList<>();
-        int count = activityDates.count();
-        for (int i = 0; i < count; i++) {
-            dates.add(activityDates.nth(i).textContent().trim());
-        }
-        return dates;
+        return DomExtractor.texts(activityDates);
     }
 
     /**
@@ -428,16 +432,38 @@ public class ActivityLogPage {
      */
     @AutoStep
     public List<Map<String, String>> getAllActivities() {
-        page.waitForLoadState();
-        waitForActivityLogToLoad();
         List<Map<String, String>> activities = new ArrayList<>();
-        int count = allActivityEntries.count();
-        for (int i = 0; i < count; i++) {
-            activities.add(getActivityData(i));
+        for (Activity activity : getAllActivityRecords()) {
+            Map<String, String> activityData = new HashMap<>();
+            activityData.put("userName", activity.userName());
+            activityData.put("actionType", activity.actionType());
+            activityData.put("date", activity.date());
+            activityData.put("projectName", activity.projectName());
+            activityData.put("description", activity.description());
+            activities.add(activityData);
         }
         return activities;
     }
 
+    /**
+     * Get all activities as typed records, read in a single in-page evaluation
+     * @return List of activities in display order
+     */
+    @AutoStep
+    public List<Activity> getAllActivityRecords() {
+        page.waitForLoadState();
+        waitForActivityLogToLoad();
+        return DomExtractor.extract(allActivityEntries, ACTIVITY_FIELDS, row -> {
+            // Header reads "Username Action Date" - the action is what's left
+            String actionType = row.get("header")
+                .replace(row.get("userName"), "")
+                .replace(row.get("date"), "")
+                .trim();
+            return new Activity(row.get("userName"), actionType, row.get("date"), row.get("projectName"),
+                row.get("description"));
+        });
+    }
+
     // ==================== ACTIVITY SEARCH/FILTER METHODS ====================
 
     /**
@@ -557,9 +583,8 @@ public class ActivityLogPage {
     public void clickViewMore() {
         page.waitForLoadState();
         if (isViewMoreButtonVisible()) {
-            viewMoreButton.scrollIntoViewIfNeeded();
-            viewMoreButton.click();
-            page.waitForTimeout(2000); // Wait for more activities to load
+            // Waits for the next entry to be attached instead of a fixed sleep
+            FeedPaginator.clickViewMore(page, allActivityEntries, viewMoreButton);
         }
     }
 
@@ -589,13 +614,7 @@ public class ActivityLogPage {
      */
     @AutoStep
     public void loadAllActivities(int maxClicks) {
-        page.waitForLoadState();
-        int clicks = 0;
-        while (isViewMoreButtonVisible() && clicks < maxClicks) {
-            clickViewMore();
-            clicks++;
-            page.waitForTimeout(1000);
-        }
+        FeedPaginator.loadUntil(page, "activities", allActivityEntries, viewMoreButton, Integer.MAX_VALUE, maxClicks);
     }
 
     /**
@@ -606,13 +625,16 @@ public class ActivityLogPage {
      */
     @AutoStep
     public boolean loadActivitiesUntilCount(int targetCount, int maxClicks) {
+        // Wait for the feed itself rather than waitForActivityLogToLoad(), which sleeps a second
         page.waitForLoadState();
-        int clicks = 0;
-        while (getActivityCount() < targetCount && isViewMoreButtonVisible() && clicks < maxClicks) {
-            clickViewMore();
-            clicks++;
+        activityCard.waitFor();
+        try {
+            allActivityEntries.first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED));
+        } catch (TimeoutError e) {
+            return targetCount <= 0;
         }
-        return getActivityCount() >= targetCount;
+        return FeedPaginator.loadUntil(page, "activities", allActivityEntries, viewMoreButton, targetCount, maxClicks)
+            .entries() >= targetCount;
     }
 
     // ==================== VERIFICATION METHODS ====================
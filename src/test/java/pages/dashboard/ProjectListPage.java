@@ -3,9 +3,10 @@ package pages.dashboard;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import utils.AutoStep;
+import utils.DomExtractor;
 import utils.InputHelper;
+import utils.PagePerformance;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class ProjectListPage {
@@ -74,6 +75,7 @@ public class ProjectListPage {
     public boolean isProjectListVisible() {
         page.waitForLoadState();
         projectListHeader.waitFor();
+        PagePerformance.capture(page, "projectList");
         return projectListHeader.isVisible();
     }
 
@@ -424,20 +426,11 @@ public class ProjectListPage {
     public List<String> getAllVisibleProjectIds() {
         page.waitForLoadState();
         waitForProjectsToLoad();
-        List<String> projectIds = new ArrayList<>();
-        int rowCount = projectTableRows.count();
-        for (int i = 0; i < rowCount; i++) {
-            Locator row = projectTableRows.nth(i);
-            // Check if row has td elements (to exclude header rows or empty rows)
-            if (row.locator("td").count() > 0) {
-                String projectId = row.locator("td").first().textContent().trim();
-                // Only add non-empty project IDs
-                if (!projectId.isEmpty()) {
-                    projectIds.add(projectId);
-                }
-            }
-        }
-        return projectIds;
+        // First cell of every row in one evaluation; skip empty IDs (placeholder rows)
+        return DomExtractor.extract(projectTableRows, DomExtractor.fields().text("projectId", "td"),
+                row -> row.get("projectId")).stream()
+            .filter(projectId -> !projectId.isEmpty())
+            .toList();
     }
 
     // ==================== PAGINATION METHODS ====================
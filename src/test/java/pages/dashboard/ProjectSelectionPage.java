@@ -85,6 +85,15 @@ public class ProjectSelectionPage {
         return pageHeader.textContent();
     }
 
+    /**
+     * Select a project type by its tile position (1 = Building ... 13 = Supply Chain)
+     */
+    @AutoStep
+    public void selectProjectType(int position) {
+        page.waitForLoadState();
+        page.locator(String.format("//*[@id=\"project-categories\"]/div[%d]/div/div", position)).click();
+    }
+
     /**
      * Building Project Type
      */
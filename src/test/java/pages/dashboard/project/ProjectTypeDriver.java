@@ -0,0 +1,80 @@
+package pages.dashboard.project;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.AriaRole;
+
+import pages.dashboard.ProjectListPage;
+import pages.dashboard.ProjectSelectionPage;
+import utils.AutoStep;
+import utils.TestDataManager.ProjectType;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ProjectTypeDriver - Creates a project of any type from its project-types.json row
+ *
+ * One flow for all thirteen types: Create new project -> select the type's tile ->
+ * Basic Info tab -> title -> Save, done when the URL carries the new project ID
+ * (/project/{urlSegment}/{id}). The per-type differences live in the data table,
+ * not in per-type page objects.
+ *
+ * Save timeout: -Dproject.createTimeout (default 30000ms)
+ */
+public class ProjectTypeDriver {
+    private final Page page;
+    private final ProjectListPage projectListPage;
+    private final ProjectSelectionPage projectSelectionPage;
+    private final Locator saveButton;
+
+    /**
+     * A created project and how long creation took (Create new project click to saved URL)
+     */
+    public record CreatedProject(String type, String title, String projectId, long createMs) {}
+
+    public ProjectTypeDriver(Page page) {
+        this.page = page;
+        this.projectListPage = new ProjectListPage(page);
+        this.projectSelectionPage = new ProjectSelectionPage(page);
+        this.saveButton = page.getByRole(AriaRole.BUTTON, new Page.GetByRoleOptions().setName("Save")).first();
+    }
+
+    /**
+     * Create a project of the given type (starting from the project list)
+     */
+    @AutoStep
+    public CreatedProject createProject(ProjectType type, String title) {
+        page.waitForLoadState();
+        long start = System.nanoTime();
+
+        projectListPage.clickCreateNewProject();
+        projectSelectionPage.selectProjectType(type.position());
+
+        if (!type.basicInfoTab().isEmpty()) {
+            page.locator(type.basicInfoTab()).click();
+        }
+        Locator titleField = page.locator(type.titleField()).first();
+        titleField.waitFor();
+        titleField.fill(title);
+        saveButton.click();
+
+        Pattern savedUrl = savedUrlPattern(type);
+        page.waitForURL(savedUrl, new Page.WaitForURLOptions()
+            .setTimeout(Integer.getInteger("project.createTimeout", 30000)));
+        long createMs = (System.nanoTime() - start) / 1_000_000;
+
+        Matcher matcher = savedUrl.matcher(page.url());
+        String projectId = matcher.find() ? matcher.group(1) : "";
+        return new CreatedProject(type.type(), title, projectId, createMs);
+    }
+
+    /**
+     * URL of a saved project: /project/{segment}/{id}; any segment when the row has none
+     * (the list page /project/list is not a saved project)
+     */
+    private static Pattern savedUrlPattern(ProjectType type) {
+        String segment = type.urlSegment().isEmpty() ? "(?!list\\b)[^/?#]+" : Pattern.quote(type.urlSegment());
+        return Pattern.compile("/project/" + segment + "/([^/?#]+)");
+    }
+}
@@ -2,8 +2,19 @@ package pages.dashboard.project.building;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitForSelectorState;
 
+import utils.AnimationControl;
 import utils.AutoStep;
+import utils.BulkUploader;
+import utils.TestFileGenerator;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * BuildingProjectFilesTab - Project Files tab for Building project
  * This tab organizes files into categories:
@@ -229,7 +240,7 @@ public class BuildingProjectFilesTab {
     public void clickAddFilesButton() {
         page.waitForLoadState();
         addFilesButton.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
@@ -286,19 +297,62 @@ public class BuildingProjectFilesTab {
     }
 
     /**
-     * Upload file (when file input is available)
-     * Note: The actual file input selector may vary based on implementation
+     * Upload a file to the active category and wait until it is listed
      */
     @AutoStep
     public void uploadFile(String filePath) {
+        uploadFiles(List.of(Paths.get(filePath)));
+    }
+
+    /**
+     * Upload several files to the active category in one go and wait until all are listed
+     * (or their upload responses arrived); reports files/s, MB/s and per-file latency
+     */
+    @AutoStep
+    public BulkUploader.Result uploadFiles(List<Path> files) {
         page.waitForLoadState();
-        // This assumes a file input exists after clicking add files
-        // The actual selector may need to be adjusted based on the upload dialog
-        Locator fileInput = page.locator("input[type='file']");
-        if (fileInput.isVisible()) {
-            fileInput.setInputFiles(java.nio.file.Paths.get(filePath));
-            page.waitForTimeout(1000);
+        String category = getActiveFolder();
+        return BulkUploader.upload(page, category, fileInputForUpload(), fileListBody.locator("tr"), files);
+    }
+
+    /**
+     * Open a category and upload several files to it
+     * @param categoryName - category label, e.g. "Building Info", "Inventory of Emissions"
+     */
+    @AutoStep
+    public BulkUploader.Result uploadFilesToCategory(String categoryName, List<Path> files) {
+        clickCategory(categoryName);
+        return uploadFiles(files);
+    }
+
+    /**
+     * Generate files (-Dupload.fileCount x -Dupload.fileSizeKb) and upload them to each category
+     * @return results per category, in the given order
+     */
+    @AutoStep
+    public List<BulkUploader.Result> uploadEvidencePack(String extension, String... categoryNames) {
+        List<BulkUploader.Result> results = new ArrayList<>();
+        for (String categoryName : categoryNames) {
+            String prefix = categoryName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+            results.add(uploadFilesToCategory(categoryName, TestFileGenerator.generate(prefix, extension)));
+        }
+        return results;
+    }
+
+    /**
+     * The file input to upload through: the panel's input if it is in the DOM,
+     * otherwise the one "Add files" reveals
+     */
+    private Locator fileInputForUpload() {
+        Locator fileInput = filePanel.locator("input[type='file']");
+        if (fileInput.count() == 0) {
+            fileInput = page.locator("input[type='file']");
         }
+        if (fileInput.count() == 0) {
+            clickAddFilesButton();
+            fileInput.first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED));
+        }
+        return fileInput.first();
     }
 
     /**
@@ -307,8 +361,7 @@ public class BuildingProjectFilesTab {
     @AutoStep
     public boolean isCategoryVisible(String categoryName) {
         page.waitForLoadState();
-        Locator category = page.locator(String.format("#gnfz-%s", categoryName));
-        return category.isVisible();
+        return categoryLocator(categoryName).isVisible();
     }
 
     /**
@@ -317,11 +370,17 @@ public class BuildingProjectFilesTab {
     @AutoStep
     public void clickCategory(String categoryName) {
         page.waitForLoadState();
-        Locator category = page.locator(String.format("#gnfz-%s", categoryName));
-        category.click();
+        categoryLocator(categoryName).click();
         page.waitForTimeout(500);
     }
 
+    /**
+     * Category by name; attribute selector because most names contain spaces
+     */
+    private Locator categoryLocator(String categoryName) {
+        return page.locator(String.format("[id='gnfz-%s']", categoryName));
+    }
+
     /**
      * Get all category names
      */
@@ -4,6 +4,7 @@ import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 
 import utils.AutoStep;
+import utils.PagePerformance;
 /**
  * BuildingProjectPage - Main page for Building project
  *
@@ -22,6 +23,9 @@ import utils.AutoStep;
  * - Net Zero Milestone
  * - Summary of Emissions
  * - Project Files
+ *
+ * Tab switches are timed by PagePerformance under "building.{tab}" until the tab's content
+ * section is visible (see page-budgets.json).
  */
 public class BuildingProjectPage {
     private final Page page;
@@ -203,49 +207,51 @@ public class BuildingProjectPage {
     @AutoStep
     public void goToOverviewTab() {
         page.waitForLoadState();
-        overviewTab.click();
+        PagePerformance.measure(page, "building.overview", overviewTab::click, overviewTabContent);
     }
 
     @AutoStep
     public void goToBasicInfoTab() {
         page.waitForLoadState();
-        basicInfoTab.click();
+        PagePerformance.measure(page, "building.basicInfo", basicInfoTab::click, basicInfoTabContent);
     }
 
     @AutoStep
     public void goToAssessmentTab() {
         page.waitForLoadState();
-        assessmentTab.click();
+        PagePerformance.measure(page, "building.assessment", assessmentTab::click, assessmentTabContent);
     }
 
     @AutoStep
     public void goToNetZeroPlanTab() {
         page.waitForLoadState();
-        netZeroPlanTab.click();
+        PagePerformance.measure(page, "building.netZeroPlan", netZeroPlanTab::click, netZeroPlanTabContent);
     }
 
     @AutoStep
     public void goToCarbonOffsetTab() {
         page.waitForLoadState();
-        carbonOffsetTab.click();
+        PagePerformance.measure(page, "building.carbonOffset", carbonOffsetTab::click, carbonOffsetTabContent);
     }
 
     @AutoStep
     public void goToNetZeroMilestoneTab() {
         page.waitForLoadState();
-        netZeroMilestoneTab.click();
+        PagePerformance.measure(page, "building.netZeroMilestone", netZeroMilestoneTab::click,
+            netZeroMilestoneTabContent);
     }
 
     @AutoStep
     public void goToSummaryOfEmissionsTab() {
         page.waitForLoadState();
-        summaryOfEmissionsTab.click();
+        PagePerformance.measure(page, "building.summaryOfEmissions", summaryOfEmissionsTab::click,
+            summaryOfEmissionsTabContent);
     }
 
     @AutoStep
     public void goToProjectFilesTab() {
         page.waitForLoadState();
-        projectFilesTab.click();
+        PagePerformance.measure(page, "building.projectFiles", projectFilesTab::click, projectFilesTabContent);
     }
 
     /**
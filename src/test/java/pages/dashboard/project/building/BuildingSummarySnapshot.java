@@ -0,0 +1,126 @@
+package pages.dashboard.project.building;
+
+import pages.dashboard.project.building.assessment.NetZeroEmissionsSection;
+import pages.dashboard.project.building.assessment.NetZeroEnergySection;
+import pages.dashboard.project.building.assessment.NetZeroWasteSection;
+import pages.dashboard.project.building.assessment.NetZeroWaterSection;
+import utils.NumberParser;
+
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BuildingSummarySnapshot - Typed values of all four Summary tab views at one point in time
+ *
+ * Built by BuildingSummaryTab.captureSnapshot() (one in-page read per sub-tab) or from the
+ * assessment sections with fromAssessment(), and compared field by field with diff().
+ * A null value means the row was not shown / not read, and is skipped by diff(). Values keep
+ * their displayed scale, so diff() allows only the difference their rounding can explain.
+ */
+public record BuildingSummarySnapshot(Emissions emissions, Energy energy, Water water, Waste waste) {
+
+    /**
+     * A value shown in KgCO2e and MtCO2e
+     */
+    public record KgMt(BigDecimal kg, BigDecimal mt) {}
+
+    public record Emissions(KgMt scope1, KgMt scope2, KgMt scope3, KgMt total,
+                            KgMt carbonOffsets, KgMt carbonRemoval, KgMt toAvoid) {}
+
+    public record Energy(KgMt scope1, KgMt scope2, KgMt total, KgMt renewableEnergyCertificates,
+                         KgMt reducedThroughStrategies, KgMt toAvoid) {}
+
+    /** KL/annum (daily rows in KL/day) */
+    public record Water(BigDecimal consumption, BigDecimal supply, BigDecimal rainwater, BigDecimal noRainDaysDaily,
+                        BigDecimal rainyDaysDaily, BigDecimal freshwaterProvision, BigDecimal annualFreshwaterRequirement) {}
+
+    /** Tonnes */
+    public record Waste(BigDecimal generated, BigDecimal landfill, BigDecimal incinerated, BigDecimal composted,
+                        BigDecimal recycled, BigDecimal reused, BigDecimal toBeReduced) {}
+
+    /**
+     * Build the comparable part of a snapshot from the assessment sections' own totals
+     * (each section must be on its tab; values it does not show stay null)
+     */
+    public static BuildingSummarySnapshot fromAssessment(NetZeroEmissionsSection emissions, NetZeroEnergySection energy,
+                                                         NetZeroWaterSection water, NetZeroWasteSection waste) {
+        Emissions emissionValues = emissions == null ? null : new Emissions(
+            kgMt(emissions.getSummaryScope1KgCO2e(), emissions.getSummaryScope1MtCO2e()),
+            kgMt(emissions.getSummaryScope2KgCO2e(), emissions.getSummaryScope2MtCO2e()),
+            kgMt(emissions.getSummaryScope3KgCO2e(), emissions.getSummaryScope3MtCO2e()),
+            kgMt(emissions.getSummaryTotalKgCO2e(), emissions.getSummaryTotalMtCO2e()),
+            null, null, null);
+        Energy energyValues = energy == null ? null : new Energy(
+            kgMt(energy.getSummaryScope1KgCO2e(), energy.getSummaryScope1MtCO2e()),
+            kgMt(energy.getSummaryScope2KgCO2e(), energy.getSummaryScope2MtCO2e()),
+            kgMt(energy.getSummaryTotalKgCO2e(), energy.getSummaryTotalMtCO2e()),
+            null, null, null);
+        Water waterValues = water == null ? null : new Water(
+            number(water.getConsumptionTotal()), number(water.getSupplyTotal()), number(water.getRainwaterTotal()),
+            null, null, number(water.getFreshwaterProvisionTotal()), number(water.getAnnualFreshwaterRequirement()));
+        Waste wasteValues = waste == null ? null : new Waste(
+            number(waste.getGeneratedTotal()), number(waste.getLandfillTotal()), number(waste.getIncineratedTotal()),
+            number(waste.getCompostedTotal()), number(waste.getRecycledTotal()), number(waste.getReusedTotal()),
+            number(waste.getWasteToBeReduced()));
+        return new BuildingSummarySnapshot(emissionValues, energyValues, waterValues, wasteValues);
+    }
+
+    /**
+     * Differences to another snapshot, as "path: this != other" (e.g. "emissions.scope1.kg: 12.0 != 12.5").
+     * Fields that are null on either side are not compared.
+     */
+    public List<String> diff(BuildingSummarySnapshot other) {
+        List<String> differences = new ArrayList<>();
+        diff("", this, other, differences);
+        return differences;
+    }
+
+    private static void diff(String path, Object mine, Object theirs, List<String> differences) {
+        if (mine == null || theirs == null) {
+            return;
+        }
+        if (mine instanceof BigDecimal a && theirs instanceof BigDecimal b) {
+            BigDecimal difference = a.subtract(b).abs();
+            if (difference.signum() != 0 && difference.compareTo(tolerance(a, b)) >= 0) {
+                differences.add(path + ": " + a + " != " + b);
+            }
+            return;
+        }
+        for (RecordComponent component : mine.getClass().getRecordComponents()) {
+            try {
+                diff(path.isEmpty() ? component.getName() : path + "." + component.getName(),
+                    component.getAccessor().invoke(mine), component.getAccessor().invoke(theirs), differences);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Could not read " + component.getName() + " of " + path, e);
+            }
+        }
+    }
+
+    /**
+     * Two roundings of the same value differ by less than half a displayed unit of each
+     * ("12.35" vs "12.3" may differ by under 0.055; "0.0012" vs "0.0013" is a real difference)
+     */
+    private static BigDecimal tolerance(BigDecimal a, BigDecimal b) {
+        return a.ulp().add(b.ulp()).divide(BigDecimal.valueOf(2));
+    }
+
+    static KgMt kgMt(String kg, String mt) {
+        return new KgMt(number(kg), number(mt));
+    }
+
+    /**
+     * Displayed value as a number; null for missing, empty or non-numeric text
+     */
+    static BigDecimal number(String displayed) {
+        if (displayed == null || displayed.isBlank()) {
+            return null;
+        }
+        try {
+            return NumberParser.parseBigDecimal(displayed);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
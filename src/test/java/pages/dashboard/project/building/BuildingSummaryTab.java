@@ -2,8 +2,21 @@ package pages.dashboard.project.building;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitForSelectorState;
 
+import utils.AnimationControl;
 import utils.AutoStep;
+import utils.ExportCapture;
+import utils.ExportVerifier;
+import utils.TestLogger;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * BuildingSummaryTab - Summary of Emissions tab for Building project
  * This tab provides a read-only summary view of all assessment data across:
@@ -15,6 +28,26 @@ import utils.AutoStep;
 public class BuildingSummaryTab {
     private final Page page;
 
+    // Every row of a summary table: label = first non-numeric cell (without "a." enumeration),
+    // values = numeric prefix of each numeric cell, in column order (Kg before Mt)
+    private static final String SUMMARY_ROWS_SCRIPT = """
+        rows => rows.map(row => {
+          const cells = Array.from(row.querySelectorAll('td')).map(td => td.textContent.replace(/\\s+/g, ' ').trim());
+          const numeric = text => (text.match(/^-?[\\d,]*\\.?\\d+/) || [null])[0];
+          const label = cells.find(text => text && !numeric(text) && !/^\\(?[a-z]\\)?\\.?$/i.test(text)) || '';
+          return { label: label.replace(/^[a-z]\\.\\s+/i, ''), values: cells.map(numeric).filter(Boolean) };
+        })
+        """;
+
+    /**
+     * A summary table row as read by SUMMARY_ROWS_SCRIPT
+     */
+    private record SummaryRow(String label, List<String> values) {
+        String value(int index) {
+            return index < values.size() ? values.get(index) : null;
+        }
+    }
+
     // Main content
     private final Locator tabContent;
     private final Locator pageTitle;
@@ -169,7 +202,7 @@ public class BuildingSummaryTab {
     public void clickShareButton() {
         page.waitForLoadState();
         shareButton.click();
-        page.waitForTimeout(300);
+        AnimationControl.waitForAnimation(page, 300);
     }
 
     @AutoStep
@@ -190,23 +223,175 @@ public class BuildingSummaryTab {
     public void clickDownloadButton() {
         page.waitForLoadState();
         downloadButton.click();
-        page.waitForTimeout(300);
+        AnimationControl.waitForAnimation(page, 300);
     }
 
+    /**
+     * Download the Excel export; waits for the download event and streams it to target/downloads/
+     */
     @AutoStep
-    public void downloadExcel() {
+    public ExportCapture.Export downloadExcel() {
         page.waitForLoadState();
         clickDownloadButton();
-        downloadExcelButton.click();
-        page.waitForTimeout(1000);
+        return ExportCapture.capture(page, "xlsx", downloadExcelButton::click);
     }
 
+    /**
+     * Download the PDF export; waits for the download event and streams it to target/downloads/
+     */
     @AutoStep
-    public void downloadPdf() {
+    public ExportCapture.Export downloadPdf() {
         page.waitForLoadState();
         clickDownloadButton();
-        downloadPdfButton.click();
-        page.waitForTimeout(1000);
+        return ExportCapture.capture(page, "pdf", downloadPdfButton::click);
+    }
+
+    /**
+     * Download the Excel export and check it contains every value shown in the summary tables
+     * @param projectName - project the export belongs to (for reporting)
+     */
+    @AutoStep
+    public ExportVerifier.Report verifyExcelExport(String projectName) {
+        Map<String, String> displayed = getDisplayedSummaryValues();
+        return ExportVerifier.verify(projectName, downloadExcel(), displayed);
+    }
+
+    /**
+     * Download the PDF export and check it contains every value shown in the summary tables
+     * @param projectName - project the export belongs to (for reporting)
+     */
+    @AutoStep
+    public ExportVerifier.Report verifyPdfExport(String projectName) {
+        Map<String, String> displayed = getDisplayedSummaryValues();
+        return ExportVerifier.verify(projectName, downloadPdf(), displayed);
+    }
+
+    /**
+     * All values of the four summary tables, keyed "Section / row label #n" (n = value column, 1-based)
+     * Read from the DOM in one evaluation per table (hidden sub-tabs included)
+     */
+    @AutoStep
+    public Map<String, String> getDisplayedSummaryValues() {
+        page.waitForLoadState();
+        Map<String, String> values = new LinkedHashMap<>();
+        addTableValues(values, "Emissions", readRows(emissionsTabContent));
+        addTableValues(values, "Energy", readRows(energyTabContent));
+        addTableValues(values, "Water", readRows(waterTabContent));
+        addTableValues(values, "Waste", readRows(wasteTabContent));
+        return values;
+    }
+
+    private void addTableValues(Map<String, String> values, String section, List<SummaryRow> rows) {
+        for (SummaryRow row : rows) {
+            if (row.label().isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < row.values().size(); i++) {
+                values.put(section + " / " + row.label() + " #" + (i + 1), row.value(i));
+            }
+        }
+    }
+
+    /**
+     * Capture all four sub-tabs as a typed snapshot: switches to each tab and reads all of its
+     * rows in one in-page evaluation (instead of one locator round trip per value).
+     * Leaves the Waste tab active.
+     */
+    @AutoStep
+    public BuildingSummarySnapshot captureSnapshot() {
+        page.waitForLoadState();
+        long start = System.nanoTime();
+
+        List<SummaryRow> emissionRows = readTab(emissionsTabButton, emissionsTabContent);
+        BuildingSummarySnapshot.Emissions emissions = new BuildingSummarySnapshot.Emissions(
+            kgMt(emissionRows, "Scope 1"),
+            kgMt(emissionRows, "Scope 2"),
+            kgMt(emissionRows, "Scope 3"),
+            kgMt(emissionRows, "Total emissions of the building"),
+            kgMt(emissionRows, "Emissions avoided by carbon offsets"),
+            kgMt(emissionRows, "Emissions avoided by carbon removal strategies"),
+            kgMt(emissionRows, "Emissions to be avoided to get to net zero"));
+
+        List<SummaryRow> energyRows = readTab(energyTabButton, energyTabContent);
+        BuildingSummarySnapshot.Energy energy = new BuildingSummarySnapshot.Energy(
+            kgMt(energyRows, "Scope 1"),
+            kgMt(energyRows, "Scope 2"),
+            kgMt(energyRows, "Total emissions of the building from energy"),
+            kgMt(energyRows, "Emissions reduced through Renewable Energy Certificates"),
+            kgMt(energyRows, "Emissions reduced through strategies"),
+            kgMt(energyRows, "Emissions to be avoided to get to net zero"));
+
+        List<SummaryRow> waterRows = readTab(waterTabButton, waterTabContent);
+        BuildingSummarySnapshot.Water water = new BuildingSummarySnapshot.Water(
+            number(waterRows, "Consumption"),
+            number(waterRows, "Supply"),
+            number(waterRows, "Rainwater"),
+            number(waterRows, "During no-rain days, daily"),
+            number(waterRows, "During rainy days, daily"),
+            number(waterRows, "Freshwater Provision"),
+            number(waterRows, "Annual Freshwater Requirement"));
+
+        List<SummaryRow> wasteRows = readTab(wasteTabButton, wasteTabContent);
+        BuildingSummarySnapshot.Waste waste = new BuildingSummarySnapshot.Waste(
+            number(wasteRows, "Generated"),
+            number(wasteRows, "Sent to Landfill"),
+            number(wasteRows, "Incinerated"),
+            number(wasteRows, "Composted"),
+            number(wasteRows, "Recycled"),
+            number(wasteRows, "Reused"),
+            number(wasteRows, "Waste to be Reduced"));
+
+        TestLogger.info(String.format("Captured summary snapshot (%d rows) in %d ms",
+            emissionRows.size() + energyRows.size() + waterRows.size() + wasteRows.size(),
+            (System.nanoTime() - start) / 1_000_000));
+        return new BuildingSummarySnapshot(emissions, energy, water, waste);
+    }
+
+    private List<SummaryRow> readTab(Locator tabButton, Locator tabContent) {
+        switchTab(tabButton, tabContent);
+        return readRows(tabContent);
+    }
+
+    /**
+     * All rows of a summary table in one evaluation
+     */
+    @SuppressWarnings("unchecked")
+    private List<SummaryRow> readRows(Locator tabContent) {
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) tabContent.locator("tr:has(td)")
+            .evaluateAll(SUMMARY_ROWS_SCRIPT);
+        List<SummaryRow> summaryRows = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            summaryRows.add(new SummaryRow((String) row.get("label"), (List<String>) row.get("values")));
+        }
+        return summaryRows;
+    }
+
+    /**
+     * Row by label: exact (case-insensitive) match first, then prefix match; null if absent
+     */
+    private static SummaryRow findRow(List<SummaryRow> rows, String label) {
+        for (SummaryRow row : rows) {
+            if (row.label().equalsIgnoreCase(label)) {
+                return row;
+            }
+        }
+        String prefix = label.toLowerCase(Locale.ROOT);
+        for (SummaryRow row : rows) {
+            if (row.label().toLowerCase(Locale.ROOT).startsWith(prefix)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    private static BuildingSummarySnapshot.KgMt kgMt(List<SummaryRow> rows, String label) {
+        SummaryRow row = findRow(rows, label);
+        return row == null ? null : BuildingSummarySnapshot.kgMt(row.value(0), row.value(1));
+    }
+
+    private static BigDecimal number(List<SummaryRow> rows, String label) {
+        SummaryRow row = findRow(rows, label);
+        return row == null ? null : BuildingSummarySnapshot.number(row.value(0));
     }
 
     /**
@@ -215,29 +400,33 @@ public class BuildingSummaryTab {
     @AutoStep
     public void goToEmissionsTab() {
         page.waitForLoadState();
-        emissionsTabButton.click();
-        page.waitForTimeout(500);
+        switchTab(emissionsTabButton, emissionsTabContent);
     }
 
     @AutoStep
     public void goToEnergyTab() {
         page.waitForLoadState();
-        energyTabButton.click();
-        page.waitForTimeout(500);
+        switchTab(energyTabButton, energyTabContent);
     }
 
     @AutoStep
     public void goToWaterTab() {
         page.waitForLoadState();
-        waterTabButton.click();
-        page.waitForTimeout(500);
+        switchTab(waterTabButton, waterTabContent);
     }
 
     @AutoStep
     public void goToWasteTab() {
         page.waitForLoadState();
-        wasteTabButton.click();
-        page.waitForTimeout(500);
+        switchTab(wasteTabButton, wasteTabContent);
+    }
+
+    /**
+     * Click a sub-tab button and wait for its content to be shown (no fixed delay)
+     */
+    private void switchTab(Locator tabButton, Locator tabContent) {
+        tabButton.click();
+        tabContent.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
     }
 
     @AutoStep
@@ -383,42 +572,42 @@ public class BuildingSummaryTab {
     public void clickScope1Link() {
         page.waitForLoadState();
         scope1Link.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickScope2Link() {
         page.waitForLoadState();
         scope2Link.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickScope3Link() {
         page.waitForLoadState();
         scope3Link.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickTotalEmissionsLink() {
         page.waitForLoadState();
         totalEmissionsLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickCarbonOffsetsLink() {
         page.waitForLoadState();
         carbonOffsetsLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickCarbonRemovalLink() {
         page.waitForLoadState();
         carbonRemovalLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     /**
@@ -517,49 +706,49 @@ public class BuildingSummaryTab {
     public void clickWaterConsumptionLink() {
         page.waitForLoadState();
         waterConsumptionLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWaterSupplyLink() {
         page.waitForLoadState();
         waterSupplyLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWaterRainwaterLink() {
         page.waitForLoadState();
         waterRainwaterLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWaterFreshwaterRequirementLink() {
         page.waitForLoadState();
         waterFreshwaterRequirementLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWaterNoRainDaysLink() {
         page.waitForLoadState();
         waterNoRainDaysLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWaterRainyDaysLink() {
         page.waitForLoadState();
         waterRainyDaysLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWaterFreshwaterProvisionLink() {
         page.waitForLoadState();
         waterFreshwaterProvisionLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     /**
@@ -673,21 +862,21 @@ public class BuildingSummaryTab {
     public void clickEnergyScope1Link() {
         page.waitForLoadState();
         energyScope1Link.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickEnergyScope2Link() {
         page.waitForLoadState();
         energyScope2Link.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickEnergyTotalEmissionsLink() {
         page.waitForLoadState();
         energyTotalEmissionsLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     /**
@@ -760,42 +949,42 @@ public class BuildingSummaryTab {
     public void clickWasteGeneratedLink() {
         page.waitForLoadState();
         wasteGeneratedLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWasteLandfillLink() {
         page.waitForLoadState();
         wasteLandfillLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWasteIncineratedLink() {
         page.waitForLoadState();
         wasteIncineratedLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWasteCompostedLink() {
         page.waitForLoadState();
         wasteCompostedLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWasteRecycledLink() {
         page.waitForLoadState();
         wasteRecycledLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     @AutoStep
     public void clickWasteReusedLink() {
         page.waitForLoadState();
         wasteReusedLink.click();
-        page.waitForTimeout(500);
+        AnimationControl.waitForAnimation(page, 500);
     }
 
     /**
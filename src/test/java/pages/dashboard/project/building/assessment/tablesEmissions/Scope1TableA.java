@@ -7,6 +7,8 @@ import utils.WaitHelper;
 import com.microsoft.playwright.Locator;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope1TableA - Table A for Scope 1 Emissions (Fuels)
  *
@@ -75,6 +77,17 @@ public class Scope1TableA {
         return page.locator(ALL_ROWS_PATTERN);
     }
 
+    /**
+     * Clear fuel, emission factor and consumption of a row (the enter methods type after the current value)
+     */
+    @AutoStep
+    public void clearRow(int rowIndex) {
+        page.waitForLoadState();
+        getFuelInput(rowIndex).clear();
+        getEmissionFactorInput(rowIndex).clear();
+        getConsumptionInput(rowIndex).clear();
+    }
+
     /**
      * Enter methods for specific columns
      */
@@ -85,12 +98,12 @@ public class Scope1TableA {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_A, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterConsumption(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getConsumptionInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_A, rowIndex, getConsumptionInput(rowIndex), value);
     }
 
     @AutoStep
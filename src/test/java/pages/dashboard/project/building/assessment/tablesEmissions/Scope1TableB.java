@@ -7,6 +7,8 @@ import utils.WaitHelper;
 import com.microsoft.playwright.Locator;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope1TableB - Table B for Scope 1 Emissions (Refrigerants)
  *
@@ -86,12 +88,12 @@ public class Scope1TableB {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_B, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterConsumption(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getConsumptionInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_B, rowIndex, getConsumptionInput(rowIndex), value);
     }
 
     @AutoStep
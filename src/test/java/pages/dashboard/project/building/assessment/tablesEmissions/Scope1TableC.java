@@ -7,6 +7,8 @@ import utils.WaitHelper;
 import com.microsoft.playwright.Locator;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope1TableC - Table C for Scope 1 Emissions (Mobile Combustion)
  *
@@ -86,12 +88,12 @@ public class Scope1TableC {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_C, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterConsumption(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getConsumptionInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_C, rowIndex, getConsumptionInput(rowIndex), value);
     }
 
 
@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope2TableD - Table D for Scope 2 Emissions (Energy)
  * Columns: activity, emission_factor_(kgco2e), consumption, units
@@ -83,12 +85,12 @@ public class Scope2TableD {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_D, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterConsumption(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getConsumptionInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_D, rowIndex, getConsumptionInput(rowIndex), value);
     }
     
     @AutoStep
@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableE - Table E for Scope 3 Emissions (Water)
  *
@@ -85,12 +87,12 @@ public class Scope3TableE {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_E, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterConsumption(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getConsumptionInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_E, rowIndex, getConsumptionInput(rowIndex), value);
     }
 
     @AutoStep
@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableF - Table F for Scope 3 Emissions (Waste Disposal)
  *
@@ -90,16 +92,16 @@ public class Scope3TableF {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_F, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
     @AutoStep
     public void enterQuantityOfWasteGenerated(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityGeneratedInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_F, rowIndex, getQuantityGeneratedInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterQuantityOfWasteSentToLandfill(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityLandfillInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_F, rowIndex, getQuantityLandfillInput(rowIndex), value);
     }
     
     @AutoStep
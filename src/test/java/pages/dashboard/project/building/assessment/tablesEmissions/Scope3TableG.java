@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableG - Table G for Scope 3 Emissions (Composed Waste)
  *
@@ -85,12 +87,12 @@ public class Scope3TableG {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_G, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterQuantityOfWasteComposted(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityCompostedInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_G, rowIndex, getQuantityCompostedInput(rowIndex), value);
     }
 
     
@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableH - Table H for Scope 3 Emissions (Waste Recycled)
  *
@@ -85,12 +87,12 @@ public class Scope3TableH {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_H, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterQuantityOfWasteRecycled(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityRecycledInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_H, rowIndex, getQuantityRecycledInput(rowIndex), value);
     }
 
     @AutoStep
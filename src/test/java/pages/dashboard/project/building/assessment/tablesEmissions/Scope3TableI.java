@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableI - Table I for Scope 3 Emissions (Waste Incinerated)
  *
@@ -85,13 +87,13 @@ public class Scope3TableI {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_I, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
 
     @AutoStep
     public void enterQuantityOfWasteIncinerated(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityIncineratedInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_I, rowIndex, getQuantityIncineratedInput(rowIndex), value);
     }
 
     @AutoStep
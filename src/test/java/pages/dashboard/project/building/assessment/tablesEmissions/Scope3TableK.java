@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableK - Table K for Scope 3 Emissions (Employee Commute)
  *
@@ -106,12 +108,12 @@ public class Scope3TableK {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_K, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterTotalDistance(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getTotalDistanceInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_K, rowIndex, getTotalDistanceInput(rowIndex), value);
     }
 
     @AutoStep
@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableL - Table L for Scope 3 Emissions (Business Travel)
  *
@@ -82,12 +84,12 @@ public class Scope3TableL {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_L, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterTotalDistance(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getTotalDistanceInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_L, rowIndex, getTotalDistanceInput(rowIndex), value);
     }
 
 
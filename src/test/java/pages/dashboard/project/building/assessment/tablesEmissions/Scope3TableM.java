@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableM - Table M for Scope 3 Emissions (Flights)
  *
@@ -121,12 +123,12 @@ public class Scope3TableM {
 
     @AutoStep
     public void enterNoOfPassengers(int rowIndex, String passengers) {
-        InputHelper.humanizedInput(page, getNoOfPassengersInput(rowIndex), passengers);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_M, rowIndex, getNoOfPassengersInput(rowIndex), passengers);
     }
 
     @AutoStep
     public void enterTotalEmissions(int rowIndex, String totalEmissions) {
-        InputHelper.humanizedInput(page, getTotalEmissionsInput(rowIndex), totalEmissions);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_M, rowIndex, getTotalEmissionsInput(rowIndex), totalEmissions);
     }
 
     /**
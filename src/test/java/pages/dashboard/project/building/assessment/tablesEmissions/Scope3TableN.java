@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableN - Table N for Scope 3 Emissions (Food)
  *
@@ -84,12 +86,12 @@ public class Scope3TableN {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_N, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_N, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableO - Table O for Scope 3 Emissions (Logistics & Supply)
  *
@@ -111,18 +113,18 @@ public class Scope3TableO {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_O, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterWeightTonnes(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getWeightTonnesInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_O, rowIndex, getWeightTonnesInput(rowIndex), value);
     }
 
 
     @AutoStep
     public void enterDistanceKm(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getDistanceKmInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_O, rowIndex, getDistanceKmInput(rowIndex), value);
     }
 
     @AutoStep
@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableP - Table P for Scope 3 Emissions (Primary Materials)
  *
@@ -84,12 +86,12 @@ public class Scope3TableP {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_P, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_P, rowIndex, getQuantityInput(rowIndex), value);
     }
 
 
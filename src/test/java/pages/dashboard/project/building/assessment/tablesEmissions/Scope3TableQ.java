@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableQ - Table Q for Scope 3 Emissions (Recycled Materials)
  *
@@ -84,12 +86,12 @@ public class Scope3TableQ {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_Q, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_Q, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
@@ -7,6 +7,8 @@ import utils.InputHelper;
 import utils.WaitHelper;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope3TableR - Table R for Scope 3 Emissions (Reused Materials)
  *
@@ -84,13 +86,13 @@ public class Scope3TableR {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_R, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
     
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.EMISSIONS_R, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
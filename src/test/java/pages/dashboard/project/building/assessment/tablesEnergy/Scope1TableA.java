@@ -7,6 +7,8 @@ import utils.WaitHelper;
 import com.microsoft.playwright.Locator;
 
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * Scope1TableA - Table A for Scope 1 Energy (Fuels)
  *
@@ -85,12 +87,12 @@ public class Scope1TableA {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.ENERGY_A, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
     @AutoStep
     public void enterConsumption(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getConsumptionInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.ENERGY_A, rowIndex, getConsumptionInput(rowIndex), value);
     }
 
     @AutoStep
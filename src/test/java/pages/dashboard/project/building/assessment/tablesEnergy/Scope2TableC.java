@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 public class Scope2TableC {
     protected final Page page;
 
@@ -79,13 +81,13 @@ public class Scope2TableC {
 
     @AutoStep
     public void enterEmissionFactor(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getEmissionFactorInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.ENERGY_C, rowIndex, getEmissionFactorInput(rowIndex), value);
     }
 
 
     @AutoStep
     public void enterConsumption(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getConsumptionInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.ENERGY_C, rowIndex, getConsumptionInput(rowIndex), value);
     }
 
     @AutoStep
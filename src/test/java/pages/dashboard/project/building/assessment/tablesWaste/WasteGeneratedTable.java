@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * WasteGeneratedTable - Table A for Waste Generated
  *
@@ -61,7 +63,7 @@ public class WasteGeneratedTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WASTE_A, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
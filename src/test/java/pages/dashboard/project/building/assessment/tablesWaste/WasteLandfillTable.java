@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * WasteLandfillTable - Table B for Waste Sent to Landfill
  *
@@ -59,7 +61,7 @@ public class WasteLandfillTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WASTE_B, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * ConsumptionNonPotableTable - Table B for Water Consumption (Non Potable)
  *
@@ -103,7 +105,7 @@ public class ConsumptionNonPotableTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_B, rowIndex, getQuantityInput(rowIndex), value);
     }
 
 
@@ -115,7 +117,7 @@ public class ConsumptionNonPotableTable {
 
     @AutoStep
     public void enterNoOfDays(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getNoOfDaysInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_B, rowIndex, getNoOfDaysInput(rowIndex), value);
     }
 
 
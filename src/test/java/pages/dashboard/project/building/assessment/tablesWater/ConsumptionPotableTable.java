@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * ConsumptionPotableTable - Table A for Water Consumption (Potable)
  *
@@ -104,7 +106,7 @@ public class ConsumptionPotableTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_A, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
@@ -115,7 +117,7 @@ public class ConsumptionPotableTable {
 
     @AutoStep
     public void enterNoOfDays(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getNoOfDaysInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_A, rowIndex, getNoOfDaysInput(rowIndex), value);
     }
 
 
@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * FreshwaterProvisionTable - Table H for Freshwater Provision
  *
@@ -78,7 +80,7 @@ public class FreshwaterProvisionTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_H, rowIndex, getQuantityInput(rowIndex), value);
     }
     
 
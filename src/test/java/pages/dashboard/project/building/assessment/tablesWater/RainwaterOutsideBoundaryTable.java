@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * RainwaterOutsideBoundaryTable - Table G for Rainwater (Run-off:outside project boundary)
  *
@@ -99,7 +101,7 @@ public class RainwaterOutsideBoundaryTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_G, rowIndex, getQuantityInput(rowIndex), value);
     }
 
 
@@ -117,7 +119,7 @@ public class RainwaterOutsideBoundaryTable {
 
     @AutoStep
     public void enterNoOfDays(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getNoOfDaysInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_G, rowIndex, getNoOfDaysInput(rowIndex), value);
     }
 
 
@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * RainwaterRechargeTable - Table F for Rainwater (Run-off - for recharge)
  *
@@ -99,7 +101,7 @@ public class RainwaterRechargeTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_F, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
@@ -114,7 +116,7 @@ public class RainwaterRechargeTable {
 
     @AutoStep
     public void enterNoOfDays(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getNoOfDaysInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_F, rowIndex, getNoOfDaysInput(rowIndex), value);
     }
 
     @AutoStep
@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * RainwaterTreatmentTable - Table E for Rainwater (Run-off - for treatment)
  *
@@ -108,7 +110,7 @@ public class RainwaterTreatmentTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_E, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
@@ -123,7 +125,7 @@ public class RainwaterTreatmentTable {
 
     @AutoStep
     public void enterNoOfDays(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getNoOfDaysInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_E, rowIndex, getNoOfDaysInput(rowIndex), value);
     }
 
     /**
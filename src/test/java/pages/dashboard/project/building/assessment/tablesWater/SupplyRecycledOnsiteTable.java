@@ -6,6 +6,8 @@ import com.microsoft.playwright.Page;
 import utils.InputHelper;
 import utils.WaitHelper;
 import utils.AutoStep;
+import utils.assessment.AssessmentTable;
+import utils.assessment.CalculationProbe;
 /**
  * SupplyRecycledOnsiteTable - Table C for Water Supply (Recycled on-site)
  *
@@ -103,7 +105,7 @@ public class SupplyRecycledOnsiteTable {
 
     @AutoStep
     public void enterQuantity(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getQuantityInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_C, rowIndex, getQuantityInput(rowIndex), value);
     }
 
     @AutoStep
@@ -113,7 +115,7 @@ public class SupplyRecycledOnsiteTable {
 
     @AutoStep
     public void enterNoOfDays(int rowIndex, String value) {
-        InputHelper.humanizedInput(page, getNoOfDaysInput(rowIndex), value);
+        CalculationProbe.enter(page, AssessmentTable.WATER_C, rowIndex, getNoOfDaysInput(rowIndex), value);
     }
 
     /**
@@ -2,7 +2,11 @@ package pages.notifications;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.WaitForSelectorState;
 import utils.AutoStep;
+import utils.DomExtractor;
+import utils.FeedPaginator;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -366,6 +370,20 @@ public class NotificationsPage {
         return notificationData;
     }
 
+    /**
+     * Get all notifications (projectName, date, message) in a single in-page evaluation
+     * @return List of notification data Maps in display order
+     */
+    @AutoStep
+    public List<Map<String, String>> getAllNotificationData() {
+        page.waitForLoadState();
+        waitForNotificationsToLoad();
+        return DomExtractor.extract(allNotifications, DomExtractor.fields()
+            .text("projectName", ".projectLink a")
+            .text("date", ".notification-date")
+            .text("message", "div.pss-2 span"));
+    }
+
     /**
      * Get all project names from visible notifications
      * @return List of all project names
@@ -374,12 +392,7 @@ public class NotificationsPage {
     public List<String> getAllNotificationProjectNames() {
         page.waitForLoadState();
         waitForNotificationsToLoad();
-        List<String> projectNames = new ArrayList<>();
-        int count = notificationProjectLinks.count();
-        for (int i = 0; i < count; i++) {
-            projectNames.add(notificationProjectLinks.nth(i).textContent().trim());
-        }
-        return projectNames;
+        return DomExtractor.texts(notificationProjectLinks);
     }
 
     /**
@@ -390,12 +403,7 @@ public class NotificationsPage {
     public List<String> getAllNotificationDates() {
         page.waitForLoadState();
         waitForNotificationsToLoad();
-        List<String> dates = new ArrayList<>();
-        int count = notificationDates.count();
-        for (int i = 0; i < count; i++) {
-            dates.add(notificationDates.nth(i).textContent().trim());
-        }
-        return dates;
+        return DomExtractor.texts(notificationDates);
     }
 
     // ==================== NOTIFICATION SEARCH/FILTER METHODS ====================
@@ -457,9 +465,8 @@ public class NotificationsPage {
     public void clickViewMore() {
         page.waitForLoadState();
         if (isViewMoreButtonVisible()) {
-            viewMoreButton.scrollIntoViewIfNeeded();
-            viewMoreButton.click();
-            page.waitForTimeout(2000); // Wait for more notifications to load
+            // Waits for the next notification to be attached instead of a fixed sleep
+            FeedPaginator.clickViewMore(page, allNotifications, viewMoreButton);
         }
     }
 
@@ -489,13 +496,27 @@ public class NotificationsPage {
      */
     @AutoStep
     public void loadAllNotifications(int maxClicks) {
+        FeedPaginator.loadUntil(page, "notifications", allNotifications, viewMoreButton, Integer.MAX_VALUE, maxClicks);
+    }
+
+    /**
+     * Load notifications until a specific count is reached
+     * @param targetCount - target number of notifications to load
+     * @param maxClicks - maximum number of times to click (safety limit)
+     * @return true if target count was reached, false if all loaded / max clicks exceeded first
+     */
+    @AutoStep
+    public boolean loadNotificationsUntilCount(int targetCount, int maxClicks) {
+        // Wait for the feed itself rather than waitForNotificationsToLoad(), which sleeps a second
         page.waitForLoadState();
-        int clicks = 0;
-        while (isViewMoreButtonVisible() && clicks < maxClicks) {
-            clickViewMore();
-            clicks++;
-            page.waitForTimeout(1000);
+        notificationContainer.waitFor();
+        try {
+            allNotifications.first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED));
+        } catch (TimeoutError e) {
+            return targetCount <= 0;
         }
+        return FeedPaginator.loadUntil(page, "notifications", allNotifications, viewMoreButton, targetCount, maxClicks)
+            .entries() >= targetCount;
     }
 
     // ==================== VERIFICATION METHODS ====================
@@ -3,9 +3,9 @@ package pages.profile;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import utils.AutoStep;
+import utils.DomExtractor;
 import utils.InputHelper;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -395,13 +395,8 @@ public class ProfilePage {
     @AutoStep
     public List<String> getAllSupportTags() {
         page.waitForLoadState();
-        List<String> tags = new ArrayList<>();
-        int count = allTags.count();
-        for (int i = 0; i < count; i++) {
-            String tagText = allTags.nth(i).locator(".tagify__tag-text").textContent().trim();
-            tags.add(tagText);
-        }
-        return tags;
+        return DomExtractor.extract(allTags, DomExtractor.fields().text("tag", ".tagify__tag-text"),
+            row -> row.get("tag"));
     }
 
     /**
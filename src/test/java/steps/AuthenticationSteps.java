@@ -1,7 +1,6 @@
 package steps;
 
 import java.io.IOException;
-import java.util.Map;
 
 import io.qameta.allure.Allure;
 import pages.PageManager;
@@ -25,8 +24,8 @@ public class AuthenticationSteps {
      */
     public void loginAsProjectOwner() {
         try {
-            Map<String, String> user = TestDataManager.getProjectOwnerUser();
-            login(user.get("username"), user.get("password"), "Project Owner");
+            TestDataManager.User user = TestDataManager.getUser("projectOwner");
+            login(user.username(), user.password(), "Project Owner");
         } catch (IOException e) {
             throw new RuntimeException("Failed to load project owner user data", e);
         }
@@ -37,8 +36,8 @@ public class AuthenticationSteps {
      */
     public void loginAsTeamMember() {
         try {
-            Map<String, String> user = TestDataManager.getTeamMemberUser();
-            login(user.get("username"), user.get("password"), "Team Member");
+            TestDataManager.User user = TestDataManager.getUser("teamMember");
+            login(user.username(), user.password(), "Team Member");
         } catch (IOException e) {
             throw new RuntimeException("Failed to load team member user data", e);
         }
@@ -3,16 +3,12 @@ package tests.authentication.forgot_password;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.MethodSource;
 
 import tests.base.BaseTest;
-import utils.TestDataManager;
+import utils.JsonDataSource;
 import pages.authentication.ForgotPasswordPage;
 
-import java.io.IOException;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
 // Static imports for better readability - now we can use "assertTrue" instead of "org.junit.jupiter.api.Assertions.assertTrue"
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,7 +41,7 @@ public class ForgotPasswordRegressionTest extends BaseTest {
      * @param testData    - Map containing email and expected results from JSON file
      */
     @ParameterizedTest(name = "Positive Test: {0}")
-    @MethodSource("getPositiveTestData")
+    @JsonDataSource(file = "forgot-password-regression.json", filter = "testType=positive")
     @DisplayName("Forgot Password Positive Scenarios")
     @Description("Test forgot password functionality with valid email formats and scenarios")
     @Story("Valid Forgot Password Requests")
@@ -94,22 +90,6 @@ public class ForgotPasswordRegressionTest extends BaseTest {
         takeScreenshot("Forgot Password Valid Email Test - " + email.replaceAll("[^a-zA-Z0-9]", "_"));
     }
 
-    /**
-     * Data provider for positive tests
-     *
-     * This method reads test data from JSON file and converts it to format
-     * that JUnit can use for parameterized tests.
-     *
-     * @return Stream of test arguments (description and test data map)
-     */
-    static Stream<org.junit.jupiter.params.provider.Arguments> getPositiveTestData() throws IOException {
-        List<Map<String, String>> testCases = TestDataManager.getPositiveForgotPasswordTestCases();
-        return testCases.stream()
-                .map(testCase -> org.junit.jupiter.params.provider.Arguments.of(
-                        testCase.get("description"),
-                        testCase));
-    }
-
     /**
      * Test forgot password with invalid email formats
      *
@@ -121,7 +101,7 @@ public class ForgotPasswordRegressionTest extends BaseTest {
      *                    JSON file
      */
     @ParameterizedTest(name = "Negative Test: {0}")
-    @MethodSource("getNegativeTestData")
+    @JsonDataSource(file = "forgot-password-regression.json", filter = "testType=negative")
     @DisplayName("Forgot Password Negative Scenarios")
     @Description("Test forgot password functionality with invalid email formats and edge cases")
     @Story("Invalid Forgot Password Requests")
@@ -179,21 +159,6 @@ public class ForgotPasswordRegressionTest extends BaseTest {
         takeScreenshot("Forgot Password Invalid Email Test - " + description.replaceAll("[^a-zA-Z0-9]", "_"));
     }
 
-    /**
-     * Data provider for negative tests
-     *
-     * This method reads test data from JSON file for invalid scenarios.
-     *
-     * @return Stream of test arguments (description and test data map)
-     */
-    static Stream<org.junit.jupiter.params.provider.Arguments> getNegativeTestData() throws IOException {
-        List<Map<String, String>> testCases = TestDataManager.getNegativeForgotPasswordTestCases();
-        return testCases.stream()
-                .map(testCase -> org.junit.jupiter.params.provider.Arguments.of(
-                        testCase.get("description"),
-                        testCase));
-    }
-
     /**
      * Test form field interactions and validations
      *
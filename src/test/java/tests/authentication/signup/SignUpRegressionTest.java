@@ -3,15 +3,11 @@ package tests.authentication.signup;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.MethodSource;
 import pages.authentication.SignUpPage;
 import tests.base.BaseTest;
-import utils.TestDataManager;
+import utils.JsonDataSource;
 
-import java.io.IOException;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,7 +28,7 @@ public class SignUpRegressionTest extends BaseTest {
      * Test sign-up with valid data
      */
     @ParameterizedTest(name = "Positive Test: {0}")
-    @MethodSource("getPositiveTestData")
+    @JsonDataSource(file = "signup-regression.json", filter = "testType=positive")
     @DisplayName("Sign Up Positive Scenarios")
     @Description("Test sign-up functionality with valid user data")
     @Story("Valid Sign Up Requests")
@@ -91,22 +87,11 @@ public class SignUpRegressionTest extends BaseTest {
         takeScreenshot("Sign Up Valid Test - " + description.replaceAll("[^a-zA-Z0-9]", "_"));
     }
 
-    /**
-     * Data provider for positive tests
-     */
-    static Stream<org.junit.jupiter.params.provider.Arguments> getPositiveTestData() throws IOException {
-        List<Map<String, String>> testCases = TestDataManager.getPositiveSignUpTestCases();
-        return testCases.stream()
-                .map(testCase -> org.junit.jupiter.params.provider.Arguments.of(
-                        testCase.get("description"),
-                        testCase));
-    }
-
     /**
      * Test sign-up with invalid data
      */
     @ParameterizedTest(name = "Negative Test: {0}")
-    @MethodSource("getNegativeTestData")
+    @JsonDataSource(file = "signup-regression.json", filter = "testType=negative")
     @DisplayName("Sign Up Negative Scenarios")
     @Description("Test sign-up functionality with invalid data and edge cases")
     @Story("Invalid Sign Up Requests")
@@ -173,17 +158,6 @@ public class SignUpRegressionTest extends BaseTest {
         takeScreenshot("Sign Up Invalid Test - " + description.replaceAll("[^a-zA-Z0-9]", "_"));
     }
 
-    /**
-     * Data provider for negative tests
-     */
-    static Stream<org.junit.jupiter.params.provider.Arguments> getNegativeTestData() throws IOException {
-        List<Map<String, String>> testCases = TestDataManager.getNegativeSignUpTestCases();
-        return testCases.stream()
-                .map(testCase -> org.junit.jupiter.params.provider.Arguments.of(
-                        testCase.get("description"),
-                        testCase));
-    }
-
     /**
      * Test form field validations
      */
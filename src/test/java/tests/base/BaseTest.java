@@ -3,10 +3,19 @@ package tests.base;
 import com.microsoft.playwright.*;
 import io.qameta.allure.Allure;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import pages.PageManager;
 import steps.AuthenticationSteps;
 import steps.BuildingSteps;
+import utils.AnimationControl;
 import utils.BrowserManager;
+import utils.BrowserMetrics;
+import utils.ContextReset;
+import utils.ContextSetupMetrics;
+import utils.FlightRecorder;
+import utils.FreshContextRetry;
+import utils.ImpactMap;
+import utils.PagePerformance;
 import utils.ReportUtils;
 
 import java.io.IOException;
@@ -15,6 +24,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * BaseTest class providing unified setup for all test classes
@@ -23,10 +34,20 @@ import java.time.format.DateTimeFormatter;
  * Trace Organization:
  * - Root folder: test-results/traces/
  * - Each test run creates: test-results/traces/run_YYYYMMDD_HHMMSS/
+ *   (run_YYYYMMDD_HHMMSS_{engine}/ for each engine of a cross-browser matrix run)
  * - Individual traces: run_YYYYMMDD_HHMMSS/ClassName_testDisplayName.zip
  * - Includes parameterized test parameters in filename for easy debugging
+ *
+ * Context Modes:
+ * - Default: new BrowserContext and Page per test, closed afterwards
+ * - @ReuseContext(role = ...): one context per role shared by the class, reset between tests
+ * - @IsolatedContext: forces a fresh context for a test inside a reuse class
+ *
+ * Retries (-Dretry.count=N): a failed test is run again in a new isolated context,
+ * see {@link FreshContextRetry}. Failed test IDs are saved for -Drerun=failed.
  */
-public abstract class BaseTest {
+@ExtendWith(FreshContextRetry.class)
+public abstract class BaseTest implements FreshContextRetry.Restartable {
     protected static Playwright playwright;
     protected static Browser browser;
     protected BrowserContext context;
@@ -37,12 +58,21 @@ public abstract class BaseTest {
     protected AuthenticationSteps authSteps;
     protected BuildingSteps buildingSteps;
 
+    // Shared contexts for @ReuseContext classes, keyed by role (closed in @AfterAll)
+    private static final Map<String, BrowserContext> sharedContexts = new LinkedHashMap<>();
+    private static final Map<String, Page> sharedPages = new LinkedHashMap<>();
+    private String contextRole;
+    private boolean sessionReused;
+
     // Trace file management
     private static String runFolder;
     private static final String TRACES_ROOT = "test-results/traces";
 
     @BeforeAll
-    static void setupPlaywright() {
+    static void setupPlaywright(TestInfo testInfo) {
+        // Optional JFR recording of this test class (-Djfr=true), browser launch included
+        testInfo.getTestClass().ifPresent(FlightRecorder::start);
+
         playwright = Playwright.create();
         browser = BrowserManager.launchBrowser(playwright);
 
@@ -62,6 +92,10 @@ public abstract class BaseTest {
             // Create run-specific folder with timestamp
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
             runFolder = String.format("run_%s", timestamp);
+            if (BrowserManager.isMatrixRun()) {
+                // Matrix engines run concurrently: one folder per engine so traces never collide
+                runFolder += "_" + BrowserManager.getBrowserName();
+            }
 
             Path tracesPath = Paths.get(TRACES_ROOT, runFolder);
             Files.createDirectories(tracesPath);
@@ -75,18 +109,120 @@ public abstract class BaseTest {
     }
 
     @BeforeEach
-    void setupTest() {
-        // Create browser context with tracing
-        context = browser.newContext();
+    void setupTest(TestInfo testInfo) {
+        long setupStart = System.nanoTime();
+        String testId = getClass().getName() + "#" + testInfo.getTestMethod().map(method -> method.getName()).orElse("unknown");
+        ImpactMap.begin(testId);
+        PagePerformance.begin(testId);
+        BrowserMetrics.begin(testId);
+
+        // Reconnect if a shared browser server went away (contexts of the old browser are gone too)
+        Browser connected = BrowserManager.ensureConnected(playwright, browser);
+        if (connected != browser) {
+            browser = connected;
+            sharedContexts.clear();
+            sharedPages.clear();
+        }
 
-        // Start tracing
+        contextRole = ContextReset.resolveRole(getClass(), testInfo.getTestMethod().orElse(null));
+        String mode;
+
+        if (contextRole == null) {
+            // Create browser context per test (full isolation)
+            context = browser.newContext(BrowserManager.getContextOptions());
+            AnimationControl.install(context);
+            PagePerformance.install(context);
+            page = context.newPage();
+            sessionReused = false;
+            mode = "isolated";
+        } else if (sharedContexts.containsKey(contextRole)) {
+            // Reuse the role's context, clearing only app state from the previous test
+            context = sharedContexts.get(contextRole);
+            page = ContextReset.reset(context, sharedPages.get(contextRole));
+            sharedPages.put(contextRole, page);
+            sessionReused = true;
+            mode = "reused";
+        } else {
+            context = browser.newContext(BrowserManager.getContextOptions());
+            AnimationControl.install(context);
+            PagePerformance.install(context);
+            page = context.newPage();
+            sharedContexts.put(contextRole, context);
+            sharedPages.put(contextRole, page);
+            sessionReused = false;
+            mode = "reused-first";
+        }
+
+        startTracing();
+        BrowserMetrics.attach(page);
+        initPageObjects();
+
+        // Tag results by engine so matrix runs of the same test stay separate in Allure
+        if (BrowserManager.isMatrixRun()) {
+            String engine = BrowserManager.getBrowserName();
+            Allure.parameter("browser", engine);
+            Allure.label("parentSuite", engine);
+            Allure.label("tag", "browser:" + engine);
+        }
+
+        ContextSetupMetrics.record(mode, getClass().getSimpleName(), testInfo.getDisplayName(),
+            System.nanoTime() - setupStart);
+    }
+
+    @AfterEach
+    void teardownTest(TestInfo testInfo) {
+        ImpactMap.end();
+        try {
+            saveTrace(testInfo.getDisplayName());
+        } finally {
+            // Close per-test contexts; shared ones stay open for the next test of the role
+            if (context != null && contextRole == null) {
+                context.close();
+            }
+        }
+        BrowserMetrics.end();
+        // Fails the test if a page budget was exceeded (after the trace is saved)
+        PagePerformance.end();
+    }
+
+    /**
+     * Retry support ({@link FreshContextRetry}): keep the failed attempt's trace, drop the
+     * context (shared ones stay open for their role) and continue in a new isolated one
+     */
+    @Override
+    public void restartInFreshContext(String testName, int failedAttempt) {
+        saveTrace(testName + "_attempt" + failedAttempt);
+        if (context != null && contextRole == null) {
+            context.close();
+        }
+        contextRole = null;
+        sessionReused = false;
+        PagePerformance.reset();
+
+        context = browser.newContext(BrowserManager.getContextOptions());
+        AnimationControl.install(context);
+        PagePerformance.install(context);
+        page = context.newPage();
+        startTracing();
+        BrowserMetrics.attach(page);
+        initPageObjects();
+    }
+
+    /**
+     * Start tracing on the current context
+     */
+    private void startTracing() {
         context.tracing().start(new Tracing.StartOptions()
             .setScreenshots(true)
             .setSnapshots(true)
             .setSources(true));
+    }
 
-        // Create page and initialize PageManager
-        page = context.newPage();
+    /**
+     * Create page objects and workflow steps for the current page
+     */
+    private void initPageObjects() {
+        // Initialize PageManager
         pageManager = new PageManager(page);
 
         // Initialize reusable workflow steps
@@ -94,13 +230,14 @@ public abstract class BaseTest {
         buildingSteps = new BuildingSteps(pageManager);
     }
 
-    @AfterEach
-    void teardownTest(TestInfo testInfo) {
+    /**
+     * Stop tracing, save the trace in the run folder and attach it to Allure
+     */
+    private void saveTrace(String displayName) {
         try {
             // Generate trace file name with test display name (includes parameters)
             String testClassName = this.getClass().getSimpleName();
-            String displayName = sanitizeFileName(testInfo.getDisplayName());
-            String traceFileBaseName = String.format("%s_%s.zip", testClassName, displayName);
+            String traceFileBaseName = String.format("%s_%s.zip", testClassName, sanitizeFileName(displayName));
 
             // Create full path within the run folder
             String traceFilePath;
@@ -121,15 +258,10 @@ public abstract class BaseTest {
             // Attach trace to Allure report
             if (Files.exists(tracePath)) {
                 byte[] traceBytes = Files.readAllBytes(tracePath);
-                ReportUtils.addTrace(traceBytes, testInfo.getDisplayName());
+                ReportUtils.addTrace(traceBytes, displayName);
             }
         } catch (Exception e) {
             System.err.println("⚠️ Could not save trace: " + e.getMessage());
-        } finally {
-            // Always close context
-            if (context != null) {
-                context.close();
-            }
         }
     }
 
@@ -145,12 +277,29 @@ public abstract class BaseTest {
             System.out.println("=".repeat(80) + "\n");
         }
 
+        if (!ContextSetupMetrics.isEmpty()) {
+            System.out.println(ContextSetupMetrics.summary());
+            ContextSetupMetrics.reset();
+        }
+
+        // Close shared contexts of this class before the browser goes away
+        for (BrowserContext shared : sharedContexts.values()) {
+            try {
+                shared.close();
+            } catch (PlaywrightException e) {
+                System.err.println("⚠️ Could not close shared context: " + e.getMessage());
+            }
+        }
+        sharedContexts.clear();
+        sharedPages.clear();
+
         if (browser != null) {
             browser.close();
         }
         if (playwright != null) {
             playwright.close();
         }
+        FlightRecorder.stop();
     }
 
     /**
@@ -185,6 +334,14 @@ public abstract class BaseTest {
         });
     }
 
+    /**
+     * True when this test runs in a shared context a previous test already used,
+     * i.e. the login session is (probably) still active
+     */
+    protected boolean isSessionReused() {
+        return sessionReused;
+    }
+
     /**
      * Get the current run folder name
      */
@@ -0,0 +1,342 @@
+package tests.benchmark;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pages.PageManager;
+import pages.dashboard.project.building.assessment.NetZeroEmissionsSection;
+import steps.AuthenticationSteps;
+import utils.AnimationControl;
+import utils.BenchmarkCsv;
+import utils.BrowserManager;
+import utils.DeadTime;
+import utils.PagePerformance;
+import utils.TestDataManager;
+import utils.TestDataManager.ProjectType;
+import utils.TestLogger;
+import utils.WaitHelper;
+import utils.assessment.AssessmentCalculator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * AssessmentLoadBenchmark - N project owners editing Building assessments at the same time
+ *
+ * Every virtual user is a thread with its own Playwright, browser and isolated context.
+ * Users start staggered over the ramp-up, log in through AuthenticationSteps, create one
+ * Building project (ProjectTypeDriver) and then repeat the edit flow until the run ends:
+ *   openProject -> openAssessment -> expandScope1 -> editTableA -> save
+ * with a randomised think time (0.5x-1.5x) after every step. A failed step ends that
+ * iteration; the user starts the next one after its think time. editTableA clears row 0
+ * (the previous iteration saved it) and only succeeds once Table A's total shows
+ * factor x consumption (-Dload.totalTimeoutMs, default 10000).
+ *
+ * Steps include the page objects' fixed sleeps (InputHelper waits ~2 s per field). They are
+ * measured per sample ({@link DeadTime}) and reported as sleep% plus the p50/p90 "active"
+ * latency without them, which is what the platform's load actually changes.
+ *
+ * Reported per step: samples, errors, error rate, throughput (ok/s over the run) and
+ * p50/p90/p95/p99/max latency, plus completed iterations per second.
+ *
+ * Run: mvn test -Pbenchmark -Dtest=AssessmentLoadBenchmark -Dload.users=20
+ *      -Dload.rampUpSeconds=60 -Dload.thinkTimeMs=2000 -Dload.durationSeconds=300
+ *      -DbaseUrl=https://staging.example.com (target; defaults to the dev platform)
+ * Results: target/benchmarks/load-run.csv (one line per step sample) and
+ *          target/benchmarks/load-run-summary.csv (one line per step per run)
+ */
+@Epic("Benchmarks")
+@Feature("Load Run")
+public class AssessmentLoadBenchmark {
+
+    private static final int USERS = Integer.getInteger("load.users", 20);
+    private static final int RAMP_UP_SECONDS = Integer.getInteger("load.rampUpSeconds", 60);
+    private static final int THINK_TIME_MS = Integer.getInteger("load.thinkTimeMs", 2000);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.durationSeconds", 300);
+    private static final String BASE_URL = System.getProperty("baseUrl", "https://dev-platform.globalnetworkforzero.com");
+    private static final String CSV = "load-run.csv";
+    private static final String SUMMARY_CSV = "load-run-summary.csv";
+    private static final String EMISSION_FACTOR = "2.02";
+    private static final int TOTAL_TIMEOUT_MS = Integer.getInteger("load.totalTimeoutMs", 10000);
+    private static final List<String> STEPS = List.of("login", "createProject", "openProject", "openAssessment",
+        "expandScope1", "editTableA", "save");
+
+    private record Sample(int user, int iteration, String step, long startMs, long latencyMs, long sleepMs,
+                          String error) {
+
+        long activeMs() {
+            return Math.max(0, latencyMs - sleepMs);
+        }
+    }
+
+    @Test
+    @DisplayName("Load run: concurrent project owners editing Building assessments")
+    void loadRunAssessments() throws Exception {
+        TestLogger.info(String.format("Load run against %s: %d user(s), ramp-up %ds, think time %dms, duration %ds",
+            BASE_URL, USERS, RAMP_UP_SECONDS, THINK_TIME_MS, DURATION_SECONDS));
+
+        ProjectType building = TestDataManager.getProjectType("Building");
+        Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+        AtomicInteger iterations = new AtomicInteger();
+        long start = System.nanoTime();
+        long deadline = start + (RAMP_UP_SECONDS + DURATION_SECONDS) * 1_000_000_000L;
+
+        ExecutorService pool = Executors.newFixedThreadPool(USERS);
+        try {
+            List<Future<?>> users = new ArrayList<>();
+            for (int u = 0; u < USERS; u++) {
+                int user = u + 1;
+                long startAt = start + (long) u * RAMP_UP_SECONDS * 1_000_000_000L / USERS;
+                VirtualUser virtualUser = new VirtualUser(user, building, start, samples, iterations);
+                users.add(pool.submit(() -> virtualUser.run(startAt, deadline)));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        String report = report(new ArrayList<>(samples), iterations.get(), elapsedMs);
+        TestLogger.info(report);
+        Allure.addAttachment("Load run", "text/plain", report, ".txt");
+
+        assertFalse(samples.stream().allMatch(sample -> sample.error() != null),
+            "At least one load-run step should succeed");
+    }
+
+    /**
+     * One simulated project owner: own Playwright, browser and context for the whole run
+     */
+    private static class VirtualUser {
+        private final int user;
+        private final ProjectType building;
+        private final long runStart;
+        private final Queue<Sample> samples;
+        private final AtomicInteger iterations;
+        private int iteration;
+
+        VirtualUser(int user, ProjectType building, long runStart, Queue<Sample> samples, AtomicInteger iterations) {
+            this.user = user;
+            this.building = building;
+            this.runStart = runStart;
+            this.samples = samples;
+            this.iterations = iterations;
+        }
+
+        void run(long startAt, long deadline) {
+            sleepUntil(startAt);
+            try (Playwright playwright = Playwright.create()) {
+                Browser browser = BrowserManager.launchBrowser(playwright);
+                BrowserContext context = browser.newContext(BrowserManager.getContextOptions());
+                AnimationControl.install(context);
+                PagePerformance.install(context);
+                Page page = context.newPage();
+                PageManager pageManager = new PageManager(page);
+
+                Boolean loggedIn = step("login", () -> {
+                    new AuthenticationSteps(pageManager).loginAsProjectOwner();
+                    return true;
+                });
+                String projectUrl = loggedIn == null ? null : step("createProject", () -> {
+                    page.navigate(BASE_URL + "/project/list");
+                    pageManager.getProjectTypeDriver().createProject(building,
+                        String.format("Load run user %d - %d", user, System.currentTimeMillis()));
+                    return page.url();
+                });
+
+                while (projectUrl != null && System.nanoTime() < deadline) {
+                    iteration++;
+                    if (editAssessment(page, pageManager, projectUrl)) {
+                        iterations.incrementAndGet();
+                    }
+                }
+                browser.close();
+            }
+        }
+
+        /**
+         * One iteration of the edit flow; false when a step failed
+         */
+        private boolean editAssessment(Page page, PageManager pageManager, String projectUrl) {
+            NetZeroEmissionsSection emissions = pageManager.getNetZeroEmissionsSection();
+            String consumption = String.valueOf(ThreadLocalRandom.current().nextInt(10, 1000));
+            return step("openProject", () -> {
+                    page.navigate(projectUrl);
+                    return check(pageManager.getBuildingProjectPage().isPageDisplayed(), "Project page not displayed");
+                }) != null
+                && step("openAssessment", () -> {
+                    pageManager.getBuildingProjectPage().goToAssessmentTab();
+                    return check(emissions.isSectionDisplayed(), "Emissions section not displayed");
+                }) != null
+                && step("expandScope1", () -> {
+                    emissions.expandScope1();
+                    return check(emissions.isScope1SectionDisplayed(), "Scope 1 not displayed");
+                }) != null
+                && step("editTableA", () -> {
+                    emissions.tableA().clearRow(0);
+                    emissions.tableA().enterFuel(0, "Natural Gas");
+                    emissions.tableA().enterEmissionFactor(0, EMISSION_FACTOR);
+                    emissions.tableA().enterConsumption(0, consumption);
+                    // The step only counts once the recalculated total is shown
+                    BigDecimal expected = new BigDecimal(EMISSION_FACTOR).multiply(new BigDecimal(consumption));
+                    return WaitHelper.waitForCondition(() -> emissions.tableA().getTableTotal(),
+                        total -> isDisplayed(total, expected), TOTAL_TIMEOUT_MS,
+                        "Table A total did not show " + EMISSION_FACTOR + " x " + consumption + " = " + expected);
+                }) != null
+                && step("save", () -> {
+                    emissions.clickSave();
+                    return true;
+                }) != null;
+        }
+
+        /**
+         * Time one step, record it and think afterwards; null when the step failed
+         */
+        private <T> T step(String name, Supplier<T> action) {
+            long started = System.nanoTime();
+            long sleptBefore = DeadTime.sleptNanosOnThread();
+            T result = null;
+            String error = null;
+            try {
+                result = action.get();
+            } catch (Exception e) {
+                error = e.getMessage() == null ? e.getClass().getSimpleName()
+                    : e.getMessage().lines().findFirst().orElse("error");
+                TestLogger.warn("Load user " + user + " " + name + " failed: " + error);
+            }
+            long latencyMs = (System.nanoTime() - started) / 1_000_000;
+            long sleepMs = (DeadTime.sleptNanosOnThread() - sleptBefore) / 1_000_000;
+            samples.add(new Sample(user, iteration, name, (started - runStart) / 1_000_000, latencyMs, sleepMs, error));
+
+            long think = THINK_TIME_MS <= 0 ? 0
+                : ThreadLocalRandom.current().nextLong(THINK_TIME_MS / 2, THINK_TIME_MS * 3L / 2 + 1);
+            sleepUntil(System.nanoTime() + think * 1_000_000);
+            return result;
+        }
+
+        /**
+         * True when the displayed total equals the expected value at the displayed precision
+         */
+        private static boolean isDisplayed(String total, BigDecimal expected) {
+            if (total == null || total.isBlank()) {
+                return false;
+            }
+            BigDecimal actual = AssessmentCalculator.parse(total);
+            return expected.setScale(Math.max(actual.scale(), 0), RoundingMode.HALF_UP).compareTo(actual) == 0;
+        }
+
+        private static boolean check(boolean condition, String message) {
+            if (!condition) {
+                throw new RuntimeException(message);
+            }
+            return true;
+        }
+
+        private static void sleepUntil(long nanoTime) {
+            long remainingMs = (nanoTime - System.nanoTime()) / 1_000_000;
+            if (remainingMs > 0) {
+                try {
+                    Thread.sleep(remainingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Load user interrupted", e);
+                }
+            }
+        }
+    }
+
+    private static String report(List<Sample> samples, int iterations, long elapsedMs) {
+        String timestamp = LocalDateTime.now().toString();
+        for (Sample sample : samples) {
+            BenchmarkCsv.append(CSV, "timestamp,users,user,iteration,step,startMs,latencyMs,error,sleepMs",
+                String.format(Locale.ROOT, "%s,%d,%d,%d,%s,%d,%d,%s,%d", timestamp, USERS, sample.user(),
+                    sample.iteration(), sample.step(), sample.startMs(), sample.latencyMs(),
+                    BenchmarkCsv.quote(sample.error()), sample.sleepMs()));
+        }
+
+        Map<String, List<Sample>> succeeded = new LinkedHashMap<>();
+        Map<String, List<Long>> latencies = new LinkedHashMap<>();
+        Map<String, Integer> errors = new LinkedHashMap<>();
+        for (String step : STEPS) {
+            succeeded.put(step, new ArrayList<>());
+            latencies.put(step, new ArrayList<>());
+            errors.put(step, 0);
+        }
+        for (Sample sample : samples) {
+            if (sample.error() == null) {
+                succeeded.get(sample.step()).add(sample);
+                latencies.get(sample.step()).add(sample.latencyMs());
+            } else {
+                errors.merge(sample.step(), 1, Integer::sum);
+            }
+        }
+
+        double seconds = Math.max(elapsedMs, 1) / 1000.0;
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+            "Load run: %d user(s), %d completed iteration(s) in %d ms (%.2f iterations/s)%n"
+                + "%-15s %6s %6s %7s %8s %8s %8s %8s %8s %8s %7s %10s %10s%n",
+            USERS, iterations, elapsedMs, iterations / seconds,
+            "step", "ok", "errors", "error%", "ok/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms",
+            "sleep%", "active p50", "active p90"));
+        for (String step : STEPS) {
+            List<Long> values = latencies.get(step).stream().sorted().toList();
+            int failed = errors.get(step);
+            int total = values.size() + failed;
+            double errorPct = total == 0 ? 0 : failed * 100.0 / total;
+            double throughput = values.size() / seconds;
+            List<Sample> ok = succeeded.get(step);
+            long totalMs = ok.stream().mapToLong(Sample::latencyMs).sum();
+            double sleepPct = totalMs == 0 ? 0 : ok.stream().mapToLong(Sample::sleepMs).sum() * 100.0 / totalMs;
+            List<Long> active = ok.stream().map(Sample::activeMs).sorted().toList();
+            report.append(String.format(Locale.ROOT, "%-15s %6d %6d %6.1f%% %8.2f %8s %8s %8s %8s %8s %6.1f%% %10s %10s%n",
+                step, values.size(), failed, errorPct, throughput, percentile(values, 50), percentile(values, 90),
+                percentile(values, 95), percentile(values, 99), percentile(values, 100), sleepPct,
+                percentile(active, 50), percentile(active, 90)));
+
+            BenchmarkCsv.append(SUMMARY_CSV,
+                "timestamp,baseUrl,users,rampUpSeconds,thinkTimeMs,durationSeconds,step,ok,errors,errorPct,"
+                    + "okPerSecond,p50Ms,p90Ms,p95Ms,p99Ms,maxMs,sleepPct,activeP50Ms,activeP90Ms",
+                String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%s,%d,%d,%.1f,%.3f,%s,%s,%s,%s,%s,%.1f,%s,%s", timestamp,
+                    BenchmarkCsv.quote(BASE_URL), USERS, RAMP_UP_SECONDS, THINK_TIME_MS, DURATION_SECONDS, step,
+                    values.size(), failed, errorPct, throughput, percentile(values, 50), percentile(values, 90),
+                    percentile(values, 95), percentile(values, 99), percentile(values, 100), sleepPct,
+                    percentile(active, 50), percentile(active, 90)));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values ("-" when empty)
+     */
+    private static String percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return "-";
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return String.valueOf(sorted.get(Math.max(0, rank - 1)));
+    }
+}
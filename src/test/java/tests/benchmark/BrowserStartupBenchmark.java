@@ -0,0 +1,67 @@
+package tests.benchmark;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.BrowserManager;
+import utils.BrowserServerLauncher;
+import utils.TestLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * BrowserStartupBenchmark - Cost of getting a Browser: local launch vs. connecting to a shared server
+ *
+ * Starts the shared Chromium server if none is running (and leaves it running for the
+ * next run / fork, like the launcher would).
+ *
+ * Run: mvn test -Pbenchmark -Dtest=BrowserStartupBenchmark -Dbenchmark.iterations=10
+ */
+@Epic("Benchmarks")
+@Feature("Browser Startup")
+public class BrowserStartupBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+
+    @Test
+    @DisplayName("Benchmark browser startup: local launch vs CDP connect")
+    void benchmarkBrowserStartup() throws Exception {
+        String endpoint = BrowserServerLauncher.start(Integer.getInteger("browser.server.port", 9222));
+
+        try (Playwright playwright = Playwright.create()) {
+            List<Double> local = measure(playwright, BrowserManager::launchLocal);
+            List<Double> cdp = measure(playwright, pw -> pw.chromium().connectOverCDP(endpoint));
+
+            String report = String.format("Browser startup over %d iterations%n%s%s",
+                ITERATIONS, row("local", local), row("cdp", cdp));
+            TestLogger.info(report);
+            Allure.addAttachment("Browser startup benchmark", "text/plain", report, ".txt");
+        }
+    }
+
+    private static List<Double> measure(Playwright playwright, Function<Playwright, Browser> startup) {
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            Browser browser = startup.apply(playwright);
+            // Include the first context, since that is what a test waits for
+            browser.newContext().close();
+            samples.add((System.nanoTime() - start) / 1_000_000.0);
+            browser.close();
+        }
+        return samples;
+    }
+
+    private static String row(String mode, List<Double> samples) {
+        double avg = samples.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        double min = samples.stream().mapToDouble(Double::doubleValue).min().orElse(0);
+        double max = samples.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        return String.format("  %-6s avg %8.1f ms  min %8.1f ms  max %8.1f ms%n", mode, avg, min, max);
+    }
+}
@@ -0,0 +1,100 @@
+package tests.benchmark;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.BrowserManager;
+import utils.ContextReset;
+import utils.TestLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ContextSetupBenchmark - Per-test setup cost of a fresh context vs. a reused, reset context
+ *
+ * Each iteration simulates the start of a test: get a ready page, then load the login
+ * page (so the warm HTTP cache of the reused context is part of the measurement).
+ *
+ * Run: mvn test -Pbenchmark -Dtest=ContextSetupBenchmark -Dbenchmark.iterations=20
+ */
+@Epic("Benchmarks")
+@Feature("Context Setup")
+public class ContextSetupBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+    private static final String TARGET_URL = System.getProperty("baseUrl", "https://dev-platform.globalnetworkforzero.com") + "/login";
+
+    private static Playwright playwright;
+    private static Browser browser;
+
+    @BeforeAll
+    static void launch() {
+        playwright = Playwright.create();
+        browser = BrowserManager.launchBrowser(playwright);
+    }
+
+    @AfterAll
+    static void close() {
+        if (browser != null) {
+            browser.close();
+        }
+        if (playwright != null) {
+            playwright.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark per-test setup: isolated vs reused context")
+    void benchmarkContextSetup() {
+        List<double[]> isolated = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            BrowserContext context = browser.newContext(BrowserManager.getContextOptions());
+            Page page = context.newPage();
+            long ready = System.nanoTime();
+            page.navigate(TARGET_URL);
+            long loaded = System.nanoTime();
+            context.close();
+            isolated.add(new double[] {millis(ready - start), millis(loaded - start)});
+        }
+
+        List<double[]> reused = new ArrayList<>();
+        BrowserContext shared = browser.newContext(BrowserManager.getContextOptions());
+        Page page = shared.newPage();
+        page.navigate(TARGET_URL);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            page = ContextReset.reset(shared, page);
+            long ready = System.nanoTime();
+            page.navigate(TARGET_URL);
+            long loaded = System.nanoTime();
+            reused.add(new double[] {millis(ready - start), millis(loaded - start)});
+        }
+        shared.close();
+
+        String report = String.format("Per-test setup over %d iterations (%s, %s)%n%s%s",
+            ITERATIONS, BrowserManager.getBrowserName(), TARGET_URL,
+            row("isolated", isolated), row("reused", reused));
+        TestLogger.info(report);
+        Allure.addAttachment("Context setup benchmark", "text/plain", report, ".txt");
+    }
+
+    private static String row(String mode, List<double[]> samples) {
+        double ready = samples.stream().mapToDouble(sample -> sample[0]).average().orElse(0);
+        double loaded = samples.stream().mapToDouble(sample -> sample[1]).average().orElse(0);
+        return String.format("  %-9s page ready avg %8.1f ms | ready + login page avg %8.1f ms%n", mode, ready, loaded);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,165 @@
+package tests.benchmark;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pages.authentication.LoginPage;
+import utils.BenchmarkCsv;
+import utils.BrowserManager;
+import utils.LaunchProfile;
+import utils.TestLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * LaunchProfileBenchmark - Launch time and memory of each named launch profile
+ *
+ * Per iteration: launch, first context + page, load the login page and check it renders
+ * (a profile that cannot show the login form is reported as failing). Memory is the
+ * resident size of the browser process tree (Linux /proc; "n/a" elsewhere) plus the
+ * page's JS heap where the engine exposes it.
+ *
+ * Run: mvn test -Pbenchmark -Dtest=LaunchProfileBenchmark -Dbenchmark.iterations=5
+ *      -Dbenchmark.profiles=default,ci-fast,low-memory (default: all profiles)
+ * Results: target/benchmarks/launch-profiles.csv
+ */
+@Epic("Benchmarks")
+@Feature("Launch Profiles")
+public class LaunchProfileBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+    private static final String TARGET_URL = System.getProperty("baseUrl", "https://dev-platform.globalnetworkforzero.com") + "/login";
+    private static final String CSV = "launch-profiles.csv";
+
+    @Test
+    @DisplayName("Benchmark launch profiles: startup time and memory")
+    void benchmarkLaunchProfiles() {
+        String browserName = BrowserManager.getBrowserName();
+        List<String> names = System.getProperty("benchmark.profiles") != null
+            ? Arrays.stream(System.getProperty("benchmark.profiles").split(",")).map(String::trim).toList()
+            : new ArrayList<>(LaunchProfile.all().keySet());
+
+        StringBuilder report = new StringBuilder(String.format(
+            "Launch profiles on %s over %d iterations%n%-12s %10s %10s %10s %10s  %s%n",
+            browserName, ITERATIONS, "profile", "launch ms", "ready ms", "rss MB", "heap MB", "result"));
+
+        try (Playwright playwright = Playwright.create()) {
+            BrowserType type = switch (browserName.toLowerCase()) {
+                case "firefox" -> playwright.firefox();
+                case "webkit", "safari" -> playwright.webkit();
+                default -> playwright.chromium();
+            };
+            // Playwright driver only - subtracted so the numbers are the browser's own
+            long baselineRss = processTreeRssKb();
+
+            for (String name : names) {
+                LaunchProfile profile = LaunchProfile.get(name);
+                // debug slows every action down; measure its launch, not its slow-motion delay
+                BrowserType.LaunchOptions launchOptions = profile.launchOptions(browserName).setSlowMo(0);
+                List<double[]> samples = new ArrayList<>();
+                String result = "pass";
+
+                for (int i = 0; i < ITERATIONS; i++) {
+                    long start = System.nanoTime();
+                    Browser browser = type.launch(launchOptions);
+                    long launched = System.nanoTime();
+                    try {
+                        BrowserContext context = browser.newContext(profile.contextOptions());
+                        Page page = context.newPage();
+                        page.navigate(TARGET_URL);
+                        boolean rendered = new LoginPage(page).getEmailField().isVisible();
+                        long ready = System.nanoTime();
+
+                        long rss = processTreeRssKb();
+                        double heap = jsHeapMb(page);
+                        samples.add(new double[] {
+                            millis(launched - start), millis(ready - start),
+                            rss < 0 || baselineRss < 0 ? Double.NaN : (rss - baselineRss) / 1024.0, heap});
+                        if (!rendered) {
+                            result = "FAIL: login form not visible";
+                        }
+                        context.close();
+                    } catch (RuntimeException e) {
+                        result = "FAIL: " + (e.getMessage() == null ? e.getClass().getSimpleName()
+                            : e.getMessage().lines().findFirst().orElse("error"));
+                    } finally {
+                        browser.close();
+                    }
+                }
+
+                double[] avg = average(samples);
+                report.append(String.format("%-12s %10.1f %10.1f %10s %10s  %s%n", name, avg[0], avg[1],
+                    format(avg[2]), format(avg[3]), result));
+                BenchmarkCsv.append(CSV, "timestamp,profile,browser,iterations,launchMs,readyMs,rssMb,jsHeapMb,result",
+                    String.format(Locale.ROOT, "%s,%s,%s,%d,%.3f,%.3f,%.1f,%.1f,%s", LocalDateTime.now(), name,
+                        browserName, samples.size(), avg[0], avg[1], avg[2], avg[3], BenchmarkCsv.quote(result)));
+            }
+        }
+
+        TestLogger.info(report.toString());
+        Allure.addAttachment("Launch profile benchmark", "text/plain", report.toString(), ".txt");
+    }
+
+    /**
+     * Resident memory of all processes started by this JVM (driver + browsers), in KB; -1 if unavailable
+     */
+    private static long processTreeRssKb() {
+        List<ProcessHandle> processes = ProcessHandle.current().descendants().toList();
+        long total = 0;
+        for (ProcessHandle process : processes) {
+            Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+            if (!Files.isReadable(status)) {
+                return -1;
+            }
+            try {
+                total += Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .sum();
+            } catch (IOException | NumberFormatException e) {
+                // Process exited while reading
+            }
+        }
+        return total;
+    }
+
+    private static double jsHeapMb(Page page) {
+        Object used = page.evaluate("() => performance.memory ? performance.memory.usedJSHeapSize : -1");
+        double bytes = used instanceof Number number ? number.doubleValue() : -1;
+        return bytes < 0 ? Double.NaN : bytes / (1024.0 * 1024.0);
+    }
+
+    private static double[] average(List<double[]> samples) {
+        double[] avg = new double[] {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+        if (samples.isEmpty()) {
+            return avg;
+        }
+        for (int column = 0; column < avg.length; column++) {
+            final int c = column;
+            avg[c] = samples.stream().mapToDouble(sample -> sample[c]).average().orElse(Double.NaN);
+        }
+        return avg;
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "n/a" : String.format("%.1f", value);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
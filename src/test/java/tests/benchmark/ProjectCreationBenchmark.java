@@ -0,0 +1,239 @@
+package tests.benchmark;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pages.authentication.LoginPage;
+import pages.dashboard.project.ProjectTypeDriver;
+import utils.AnimationControl;
+import utils.BenchmarkCsv;
+import utils.BrowserManager;
+import utils.TestDataManager;
+import utils.TestDataManager.ProjectType;
+import utils.TestLogger;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ProjectCreationBenchmark - Creates N projects of every project type concurrently
+ *
+ * Logs in once and shares the session (storage state) with every worker. Each worker thread
+ * owns its Playwright and browser (Playwright objects are not thread-safe) and creates every
+ * project in a fresh, independent context through ProjectTypeDriver. Creation latency
+ * (Create new project click to saved project URL) is reported per type as p50/p90/p95/max.
+ *
+ * Only types marked verified in project-types.json are benchmarked unless they are named in
+ * -Dbenchmark.projectTypes or -Dbenchmark.includeUnverified=true is set. The run fails when any
+ * selected type created no project at all.
+ *
+ * Cleanup: the page objects have no delete flow, so the created projects stay on the target
+ * platform. Their titles start with "Benchmark {type}", their ids are in the CSV and listed at
+ * the end of the report for manual removal; keep projectsPerType small against shared environments.
+ *
+ * Run: mvn test -Pbenchmark -Dtest=ProjectCreationBenchmark -Dbenchmark.projectsPerType=3
+ *      -Dbenchmark.concurrency=4 -Dbenchmark.projectTypes=Building,Fleet (default: all verified types)
+ * Results: target/benchmarks/project-creation.csv (one line per project)
+ */
+@Epic("Benchmarks")
+@Feature("Project Creation")
+public class ProjectCreationBenchmark {
+
+    private static final int PROJECTS_PER_TYPE = Integer.getInteger("benchmark.projectsPerType", 3);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 4);
+    private static final String BASE_URL = System.getProperty("baseUrl", "https://dev-platform.globalnetworkforzero.com");
+    private static final String CSV = "project-creation.csv";
+
+    private record Task(ProjectType type, int index) {}
+
+    private record Sample(String type, int index, long createMs, String projectId, String error) {}
+
+    @Test
+    @DisplayName("Benchmark concurrent project creation across all project types")
+    void benchmarkProjectCreation() throws Exception {
+        List<ProjectType> types = selectedTypes();
+        String storageState = loginOnce();
+
+        Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+        for (int i = 1; i <= PROJECTS_PER_TYPE; i++) {
+            for (ProjectType type : types) {
+                tasks.add(new Task(type, i));
+            }
+        }
+        int total = tasks.size();
+        Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+        Optional<String> testCase = Allure.getLifecycle().getCurrentTestCase();
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int w = 0; w < CONCURRENCY; w++) {
+                workers.add(pool.submit(() -> runWorker(tasks, samples, storageState, testCase)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        String report = report(types, new ArrayList<>(samples), total, elapsedMs);
+        TestLogger.info(report);
+        Allure.addAttachment("Project creation benchmark", "text/plain", report, ".txt");
+
+        List<String> noneCreated = types.stream()
+            .map(ProjectType::type)
+            .filter(type -> samples.stream().noneMatch(sample -> sample.type().equals(type) && sample.error() == null))
+            .toList();
+        assertTrue(noneCreated.isEmpty(), "No project could be created for type(s): " + noneCreated);
+    }
+
+    /**
+     * One worker thread: own Playwright + browser, one fresh context per project
+     */
+    private void runWorker(Queue<Task> tasks, Queue<Sample> samples, String storageState, Optional<String> testCase) {
+        // Put this thread's @AutoStep steps under the benchmark's Allure test case
+        testCase.ifPresent(uuid -> Allure.getLifecycle().setCurrentTestCase(uuid));
+
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = BrowserManager.launchBrowser(playwright);
+            Task task;
+            while ((task = tasks.poll()) != null) {
+                String title = String.format("Benchmark %s %d - %d", task.type().type(), task.index(), System.currentTimeMillis());
+                BrowserContext context = browser.newContext(BrowserManager.getContextOptions().setStorageState(storageState));
+                AnimationControl.install(context);
+                try {
+                    Page page = context.newPage();
+                    page.navigate(BASE_URL + "/project/list");
+                    ProjectTypeDriver.CreatedProject project = new ProjectTypeDriver(page).createProject(task.type(), title);
+                    samples.add(new Sample(task.type().type(), task.index(), project.createMs(), project.projectId(), null));
+                } catch (RuntimeException e) {
+                    String error = e.getMessage() == null ? e.getClass().getSimpleName()
+                        : e.getMessage().lines().findFirst().orElse("error");
+                    samples.add(new Sample(task.type().type(), task.index(), -1, "", error));
+                    TestLogger.warn("Could not create " + task.type().type() + " project: " + error);
+                } finally {
+                    context.close();
+                }
+            }
+            browser.close();
+        } finally {
+            // Logs are buffered per thread; attach this worker's before it ends
+            TestLogger.flush();
+        }
+    }
+
+    /**
+     * Log in as the project owner once and return the session as storage state JSON
+     */
+    private static String loginOnce() throws IOException {
+        TestDataManager.User user = TestDataManager.getUser("projectOwner");
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = BrowserManager.launchBrowser(playwright);
+            BrowserContext context = browser.newContext(BrowserManager.getContextOptions());
+            LoginPage loginPage = new LoginPage(context.newPage());
+            loginPage.navigateToLogin();
+            loginPage.login(user.username(), user.password());
+            if (!loginPage.isLoginSuccess()) {
+                throw new RuntimeException("Benchmark login failed for " + user.username());
+            }
+            String state = context.storageState();
+            browser.close();
+            return state;
+        }
+    }
+
+    private static List<ProjectType> selectedTypes() throws IOException {
+        String selection = System.getProperty("benchmark.projectTypes", "");
+        if (selection.isBlank()) {
+            boolean includeUnverified = Boolean.getBoolean("benchmark.includeUnverified");
+            return TestDataManager.getProjectTypes().stream()
+                .filter(type -> type.verified() || includeUnverified)
+                .toList();
+        }
+        List<ProjectType> types = new ArrayList<>();
+        for (String name : Arrays.stream(selection.split(",")).map(String::trim).toList()) {
+            types.add(TestDataManager.getProjectType(name));
+        }
+        return types;
+    }
+
+    private static String report(List<ProjectType> types, List<Sample> samples, int total, long elapsedMs) {
+        String timestamp = LocalDateTime.now().toString();
+        for (Sample sample : samples) {
+            BenchmarkCsv.append(CSV, "timestamp,type,index,concurrency,createMs,projectId,error",
+                String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%s,%s", timestamp, BenchmarkCsv.quote(sample.type()),
+                    sample.index(), CONCURRENCY, sample.createMs(), sample.projectId(),
+                    BenchmarkCsv.quote(sample.error())));
+        }
+
+        Map<String, List<Long>> latencies = new LinkedHashMap<>();
+        Map<String, Integer> failures = new LinkedHashMap<>();
+        for (ProjectType type : types) {
+            latencies.put(type.type(), new ArrayList<>());
+            failures.put(type.type(), 0);
+        }
+        for (Sample sample : samples) {
+            if (sample.error() == null) {
+                latencies.get(sample.type()).add(sample.createMs());
+            } else {
+                failures.merge(sample.type(), 1, Integer::sum);
+            }
+        }
+
+        StringBuilder report = new StringBuilder(String.format(
+            "Created %d project(s) in %d ms with %d worker(s) (%.2f projects/s)%n%-18s %5s %5s %9s %9s %9s %9s%n",
+            total - failures.values().stream().mapToInt(Integer::intValue).sum(), elapsedMs, CONCURRENCY,
+            elapsedMs == 0 ? 0 : total * 1000.0 / elapsedMs,
+            "type", "ok", "fail", "p50 ms", "p90 ms", "p95 ms", "max ms"));
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            List<Long> values = entry.getValue().stream().sorted().toList();
+            report.append(String.format("%-18s %5d %5d %9s %9s %9s %9s%n", entry.getKey(), values.size(),
+                failures.get(entry.getKey()), percentile(values, 50), percentile(values, 90),
+                percentile(values, 95), percentile(values, 100)));
+        }
+
+        List<String> created = samples.stream()
+            .filter(sample -> sample.error() == null)
+            .map(sample -> sample.type() + " " + sample.projectId())
+            .toList();
+        if (!created.isEmpty()) {
+            report.append(String.format("%d project(s) left on %s (no delete flow, remove manually):%n  %s%n",
+                created.size(), BASE_URL, String.join("\n  ", created)));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values ("-" when empty)
+     */
+    private static String percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return "-";
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return String.valueOf(sorted.get(Math.max(0, rank - 1)));
+    }
+}
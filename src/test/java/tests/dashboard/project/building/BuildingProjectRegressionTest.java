@@ -8,10 +8,15 @@ import pages.dashboard.ProjectListPage;
 import pages.dashboard.ProjectSelectionPage;
 import pages.dashboard.project.building.BuildingProjectPage;
 import pages.dashboard.project.building.BuildingBasicInfoTab;
+import pages.dashboard.project.building.BuildingProjectFilesTab;
 import tests.base.BaseTest;
+import utils.BulkUploader;
 import utils.TestDataManager;
 
+import com.microsoft.playwright.Page;
+
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -241,4 +246,54 @@ public class BuildingProjectRegressionTest extends BaseTest {
 
         takeScreenshot("Building Data Persistence");
     }
+
+    /**
+     * Test bulk upload of an evidence pack to the Project Files categories
+     * File count / size: -Dupload.fileCount, -Dupload.fileSizeKb
+     */
+    @Test
+    @DisplayName("Bulk Upload Evidence Pack")
+    @Description("Upload generated files to Building Info and Inventory of Emissions and report upload throughput")
+    @Story("Building Project Files")
+    @Severity(SeverityLevel.NORMAL)
+    void testBulkUploadEvidencePack() throws IOException {
+        // Get page objects
+        LoginPage loginPage = pageManager.getLoginPage();
+        ProjectListPage projectListPage = pageManager.getProjectListPage();
+        ProjectSelectionPage projectSelectionPage = pageManager.getProjectSelectionPage();
+        BuildingProjectPage buildingProjectPage = pageManager.getBuildingProjectPage();
+        BuildingBasicInfoTab buildingBasicInfoTab = pageManager.getBuildingBasicInfoTab();
+        BuildingProjectFilesTab buildingProjectFilesTab = pageManager.getBuildingProjectFilesTab();
+
+        // Login and create a Building project to upload into
+        Map<String, String> user = TestDataManager.getSmokeUser();
+        loginPage.navigateToLogin();
+        loginPage.enterEmail(user.get("username"));
+        loginPage.enterPassword(user.get("password"));
+        loginPage.clickSignInButton();
+        projectListPage.clickCreateNewProject();
+        projectSelectionPage.selectBuilding();
+
+        buildingProjectPage.goToBasicInfoTab();
+        buildingBasicInfoTab.enterProjectTitle("Bulk Upload Test - " + System.currentTimeMillis());
+        buildingBasicInfoTab.clickSave();
+        page.waitForURL("**/project/building/**", new Page.WaitForURLOptions().setTimeout(30000));
+
+        // Upload the evidence pack - completion is detected per file, no fixed waits
+        buildingProjectPage.goToProjectFilesTab();
+        List<BulkUploader.Result> results = buildingProjectFilesTab.uploadEvidencePack("pdf",
+            "Building Info", "Inventory of Emissions");
+
+        int expectedFiles = Integer.getInteger("upload.fileCount", 5);
+        for (BulkUploader.Result result : results) {
+            assertEquals(expectedFiles, result.files().size(),
+                "All files should be uploaded to " + result.category());
+            Allure.parameter(result.category() + " throughput", String.format("%.2f files/s, %.2f MB/s",
+                result.filesPerSecond(), result.megabytesPerSecond()));
+        }
+        assertTrue(buildingProjectFilesTab.getFileCount() >= expectedFiles,
+            "Uploaded files should be listed in the active category");
+
+        takeScreenshot("Bulk Upload Evidence Pack");
+    }
 }
@@ -0,0 +1,102 @@
+package utils;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * AnimationControl - Opt-in suppression of CSS transitions/animations and jQuery effects
+ *
+ * Enabled with -Danimations.disable=true, or by a launch profile with "disableAnimations": true.
+ * When enabled, BaseTest installs a context-level init script that runs before the app's
+ * own scripts:
+ * - a stylesheet forcing transition/animation durations to 0 (Bootstrap collapse, dropdowns
+ *   and modals then finish immediately, since they time themselves from the CSS duration)
+ * - $.fx.off = true as soon as jQuery is defined (jQuery UI datepicker, slideToggle, fadeIn)
+ *
+ * Page objects call {@link #waitForAnimation(Page, int)} instead of page.waitForTimeout(...)
+ * for sleeps that only cover an animation; the sleep is skipped when suppression is active.
+ */
+public class AnimationControl {
+
+    private static final String INIT_SCRIPT = """
+        (() => {
+          const css = '*, *::before, *::after {'
+            + ' transition-duration: 0s !important; transition-delay: 0s !important;'
+            + ' animation-duration: 0s !important; animation-delay: 0s !important;'
+            + ' animation-iteration-count: 1 !important; scroll-behavior: auto !important; }';
+          const addStyle = () => {
+            if (document.getElementById('gnfz-no-animations')) return;
+            const style = document.createElement('style');
+            style.id = 'gnfz-no-animations';
+            style.textContent = css;
+            (document.head || document.documentElement).appendChild(style);
+          };
+          if (document.documentElement) {
+            addStyle();
+          } else {
+            new MutationObserver((mutations, observer) => {
+              if (document.documentElement) { observer.disconnect(); addStyle(); }
+            }).observe(document, { childList: true });
+          }
+
+          const disableEffects = (jq) => {
+            try {
+              if (jq && jq.fx) jq.fx.off = true;
+              if (jq && jq.support) jq.support.transition = false;
+            } catch (e) { /* not jQuery */ }
+          };
+          let jquery = window.jQuery;
+          disableEffects(jquery);
+          Object.defineProperty(window, 'jQuery', {
+            configurable: true,
+            enumerable: true,
+            get() { return jquery; },
+            set(value) { jquery = value; disableEffects(value); }
+          });
+        })();
+        """;
+
+    private static final Set<BrowserContext> suppressedContexts =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * True if animation suppression is requested (-Danimations.disable, else the launch profile)
+     */
+    public static boolean isEnabled() {
+        String property = System.getProperty("animations.disable");
+        if (property != null) {
+            return Boolean.parseBoolean(property);
+        }
+        return LaunchProfile.active().isDisableAnimations();
+    }
+
+    /**
+     * Install the init script on a new context if suppression is enabled
+     */
+    public static void install(BrowserContext context) {
+        if (isEnabled() && suppressedContexts.add(context)) {
+            context.addInitScript(INIT_SCRIPT);
+            TestLogger.debug("Animations disabled for this browser context");
+        }
+    }
+
+    /**
+     * True if the page belongs to a context with animations suppressed
+     */
+    public static boolean isSuppressed(Page page) {
+        return suppressedContexts.contains(page.context());
+    }
+
+    /**
+     * Sleep for an animation to finish - skipped when animations are suppressed
+     */
+    public static void waitForAnimation(Page page, int milliseconds) {
+        if (!isSuppressed(page)) {
+            page.waitForTimeout(milliseconds);
+        }
+    }
+}
@@ -3,6 +3,10 @@ package utils;
 import io.qameta.allure.Allure;
 import org.junit.jupiter.api.Assertions;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * AssertLogger - Wrapper around JUnit assertions that automatically logs results to Allure
  *
@@ -15,13 +19,65 @@ import org.junit.jupiter.api.Assertions;
  * - Creates nested Allure steps for each assertion
  * - Shows pass/fail status with values in Allure report
  * - Maintains standard JUnit assertion behavior (throws AssertionError on failure)
+ *
+ * Soft scope - collect many checks and fail once with a table of all mismatches:
+ *   AssertLogger.softly("Scope 3 tables", () -> {
+ *       AssertLogger.assertNumberEquals(expected, actual, "Table H: Row total");  // recorded, doesn't throw
+ *       ...
+ *   });  // one Allure attachment with every check, one AssertionError listing all failures
+ *
+ * While a scope is active on the current thread, every AssertLogger assertion is collected
+ * into it instead of being logged and thrown individually. Scopes nest: an inner scope attaches
+ * its own report when it closes and hands its failed checks ("inner: check") to the enclosing
+ * scope instead of throwing, so only the outermost scope fails, once, with everything.
  */
 public class AssertLogger {
 
+    private static final ThreadLocal<SoftScope> activeScope = new ThreadLocal<>();
+
+    /**
+     * Open a soft-assertion scope on the current thread (use with try-with-resources)
+     */
+    public static SoftScope softly(String name) {
+        return new SoftScope(name);
+    }
+
+    /**
+     * Run a block with soft assertions; fails once at the end if any check failed
+     */
+    public static void softly(String name, Runnable block) {
+        SoftScope scope = new SoftScope(name);
+        try {
+            block.run();
+        } catch (RuntimeException | Error e) {
+            // Still restore the enclosing scope and report what was collected; the block's error wins
+            try {
+                scope.close();
+            } catch (AssertionError collected) {
+                e.addSuppressed(collected);
+            }
+            throw e;
+        }
+        scope.close();
+    }
+
+    /**
+     * True if assertions on this thread are currently being collected
+     */
+    public static boolean isSoft() {
+        return activeScope.get() != null;
+    }
+
     /**
      * Assert that two objects are equal
      */
     public static <T> void assertEquals(T expected, T actual, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertEquals(expected, actual, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Expected", expected,
@@ -50,6 +106,12 @@ public class AssertLogger {
      * Use this when comparing numbers retrieved from UI that may have thousand separators
      */
     public static void assertNumberEquals(String expectedFormatted, String actualFormatted, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertNumberEquals(expectedFormatted, actualFormatted, message);
+            return;
+        }
+
         double expected = NumberParser.parseDouble(expectedFormatted);
         double actual = NumberParser.parseDouble(actualFormatted);
 
@@ -75,6 +137,12 @@ public class AssertLogger {
      * Assert that two formatted numbers are equal with custom delta
      */
     public static void assertNumberEquals(String expectedFormatted, String actualFormatted, double delta, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertNumberEquals(expectedFormatted, actualFormatted, delta, message);
+            return;
+        }
+
         double expected = NumberParser.parseDouble(expectedFormatted);
         double actual = NumberParser.parseDouble(actualFormatted);
 
@@ -101,6 +169,12 @@ public class AssertLogger {
      * Assert that two doubles are equal within a delta tolerance
      */
     public static void assertEquals(double expected, double actual, double delta, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertEquals(expected, actual, delta, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Expected", expected,
@@ -130,6 +204,12 @@ public class AssertLogger {
      * Assert that two floats are equal within a delta tolerance
      */
     public static void assertEquals(float expected, float actual, float delta, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertEquals(expected, actual, delta, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Expected", expected,
@@ -158,6 +238,12 @@ public class AssertLogger {
      * Assert that condition is true
      */
     public static void assertTrue(boolean condition, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertTrue(condition, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Type", "assertTrue",
@@ -186,6 +272,12 @@ public class AssertLogger {
      * Assert that condition is false
      */
     public static void assertFalse(boolean condition, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertFalse(condition, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Type", "assertFalse",
@@ -214,6 +306,12 @@ public class AssertLogger {
      * Assert that object is not null
      */
     public static void assertNotNull(Object object, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertNotNull(object, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Type", "assertNotNull",
@@ -242,6 +340,12 @@ public class AssertLogger {
      * Assert that object is null
      */
     public static void assertNull(Object object, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertNull(object, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Type", "assertNull",
@@ -271,6 +375,12 @@ public class AssertLogger {
      * Assert that two objects are NOT equal
      */
     public static <T> void assertNotEquals(T unexpected, T actual, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertNotEquals(unexpected, actual, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Type", "assertNotEquals",
@@ -300,6 +410,12 @@ public class AssertLogger {
      * Assert that string contains substring
      */
     public static void assertContains(String fullString, String substring, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertContains(fullString, substring, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             boolean contains = fullString != null && fullString.contains(substring);
 
@@ -332,6 +448,12 @@ public class AssertLogger {
      * Assert that collection/array is not empty
      */
     public static void assertNotEmpty(Object[] array, String message) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertNotEmpty(array, message);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             boolean isEmpty = array == null || array.length == 0;
 
@@ -357,6 +479,12 @@ public class AssertLogger {
      * Useful for comparing complex objects where you want to show specific details
      */
     public static <T> void assertEqualsWithDetails(T expected, T actual, String message, String details) {
+        SoftScope scope = activeScope.get();
+        if (scope != null) {
+            scope.assertEqualsWithDetails(expected, actual, message, details);
+            return;
+        }
+
         Allure.step("✓ " + message, () -> {
             TestLogger.logDataNoParams("Assertion",
                 "Type", "assertEquals",
@@ -401,4 +529,146 @@ public class AssertLogger {
 
         return passed;
     }
+
+    /**
+     * SoftScope - Collects checks and reports them together on close()
+     *
+     * Checks are only recorded (no per-check Allure step). close() attaches one table with
+     * every check and throws a single AssertionError listing the mismatches. Scopes nest:
+     * the outer scope is active again after the inner one closes.
+     */
+    public static class SoftScope implements AutoCloseable {
+
+        private record Check(String message, String expected, String actual, boolean passed) {}
+
+        private final String name;
+        private final SoftScope previous;
+        private final List<Check> checks = new ArrayList<>();
+        private boolean closed;
+
+        private SoftScope(String name) {
+            this.name = name;
+            this.previous = activeScope.get();
+            activeScope.set(this);
+        }
+
+        public <T> void assertEquals(T expected, T actual, String message) {
+            record(message, expected, actual, Objects.equals(expected, actual));
+        }
+
+        public void assertNumberEquals(String expectedFormatted, String actualFormatted, String message) {
+            assertNumberEquals(expectedFormatted, actualFormatted, 0.01, message);
+        }
+
+        public void assertNumberEquals(String expectedFormatted, String actualFormatted, double delta, String message) {
+            boolean passed;
+            try {
+                double expected = NumberParser.parseDouble(expectedFormatted);
+                double actual = NumberParser.parseDouble(actualFormatted);
+                passed = Math.abs(expected - actual) <= delta;
+            } catch (IllegalArgumentException e) {
+                passed = false;
+            }
+            record(message, expectedFormatted, actualFormatted, passed);
+        }
+
+        public void assertEquals(double expected, double actual, double delta, String message) {
+            record(message, expected, actual, Math.abs(expected - actual) <= delta);
+        }
+
+        public void assertTrue(boolean condition, String message) {
+            record(message, true, condition, condition);
+        }
+
+        public void assertFalse(boolean condition, String message) {
+            record(message, false, condition, !condition);
+        }
+
+        public void assertNotNull(Object object, String message) {
+            record(message, "not null", object, object != null);
+        }
+
+        public void assertNull(Object object, String message) {
+            record(message, null, object, object == null);
+        }
+
+        public <T> void assertNotEquals(T unexpected, T actual, String message) {
+            record(message, "not " + unexpected, actual, !Objects.equals(unexpected, actual));
+        }
+
+        public void assertContains(String fullString, String substring, String message) {
+            record(message, "contains '" + substring + "'", fullString, fullString != null && fullString.contains(substring));
+        }
+
+        public void assertNotEmpty(Object[] array, String message) {
+            record(message, "not empty", array != null ? array.length + " item(s)" : null, array != null && array.length > 0);
+        }
+
+        public <T> void assertEqualsWithDetails(T expected, T actual, String message, String details) {
+            record(message + " (" + details + ")", expected, actual, Objects.equals(expected, actual));
+        }
+
+        private void record(String message, Object expected, Object actual, boolean passed) {
+            checks.add(new Check(message, String.valueOf(expected), String.valueOf(actual), passed));
+            if (!passed) {
+                TestLogger.warn("✗ Soft check failed: " + message + " (expected: " + expected + ", actual: " + actual + ")");
+            }
+        }
+
+        /**
+         * Number of failed checks so far
+         */
+        public int failureCount() {
+            return (int) checks.stream().filter(check -> !check.passed()).count();
+        }
+
+        /**
+         * Table of all checks (or only failures)
+         */
+        public String report(boolean failuresOnly) {
+            StringBuilder table = new StringBuilder();
+            table.append(String.format("%-4s | %-6s | %-70s | %-25s | %s%n", "#", "Status", "Check", "Expected", "Actual"));
+            table.append("-".repeat(140)).append('\n');
+            for (int i = 0; i < checks.size(); i++) {
+                Check check = checks.get(i);
+                if (failuresOnly && check.passed()) {
+                    continue;
+                }
+                table.append(String.format("%-4d | %-6s | %-70s | %-25s | %s%n", i + 1,
+                    check.passed() ? "PASS" : "FAIL", check.message(), check.expected(), check.actual()));
+            }
+            return table.toString();
+        }
+
+        /**
+         * Attach all checks to Allure and throw once if any failed
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            activeScope.set(previous);
+
+            int failures = failureCount();
+            String summary = String.format("%s: %d check(s), %d failed", name, checks.size(), failures);
+            Allure.addAttachment("Soft assertions - " + name, "text/plain", summary + "\n\n" + report(false), ".txt");
+
+            if (failures == 0) {
+                TestLogger.info("✓ " + summary);
+                return;
+            }
+            TestLogger.error("✗ " + summary);
+            if (previous != null) {
+                for (Check check : checks) {
+                    if (!check.passed()) {
+                        previous.checks.add(new Check(name + ": " + check.message(), check.expected(), check.actual(), false));
+                    }
+                }
+                return;
+            }
+            throw new AssertionError(summary + "\n" + report(true));
+        }
+    }
 }
@@ -18,6 +18,7 @@ import java.util.stream.IntStream;
  * - Generates human-readable step names from method names
  * - Includes parameter names and values in the step name
  * - Logs execution success/failure
+ * - Records the method for the running test in the {@link ImpactMap}
  *
  * Example step names generated:
  * - enterEmail("test@example.com") → "Enter Email (email=test@example.com)"
@@ -40,7 +41,12 @@ public class AutoStepAspect {
     public Object autoStepAdvice(ProceedingJoinPoint joinPoint, AutoStep autoStep) throws Throwable {
         String stepName = getStepName(joinPoint, autoStep);
 
+        String timingKey = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+        ImpactMap.touch(joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
+
         return Allure.step(stepName, () -> {
+            long start = System.nanoTime();
             try {
                 Object result = joinPoint.proceed();
                 TestLogger.debug("✓ " + stepName);
@@ -48,6 +54,8 @@ public class AutoStepAspect {
             } catch (Throwable e) {
                 TestLogger.error("✗ " + stepName + " failed: " + e.getMessage());
                 throw e;
+            } finally {
+                StepTimings.record(timingKey, System.nanoTime() - start);
             }
         });
     }
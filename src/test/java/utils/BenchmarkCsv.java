@@ -0,0 +1,52 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * BenchmarkCsv - Appends benchmark samples to CSV files under target/benchmarks/
+ *
+ * Files are created with their header on first use and only ever appended to, so
+ * repeated runs (with different modes / flags) accumulate in one file for comparison.
+ * Each engine of a cross-browser matrix run writes to its own target/benchmarks/matrix-{engine}/
+ * (the engines run concurrently in separate class loaders, so they cannot share a file).
+ */
+public class BenchmarkCsv {
+
+    private static final Path BENCHMARK_DIR = Paths.get("target", "benchmarks");
+
+    /**
+     * Append one line to target/benchmarks/{fileName}, writing the header first if the file is new
+     */
+    public static synchronized void append(String fileName, String header, String line) {
+        Path file = path(fileName);
+        try {
+            Files.createDirectories(file.getParent());
+            if (!Files.exists(file)) {
+                Files.writeString(file, header + "\n");
+            }
+            Files.writeString(file, line + "\n", StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            TestLogger.warn("Could not write benchmark data to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Quote a free-text CSV field
+     */
+    public static String quote(String value) {
+        return "\"" + (value == null ? "" : value.replace("\"", "'")) + "\"";
+    }
+
+    /**
+     * Path of a benchmark file (for attaching or printing)
+     */
+    public static Path path(String fileName) {
+        Path dir = BrowserManager.isMatrixRun()
+            ? BENCHMARK_DIR.resolve("matrix-" + BrowserManager.getBrowserName()) : BENCHMARK_DIR;
+        return dir.resolve(fileName);
+    }
+}
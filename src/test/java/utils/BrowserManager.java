@@ -3,55 +3,114 @@ package utils;
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * BrowserManager - Utility class for browser configuration and management
+ *
+ * Browser modes (-Dbrowser.mode):
+ * - local (default): launch a new browser process
+ * - cdp: connect to a running Chromium over CDP (-Dbrowser.endpoint, or the server
+ *   started by {@link BrowserServerLauncher}); Chromium only, so -Dbrowser=firefox/webkit
+ *   launches locally instead (or fails with -Dbrowser.fallback=false)
+ * - connect: connect to a Playwright server (-Dbrowser.endpoint=ws://host:port/)
+ *
+ * Launch and context options come from the named launch profile (-Dbrowser.profile,
+ * see {@link LaunchProfile}).
+ *
+ * Connections are retried (-Dbrowser.connectRetries, default 3) and fall back to a
+ * local launch unless -Dbrowser.fallback=false. Startup time of every launch/connect
+ * is kept for the report and appended to target/benchmarks/browser-startup.csv.
  */
 public class BrowserManager {
 
+    private static final String STARTUP_CSV = "browser-startup.csv";
+    private static volatile String lastStartupMode = "none";
+    private static volatile double lastStartupMillis;
+
+    // Engine forced by the cross-browser matrix (one per isolated class loader)
+    private static volatile String browserOverride;
+
     /**
-     * Get browser launch options based on environment
+     * Get browser launch options from the active launch profile (-Dbrowser.profile)
      */
     public static BrowserType.LaunchOptions getBrowserLaunchOptions() {
-        boolean headless = Boolean.parseBoolean(System.getProperty("headless", "false"));
-        boolean slowMo = Boolean.parseBoolean(System.getProperty("slowmo", "false"));
-
-        BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
-            .setHeadless(headless);
-
-        if (slowMo) {
-            options.setSlowMo(1000); // 1 second delay between actions
-        }
+        return LaunchProfile.active().launchOptions(getBrowserName());
+    }
 
-        return options;
+    /**
+     * Get context options (viewport, locale, timezone, ...) from the active launch profile
+     */
+    public static Browser.NewContextOptions getContextOptions() {
+        return LaunchProfile.active().contextOptions();
     }
 
     /**
      * Launch Chrome browser with default options
      */
     public static Browser launchChrome(Playwright playwright) {
-        return playwright.chromium().launch(getBrowserLaunchOptions());
+        return playwright.chromium().launch(LaunchProfile.active().launchOptions("chrome"));
     }
 
     /**
      * Launch Firefox browser with default options
      */
     public static Browser launchFirefox(Playwright playwright) {
-        return playwright.firefox().launch(getBrowserLaunchOptions());
+        return playwright.firefox().launch(LaunchProfile.active().launchOptions("firefox"));
     }
 
     /**
      * Launch WebKit browser with default options
      */
     public static Browser launchWebKit(Playwright playwright) {
-        return playwright.webkit().launch(getBrowserLaunchOptions());
+        return playwright.webkit().launch(LaunchProfile.active().launchOptions("webkit"));
     }
 
     /**
      * Get browser based on system property or default to Chrome
+     * (launched locally or connected, depending on -Dbrowser.mode)
      */
     public static Browser launchBrowser(Playwright playwright) {
-        String browserName = System.getProperty("browser", "chrome").toLowerCase();
+        String mode = getBrowserMode();
+        long start = System.nanoTime();
+        Browser browser;
+        String actualMode = mode;
+
+        if ("local".equals(mode)) {
+            browser = launchLocal(playwright);
+        } else if ("cdp".equals(mode) && !LaunchProfile.isChromium(getBrowserName())) {
+            String message = "'cdp' mode only connects to Chromium, but -Dbrowser=" + getBrowserName() + " was requested";
+            if (!Boolean.parseBoolean(System.getProperty("browser.fallback", "true"))) {
+                throw new IllegalArgumentException(message);
+            }
+            TestLogger.warn(message + ", launching locally");
+            browser = launchLocal(playwright);
+            actualMode = "local-fallback";
+        } else {
+            try {
+                browser = connectWithRetry(playwright, mode);
+            } catch (PlaywrightException e) {
+                if (!Boolean.parseBoolean(System.getProperty("browser.fallback", "true"))) {
+                    throw e;
+                }
+                TestLogger.warn("Could not connect in '" + mode + "' mode, launching locally: " + e.getMessage());
+                browser = launchLocal(playwright);
+                actualMode = "local-fallback";
+            }
+        }
+
+        recordStartup(mode, actualMode, System.nanoTime() - start);
+        return browser;
+    }
+
+    /**
+     * Launch a new local browser process based on -Dbrowser
+     */
+    public static Browser launchLocal(Playwright playwright) {
+        String browserName = getBrowserName().toLowerCase();
 
         return switch (browserName) {
             case "firefox" -> launchFirefox(playwright);
@@ -60,17 +119,130 @@ public class BrowserManager {
         };
     }
 
+    /**
+     * Return the browser if still connected, otherwise reconnect (or relaunch)
+     */
+    public static Browser ensureConnected(Playwright playwright, Browser browser) {
+        if (browser != null && browser.isConnected()) {
+            return browser;
+        }
+        TestLogger.warn("Browser is disconnected, reconnecting in '" + getBrowserMode() + "' mode");
+        return launchBrowser(playwright);
+    }
+
+    private static Browser connectWithRetry(Playwright playwright, String mode) {
+        int attempts = Math.max(1, Integer.getInteger("browser.connectRetries", 3));
+        PlaywrightException lastError = null;
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                return connect(playwright, mode);
+            } catch (PlaywrightException e) {
+                lastError = e;
+                TestLogger.warn(String.format("Connect attempt %d/%d failed: %s", attempt, attempts, e.getMessage()));
+                if (attempt < attempts) {
+                    try {
+                        Thread.sleep(500L * attempt);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+        throw lastError != null ? lastError : new PlaywrightException("Could not connect to browser");
+    }
+
+    private static Browser connect(Playwright playwright, String mode) {
+        String endpoint = System.getProperty("browser.endpoint");
+        switch (mode) {
+            case "cdp" -> {
+                if (endpoint == null || endpoint.isBlank()) {
+                    endpoint = BrowserServerLauncher.readEndpoint()
+                        .orElseThrow(() -> new PlaywrightException(
+                            "No browser server running - start one with BrowserServerLauncher or set -Dbrowser.endpoint"));
+                }
+                return playwright.chromium().connectOverCDP(endpoint);
+            }
+            case "connect" -> {
+                if (endpoint == null || endpoint.isBlank()) {
+                    throw new PlaywrightException("-Dbrowser.endpoint=ws://host:port/ is required in 'connect' mode");
+                }
+                return browserType(playwright).connect(endpoint);
+            }
+            default -> throw new IllegalArgumentException("Unknown browser.mode '" + mode + "' (use local, cdp or connect)");
+        }
+    }
+
+    private static BrowserType browserType(Playwright playwright) {
+        return switch (getBrowserName().toLowerCase()) {
+            case "firefox" -> playwright.firefox();
+            case "webkit", "safari" -> playwright.webkit();
+            default -> playwright.chromium();
+        };
+    }
+
+    private static void recordStartup(String requestedMode, String actualMode, long nanos) {
+        lastStartupMode = actualMode;
+        lastStartupMillis = nanos / 1_000_000.0;
+        TestLogger.info(String.format("Browser ready in %.0f ms (mode: %s)", lastStartupMillis, actualMode));
+        BenchmarkCsv.append(STARTUP_CSV, "timestamp,requestedMode,actualMode,browser,profile,headless,startupMs",
+            String.format(Locale.ROOT, "%s,%s,%s,%s,%s,%s,%.3f", LocalDateTime.now(), requestedMode, actualMode,
+                getBrowserName(), getProfileName(), isHeadless(), lastStartupMillis));
+    }
+
+    /**
+     * Requested browser mode: local, cdp or connect
+     */
+    public static String getBrowserMode() {
+        return System.getProperty("browser.mode", "local").toLowerCase();
+    }
+
+    /**
+     * Mode the last browser was actually obtained with (e.g. "local-fallback")
+     */
+    public static String getLastStartupMode() {
+        return lastStartupMode;
+    }
+
+    /**
+     * Time the last launch / connect took, in milliseconds
+     */
+    public static double getLastStartupMillis() {
+        return lastStartupMillis;
+    }
+
     /**
      * Get browser name for reporting purposes
      */
     public static String getBrowserName() {
-        return System.getProperty("browser", "chrome");
+        return browserOverride != null ? browserOverride : System.getProperty("browser", "chrome");
+    }
+
+    /**
+     * Force the engine for this class loader, ignoring -Dbrowser (used by BrowserMatrixRunner)
+     */
+    public static void setBrowserOverride(String browserName) {
+        browserOverride = browserName;
+    }
+
+    /**
+     * True when running as one engine of a cross-browser matrix
+     */
+    public static boolean isMatrixRun() {
+        return browserOverride != null;
+    }
+
+    /**
+     * Name of the active launch profile
+     */
+    public static String getProfileName() {
+        return LaunchProfile.active().getName();
     }
 
     /**
-     * Check if running in headless mode
+     * Check if running in headless mode (-Dheadless, else the launch profile)
      */
     public static boolean isHeadless() {
-        return Boolean.parseBoolean(System.getProperty("headless", "false"));
+        return LaunchProfile.active().isHeadless();
     }
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package utils;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * BrowserMatrixRunner - Runs the selected suites against several engines concurrently in one JVM
+ *
+ * Each engine runs on its own thread, in its own class loader, with its own Playwright
+ * instance (via {@link MatrixWorker}); nothing static is shared between engines. Allure
+ * results are tagged with the engine (parameter "browser", parent suite = engine).
+ *
+ * Usage:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=utils.BrowserMatrixRunner \
+ *       -Dmatrix.browsers=chrome,firefox,webkit -Dmatrix.select=tests.authentication.login
+ *
+ * -Dmatrix.select takes comma-separated packages, classes or Class#method (default: tests).
+ * Step durations per engine are compared at the end and written to
+ * target/benchmarks/matrix-step-durations.csv. Matrix runs use local launches; the
+ * shared CDP server (-Dbrowser.mode=cdp) is Chromium-only.
+ *
+ * Per-engine output never shares a file: traces go to run_{timestamp}_{engine}/, benchmark
+ * CSVs and reports to target/benchmarks/matrix-{engine}/. The failed-tests file and the
+ * impact map are merged from all engines and written once here, after every engine finished.
+ */
+public class BrowserMatrixRunner {
+
+    public static void main(String[] args) throws Exception {
+        List<String> engines = split(System.getProperty("matrix.browsers", "chrome,firefox,webkit"));
+        List<String> selectors = args.length > 0 ? Arrays.asList(args) : split(System.getProperty("matrix.select", "tests"));
+        System.setProperty("browser.mode", "local");
+
+        URL[] classpath = classpathUrls();
+        ExecutorService pool = Executors.newFixedThreadPool(engines.size(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(false);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        Map<String, Future<Map<String, Object>>> futures = new LinkedHashMap<>();
+        for (String engine : engines) {
+            futures.put(engine, pool.submit(() -> runEngine(engine, selectors, classpath)));
+        }
+
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<Map<String, Object>>> entry : futures.entrySet()) {
+            results.put(entry.getKey(), entry.getValue().get());
+        }
+        pool.shutdown();
+        long wallMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(summary(results, wallMs));
+        saveSharedResults(results);
+        String comparison = stepComparison(results);
+        System.out.println(comparison);
+        Path report = BenchmarkCsv.path("matrix-step-durations.txt");
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, comparison);
+
+        boolean failed = results.values().stream().anyMatch(result -> ((Number) result.get("failed")).longValue() > 0);
+        System.exit(failed ? 1 : 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> runEngine(String engine, List<String> selectors, URL[] classpath) throws Exception {
+        Thread.currentThread().setName("matrix-" + engine);
+        try (URLClassLoader loader = new URLClassLoader("matrix-" + engine, classpath, ClassLoader.getPlatformClassLoader())) {
+            // JUnit engines and listeners (Allure) are discovered through the context class loader
+            Thread.currentThread().setContextClassLoader(loader);
+            Class<?> worker = loader.loadClass(MatrixWorker.class.getName());
+            return (Map<String, Object>) worker.getMethod("run", String.class, List.class).invoke(null, engine, selectors);
+        }
+    }
+
+    /**
+     * Merge the engines' failed tests and impact maps and write each file once
+     */
+    @SuppressWarnings("unchecked")
+    private static void saveSharedResults(Map<String, Map<String, Object>> results) {
+        Set<String> executed = new TreeSet<>();
+        Set<String> failed = new TreeSet<>();
+        Map<String, Set<String>> impact = new TreeMap<>();
+        for (Map<String, Object> result : results.values()) {
+            executed.addAll((Set<String>) result.get("executedTests"));
+            failed.addAll((Set<String>) result.get("failedTests"));
+            ((Map<String, Set<String>>) result.get("impactMap")).forEach((test, methods) ->
+                impact.computeIfAbsent(test, key -> new TreeSet<>()).addAll(methods));
+        }
+        if (!executed.isEmpty()) {
+            FailedTestRecorder.save(executed, failed);
+        }
+        if (!impact.isEmpty()) {
+            ImpactMap.save(impact, failed);
+        }
+    }
+
+    private static String summary(Map<String, Map<String, Object>> results, long wallMs) {
+        StringBuilder summary = new StringBuilder();
+        summary.append("=".repeat(80)).append('\n');
+        summary.append(String.format("Browser matrix finished in %.1f s%n", wallMs / 1000.0));
+        results.forEach((engine, result) -> {
+            summary.append(String.format("  %-8s found=%-4s passed=%-4s failed=%-4s skipped=%-4s time=%.1f s%n",
+                engine, result.get("found"), result.get("succeeded"), result.get("failed"), result.get("skipped"),
+                ((Number) result.get("durationMs")).longValue() / 1000.0));
+            ((List<?>) result.get("failures")).forEach(failure -> summary.append("      ✗ ").append(failure).append('\n'));
+        });
+        summary.append("=".repeat(80));
+        return summary.toString();
+    }
+
+    /**
+     * Average duration of every step per engine, one row per step
+     */
+    @SuppressWarnings("unchecked")
+    private static String stepComparison(Map<String, Map<String, Object>> results) {
+        TreeSet<String> steps = new TreeSet<>();
+        Map<String, Map<String, List<Double>>> timings = new LinkedHashMap<>();
+        results.forEach((engine, result) -> {
+            Map<String, List<Double>> engineTimings = (Map<String, List<Double>>) result.get("stepTimings");
+            timings.put(engine, engineTimings);
+            steps.addAll(engineTimings.keySet());
+        });
+
+        StringBuilder table = new StringBuilder("Step duration per engine (avg ms)\n");
+        table.append(String.format("%-60s", "Step"));
+        timings.keySet().forEach(engine -> table.append(String.format(" | %10s", engine)));
+        table.append('\n');
+
+        String timestamp = LocalDateTime.now().toString();
+        for (String step : steps) {
+            table.append(String.format("%-60s", step.length() > 60 ? step.substring(0, 57) + "..." : step));
+            timings.forEach((engine, engineTimings) -> {
+                List<Double> values = engineTimings.getOrDefault(step, List.of());
+                double avg = values.stream().mapToDouble(Double::doubleValue).average().orElse(Double.NaN);
+                table.append(values.isEmpty() ? String.format(" | %10s", "-") : String.format(" | %10.1f", avg));
+                if (!values.isEmpty()) {
+                    BenchmarkCsv.append("matrix-step-durations.csv", "timestamp,engine,step,count,avgMs",
+                        String.format(Locale.ROOT, "%s,%s,%s,%d,%.3f", timestamp, engine, BenchmarkCsv.quote(step),
+                            values.size(), avg));
+                }
+            });
+            table.append('\n');
+        }
+        return table.toString();
+    }
+
+    private static URL[] classpathUrls() throws MalformedURLException {
+        // exec:java runs us from a URLClassLoader; a plain java launch uses java.class.path
+        if (BrowserMatrixRunner.class.getClassLoader() instanceof URLClassLoader urlLoader) {
+            return urlLoader.getURLs();
+        }
+        List<URL> urls = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            urls.add(new File(entry).toURI().toURL());
+        }
+        return urls.toArray(new URL[0]);
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(part -> !part.isEmpty()).toList();
+    }
+}
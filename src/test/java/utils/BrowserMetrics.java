@@ -0,0 +1,161 @@
+package utils;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import io.qameta.allure.Allure;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * BrowserMetrics - Browser-side cost of each StepLogger step from CDP Performance.getMetrics
+ *
+ * On Chromium, BaseTest opens one CDP session per page ({@link #attach(Page)}) and StepLogger
+ * samples Performance.getMetrics before and after every step. The step's deltas are attached
+ * to Allure and appended to target/benchmarks/step-metrics.csv:
+ * - jsHeapUsedDelta / jsHeapUsed: JSHeapUsedSize growth and value at the end (bytes)
+ * - layoutCount, recalcStyleCount: layouts and style recalculations during the step
+ * - scriptMs, taskMs: ScriptDuration and TaskDuration spent during the step
+ * Firefox and WebKit have no CDP; sampling is skipped there.
+ *
+ * Flag: -Dcdp.metrics=false (no sessions, no sampling)
+ */
+public class BrowserMetrics {
+
+    private static final String CSV = "step-metrics.csv";
+    private static final String CSV_HEADER = "timestamp,test,browser,step,durationMs,jsHeapUsedDelta,jsHeapUsed,"
+        + "layoutCount,recalcStyleCount,scriptMs,taskMs";
+
+    // CDP metric name -> reported name; durations come in seconds
+    private static final Map<String, String> METRICS = Map.of(
+        "JSHeapUsedSize", "jsHeapUsed",
+        "LayoutCount", "layoutCount",
+        "RecalcStyleCount", "recalcStyleCount",
+        "ScriptDuration", "scriptMs",
+        "TaskDuration", "taskMs");
+
+    private static final Map<Page, CDPSession> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ThreadLocal<Page> currentPage = new ThreadLocal<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+
+    /**
+     * Deltas of one step (jsHeapUsed is the value at the end of the step)
+     */
+    public record StepMetrics(String step, long durationMs, Map<String, Double> deltas) {}
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("cdp.metrics", "true"));
+    }
+
+    /**
+     * Start sampling for a test on this thread
+     */
+    public static void begin(String testId) {
+        currentTest.set(testId);
+    }
+
+    /**
+     * Sample this page at the following step boundaries (opens its CDP session on first use)
+     */
+    public static void attach(Page page) {
+        currentPage.set(page);
+        if (!isEnabled() || sessions.containsKey(page) || !isChromium(page)) {
+            return;
+        }
+        try {
+            CDPSession session = page.context().newCDPSession(page);
+            session.send("Performance.enable");
+            sessions.put(page, session);
+        } catch (PlaywrightException e) {
+            TestLogger.debug("Could not open CDP session: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop sampling on this thread (sessions of shared pages stay open for the next test)
+     */
+    public static void end() {
+        currentPage.remove();
+        currentTest.remove();
+    }
+
+    /**
+     * Current metric values of this thread's page (null when not sampling)
+     */
+    public static Map<String, Double> sample() {
+        Page page = currentPage.get();
+        CDPSession session = page == null ? null : sessions.get(page);
+        if (session == null) {
+            return null;
+        }
+        try {
+            JsonObject response = session.send("Performance.getMetrics");
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (JsonElement element : response.getAsJsonArray("metrics")) {
+                JsonObject metric = element.getAsJsonObject();
+                String name = METRICS.get(metric.get("name").getAsString());
+                if (name != null) {
+                    double value = metric.get("value").getAsDouble();
+                    values.put(name, name.endsWith("Ms") ? value * 1000 : value);
+                }
+            }
+            return values;
+        } catch (PlaywrightException e) {
+            // Page or context closed during the step
+            sessions.remove(page);
+            TestLogger.debug("Could not sample browser metrics: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Close a step sampled with {@link #sample()} at its start: attach and export the deltas
+     */
+    public static StepMetrics recordStep(String step, Map<String, Double> before, long durationNanos) {
+        if (before == null) {
+            return null;
+        }
+        Map<String, Double> after = sample();
+        if (after == null) {
+            return null;
+        }
+        Map<String, Double> deltas = new LinkedHashMap<>();
+        deltas.put("jsHeapUsedDelta", after.getOrDefault("jsHeapUsed", 0.0) - before.getOrDefault("jsHeapUsed", 0.0));
+        deltas.put("jsHeapUsed", after.getOrDefault("jsHeapUsed", 0.0));
+        for (String metric : new String[] {"layoutCount", "recalcStyleCount", "scriptMs", "taskMs"}) {
+            deltas.put(metric, after.getOrDefault(metric, 0.0) - before.getOrDefault(metric, 0.0));
+        }
+        StepMetrics metrics = new StepMetrics(step, durationNanos / 1_000_000, deltas);
+        report(metrics);
+        return metrics;
+    }
+
+    private static boolean isChromium(Page page) {
+        Browser browser = page.context().browser();
+        return browser != null && "chromium".equals(browser.browserType().name());
+    }
+
+    private static void report(StepMetrics metrics) {
+        Map<String, Double> deltas = metrics.deltas();
+        String summary = String.format(Locale.ROOT,
+            "heap %+.1f KB (%.1f MB used), %.0f layouts, %.0f style recalcs, script %.1f ms, tasks %.1f ms",
+            deltas.get("jsHeapUsedDelta") / 1024, deltas.get("jsHeapUsed") / (1024 * 1024),
+            deltas.get("layoutCount"), deltas.get("recalcStyleCount"), deltas.get("scriptMs"), deltas.get("taskMs"));
+        TestLogger.debug("Browser metrics for " + metrics.step() + ": " + summary);
+        Allure.addAttachment("Browser metrics", "text/plain", summary, ".txt");
+
+        BenchmarkCsv.append(CSV, CSV_HEADER, String.format(Locale.ROOT, "%s,%s,%s,%s,%d,%.0f,%.0f,%.0f,%.0f,%.2f,%.2f",
+            LocalDateTime.now(), BenchmarkCsv.quote(currentTest.get()), BrowserManager.getBrowserName(),
+            BenchmarkCsv.quote(metrics.step()), metrics.durationMs(), deltas.get("jsHeapUsedDelta"),
+            deltas.get("jsHeapUsed"), deltas.get("layoutCount"), deltas.get("recalcStyleCount"),
+            deltas.get("scriptMs"), deltas.get("taskMs")));
+    }
+}
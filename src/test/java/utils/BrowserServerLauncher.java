@@ -0,0 +1,147 @@
+package utils;
+
+import com.microsoft.playwright.Playwright;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BrowserServerLauncher - Starts / stops a long-lived local Chromium that test JVMs connect to over CDP
+ *
+ * The server is Playwright's own bundled Chromium started with a remote debugging port.
+ * Its endpoint and PID are written to {java.io.tmpdir}/gnfz-browser-server.endpoint, where
+ * BrowserManager picks them up when running with -Dbrowser.mode=cdp. Every test still
+ * gets its own BrowserContext; only the browser process is shared.
+ *
+ * Usage:
+ *   mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=utils.BrowserServerLauncher -Dexec.args="start"
+ *   mvn test -Dbrowser.mode=cdp
+ *   mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=utils.BrowserServerLauncher -Dexec.args="stop"
+ *
+ * Options: -Dbrowser.server.port (default 9222), -Dheadless (default false, as BrowserManager)
+ */
+public class BrowserServerLauncher {
+
+    public static final Path ENDPOINT_FILE = Paths.get(System.getProperty("java.io.tmpdir"), "gnfz-browser-server.endpoint");
+    private static final int DEFAULT_PORT = Integer.getInteger("browser.server.port", 9222);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(20);
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    public static void main(String[] args) throws Exception {
+        String command = args.length > 0 ? args[0] : "start";
+        switch (command) {
+            case "start" -> System.out.println("Browser server running at " + start(DEFAULT_PORT));
+            case "stop" -> System.out.println(stop() ? "Browser server stopped" : "No browser server running");
+            case "status" -> System.out.println(readEndpoint()
+                .map(endpoint -> "Browser server running at " + endpoint)
+                .orElse("No browser server running"));
+            default -> throw new IllegalArgumentException("Unknown command '" + command + "' (use start, stop or status)");
+        }
+    }
+
+    /**
+     * Start the server unless one is already answering; returns its CDP endpoint
+     */
+    public static String start(int port) throws IOException, InterruptedException {
+        Optional<String> running = readEndpoint();
+        if (running.isPresent()) {
+            return running.get();
+        }
+
+        Path executable;
+        try (Playwright playwright = Playwright.create()) {
+            executable = Paths.get(playwright.chromium().executablePath());
+        }
+        Path profileDir = Files.createTempDirectory("gnfz-browser-server-");
+        Path logFile = profileDir.resolve("browser.log");
+
+        List<String> command = new ArrayList<>(List.of(
+            executable.toString(),
+            "--remote-debugging-port=" + port,
+            "--user-data-dir=" + profileDir,
+            "--no-first-run",
+            "--no-default-browser-check"));
+        if (BrowserManager.isHeadless()) {
+            command.add("--headless=new");
+        }
+        command.add("about:blank");
+
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(logFile.toFile())
+            .start();
+
+        String endpoint = "http://127.0.0.1:" + port;
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (!isAlive(endpoint)) {
+            if (!process.isAlive() || System.nanoTime() > deadline) {
+                process.destroy();
+                throw new IOException("Browser server did not start on port " + port + " (log: " + logFile + ")");
+            }
+            Thread.sleep(200);
+        }
+
+        Files.writeString(ENDPOINT_FILE, endpoint + "\n" + process.pid() + "\n");
+        return endpoint;
+    }
+
+    /**
+     * Stop the server recorded in the endpoint file
+     */
+    public static boolean stop() throws IOException {
+        if (!Files.exists(ENDPOINT_FILE)) {
+            return false;
+        }
+        List<String> lines = Files.readAllLines(ENDPOINT_FILE);
+        Files.deleteIfExists(ENDPOINT_FILE);
+        if (lines.size() < 2) {
+            return false;
+        }
+        return ProcessHandle.of(Long.parseLong(lines.get(1).trim()))
+            .map(ProcessHandle::destroy)
+            .orElse(false);
+    }
+
+    /**
+     * Endpoint of a running server, if the endpoint file exists and the server answers
+     */
+    public static Optional<String> readEndpoint() {
+        try {
+            if (!Files.exists(ENDPOINT_FILE)) {
+                return Optional.empty();
+            }
+            String endpoint = Files.readAllLines(ENDPOINT_FILE).get(0).trim();
+            return isAlive(endpoint) ? Optional.of(endpoint) : Optional.empty();
+        } catch (IOException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * True when a CDP endpoint answers /json/version
+     */
+    public static boolean isAlive(String endpoint) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint + "/json/version"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+            return HTTP.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package utils;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * BulkUploader - Uploads several files through a file input and measures the files service
+ *
+ * All files are set on the input at once (one at a time if the input is not "multiple").
+ * Completion is condition-driven, no fixed sleep:
+ * - a file is done when a row containing its name appears in the file list, or
+ * - when the n-th successful upload response arrives (for lists that do not show full names)
+ * An upload response with status >= 400 fails the upload as soon as it is seen.
+ *
+ * Upload responses are POST/PUT requests whose URL matches -Dupload.urlPattern (regex; by
+ * default a whole "upload(s)" or "file(s)" path segment, so /files/upload matches but /profile
+ * does not). Timeout: -Dupload.timeout (default 120000ms).
+ *
+ * Each run logs files/s and MB/s and appends to target/benchmarks/:
+ * - uploads.csv (one line per file: size, latency)
+ * - upload-runs.csv (one line per run: throughput)
+ */
+public class BulkUploader {
+
+    private static final int DEFAULT_TIMEOUT_MS = 120000;
+    private static final String DEFAULT_URL_PATTERN = "(?i)/(uploads?|files?)(/|\\?|#|$)";
+
+    /**
+     * One uploaded file: latency from handing the files to the input until it was seen as done
+     */
+    public record FileResult(String name, long sizeBytes, long latencyMs, String completedBy) {}
+
+    /**
+     * Outcome of a bulk upload
+     */
+    public record Result(String category, List<FileResult> files, long elapsedMs, long totalBytes, int uploadResponses) {
+
+        public double filesPerSecond() {
+            return elapsedMs == 0 ? 0 : files.size() * 1000.0 / elapsedMs;
+        }
+
+        public double megabytesPerSecond() {
+            return elapsedMs == 0 ? 0 : totalBytes / (1024.0 * 1024.0) / (elapsedMs / 1000.0);
+        }
+    }
+
+    private record UploadResponse(long nanos, int status, String url) {}
+
+    /**
+     * Upload files through fileInput and wait until each one is listed in fileRows
+     *
+     * @param category label for logs/reports (e.g. "Building Info")
+     * @param fileInput the input[type=file] (may be hidden)
+     * @param fileRows rows of the file list
+     */
+    public static Result upload(Page page, String category, Locator fileInput, Locator fileRows, List<Path> files) {
+        int timeout = Integer.getInteger("upload.timeout", DEFAULT_TIMEOUT_MS);
+        Pattern urlPattern = Pattern.compile(System.getProperty("upload.urlPattern", DEFAULT_URL_PATTERN));
+
+        List<UploadResponse> responses = new CopyOnWriteArrayList<>();
+        Consumer<Response> listener = response -> {
+            String method = response.request().method();
+            if (("POST".equals(method) || "PUT".equals(method)) && urlPattern.matcher(response.url()).find()) {
+                responses.add(new UploadResponse(System.nanoTime(), response.status(), response.url()));
+            }
+        };
+
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        long totalBytes = 0;
+        for (Path file : files) {
+            long size = size(file);
+            sizes.put(file.getFileName().toString(), size);
+            totalBytes += size;
+        }
+
+        Map<String, FileResult> completed = new LinkedHashMap<>();
+        boolean multiple = Boolean.TRUE.equals(fileInput.evaluate("input => input.multiple"));
+        page.onResponse(listener);
+        long start = System.nanoTime();
+        try {
+            if (multiple) {
+                fileInput.setInputFiles(files.toArray(new Path[0]));
+                waitForCompletion(fileRows, sizes, responses, 0, start, completed, timeout);
+            } else {
+                for (Path file : files) {
+                    int responsesBefore = responses.size();
+                    long fileStart = System.nanoTime();
+                    fileInput.setInputFiles(file);
+                    Map<String, Long> one = Map.of(file.getFileName().toString(), sizes.get(file.getFileName().toString()));
+                    waitForCompletion(fileRows, one, responses, responsesBefore, fileStart, completed, timeout);
+                }
+            }
+        } finally {
+            page.offResponse(listener);
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        List<FileResult> results = new ArrayList<>();
+        for (String name : sizes.keySet()) {
+            results.add(completed.get(name));
+        }
+        Result result = new Result(category, results, elapsedMs, totalBytes, responses.size());
+        record(result);
+        return result;
+    }
+
+    /**
+     * Poll the file list (one round trip per poll) until every file is listed or enough
+     * successful upload responses arrived; records each file's latency when first seen
+     */
+    private static void waitForCompletion(Locator fileRows, Map<String, Long> pending,
+                                          List<UploadResponse> responses, int responsesBefore, long start,
+                                          Map<String, FileResult> completed, int timeout) {
+        List<String> waiting = new ArrayList<>(pending.keySet());
+        UploadResponse[] failed = new UploadResponse[1];
+        WaitHelper.waitForCondition(() -> {
+            for (UploadResponse response : responses.subList(responsesBefore, responses.size())) {
+                if (response.status() >= 400) {
+                    failed[0] = response;
+                    return -1;
+                }
+            }
+
+            String listed = String.join("\n", fileRows.allTextContents());
+            long now = System.nanoTime();
+            waiting.removeIf(name -> {
+                if (listed.contains(name)) {
+                    completed.put(name, new FileResult(name, pending.get(name), (now - start) / 1_000_000, "file list"));
+                    return true;
+                }
+                return false;
+            });
+
+            // Names not shown in the list: fall back to the n-th successful upload response
+            List<UploadResponse> succeeded = responses.subList(responsesBefore, responses.size()).stream()
+                .filter(response -> response.status() < 400).toList();
+            int alreadyDone = pending.size() - waiting.size();
+            while (!waiting.isEmpty() && succeeded.size() >= pending.size() && alreadyDone < succeeded.size()) {
+                String name = waiting.remove(0);
+                long at = succeeded.get(alreadyDone).nanos();
+                completed.put(name, new FileResult(name, pending.get(name), (at - start) / 1_000_000, "upload response"));
+                alreadyDone++;
+            }
+            return waiting.size();
+        }, remaining -> remaining <= 0, timeout, "Upload did not complete for " + waiting);
+
+        if (failed[0] != null) {
+            throw new RuntimeException(String.format("Upload failed: HTTP %d from %s (pending: %s)",
+                failed[0].status(), failed[0].url(), waiting));
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read upload file " + file, e);
+        }
+    }
+
+    private static void record(Result result) {
+        TestLogger.info(String.format("Uploaded %d file(s) (%.2f MB) to %s in %d ms: %.2f files/s, %.2f MB/s",
+            result.files().size(), result.totalBytes() / (1024.0 * 1024.0), result.category(), result.elapsedMs(),
+            result.filesPerSecond(), result.megabytesPerSecond()));
+
+        String timestamp = LocalDateTime.now().toString();
+        for (FileResult file : result.files()) {
+            TestLogger.debug(String.format("  %s: %,d bytes in %d ms (%s)", file.name(), file.sizeBytes(),
+                file.latencyMs(), file.completedBy()));
+            BenchmarkCsv.append("uploads.csv", "timestamp,category,file,sizeBytes,latencyMs,completedBy",
+                String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%s", timestamp, BenchmarkCsv.quote(result.category()),
+                    BenchmarkCsv.quote(file.name()), file.sizeBytes(), file.latencyMs(), file.completedBy()));
+        }
+        BenchmarkCsv.append("upload-runs.csv",
+            "timestamp,category,files,totalBytes,elapsedMs,filesPerSecond,mbPerSecond,uploadResponses",
+            String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.3f,%.3f,%d", timestamp, BenchmarkCsv.quote(result.category()),
+                result.files().size(), result.totalBytes(), result.elapsedMs(), result.filesPerSecond(),
+                result.megabytesPerSecond(), result.uploadResponses()));
+    }
+}
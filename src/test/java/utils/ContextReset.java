@@ -0,0 +1,101 @@
+package utils;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.Cookie;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * ContextReset - Decides whether a test reuses a BrowserContext and resets a reused one
+ *
+ * Auth state is recognised by name: cookies and storage keys matching
+ * -Dcontext.authPattern (default: session/auth/token/jwt/csrf/remember) survive a reset,
+ * everything else is cleared.
+ */
+public class ContextReset {
+
+    private static final Pattern AUTH_PATTERN = Pattern.compile(
+        System.getProperty("context.authPattern", "(?i).*(session|auth|token|jwt|csrf|remember).*"));
+
+    private static final String CLEAR_STORAGE_SCRIPT = """
+        authPattern => {
+          const auth = new RegExp(authPattern, 'i');
+          for (const storage of [window.localStorage, window.sessionStorage]) {
+            Object.keys(storage).filter(key => !auth.test(key)).forEach(key => storage.removeItem(key));
+          }
+        }
+        """;
+
+    /**
+     * Whether context reuse is enabled at all (-Dcontext.reuse, default true)
+     */
+    public static boolean isReuseEnabled() {
+        return Boolean.parseBoolean(System.getProperty("context.reuse", "true"));
+    }
+
+    /**
+     * Role whose shared context the test should use, or null when it needs a fresh context.
+     * Method annotations win over class annotations.
+     */
+    public static String resolveRole(Class<?> testClass, Method testMethod) {
+        if (!isReuseEnabled()) {
+            return null;
+        }
+        if (testMethod != null) {
+            String role = roleOf(testMethod);
+            if (role != null || testMethod.isAnnotationPresent(IsolatedContext.class)) {
+                return role;
+            }
+        }
+        return testClass == null ? null : roleOf(testClass);
+    }
+
+    private static String roleOf(AnnotatedElement element) {
+        if (element.isAnnotationPresent(IsolatedContext.class)) {
+            return null;
+        }
+        ReuseContext reuse = element.getAnnotation(ReuseContext.class);
+        return reuse == null ? null : reuse.role();
+    }
+
+    /**
+     * Reset a reused context between tests and return the page to use next
+     * (the same page unless it was closed or crashed)
+     */
+    public static Page reset(BrowserContext context, Page page) {
+        // Close tabs / popups the previous test left behind
+        for (Page other : context.pages()) {
+            if (other != page) {
+                other.close();
+            }
+        }
+        if (page == null || page.isClosed()) {
+            page = context.newPage();
+        }
+
+        // Storage is per origin, so clear it while still on the app page
+        if (page.url().startsWith("http")) {
+            try {
+                page.evaluate(CLEAR_STORAGE_SCRIPT, AUTH_PATTERN.pattern().replace("(?i)", ""));
+            } catch (RuntimeException e) {
+                TestLogger.warn("Could not clear web storage: " + e.getMessage());
+            }
+        }
+
+        List<Cookie> authCookies = context.cookies().stream()
+            .filter(cookie -> AUTH_PATTERN.matcher(cookie.name).matches())
+            .toList();
+        context.clearCookies();
+        if (!authCookies.isEmpty()) {
+            context.addCookies(authCookies);
+        }
+        context.clearPermissions();
+
+        page.navigate("about:blank");
+        return page;
+    }
+}
@@ -0,0 +1,59 @@
+package utils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ContextSetupMetrics - Per-test setup time by context mode
+ *
+ * BaseTest records how long each @BeforeEach took to produce a ready page:
+ * - "isolated": new BrowserContext + page
+ * - "reused-first": first test of a role, context created for the pool
+ * - "reused": context taken from the pool and reset
+ *
+ * Timings are summarised at the end of each test class and appended to
+ * target/benchmarks/context-setup.csv so runs with and without -Dcontext.reuse
+ * can be compared.
+ */
+public class ContextSetupMetrics {
+
+    private static final String CSV_FILE = "context-setup.csv";
+    private static final Map<String, List<Double>> timings = new LinkedHashMap<>();
+
+    /**
+     * Record one setup
+     */
+    public static synchronized void record(String mode, String testClass, String testName, long nanos) {
+        double millis = nanos / 1_000_000.0;
+        timings.computeIfAbsent(mode, key -> new ArrayList<>()).add(millis);
+        BenchmarkCsv.append(CSV_FILE, "timestamp,mode,class,test,setupMs",
+            String.format(Locale.ROOT, "%s,%s,%s,%s,%.3f", LocalDateTime.now(), mode, testClass, BenchmarkCsv.quote(testName), millis));
+    }
+
+    /**
+     * Average / min / max setup time per mode since the last reset
+     */
+    public static synchronized String summary() {
+        StringBuilder summary = new StringBuilder("Context setup time per test:\n");
+        timings.forEach((mode, values) -> {
+            double avg = values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+            double min = values.stream().mapToDouble(Double::doubleValue).min().orElse(0);
+            double max = values.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+            summary.append(String.format("  %-13s n=%-4d avg=%8.1f ms  min=%8.1f ms  max=%8.1f ms%n",
+                mode, values.size(), avg, min, max));
+        });
+        return summary.toString();
+    }
+
+    public static synchronized boolean isEmpty() {
+        return timings.isEmpty();
+    }
+
+    public static synchronized void reset() {
+        timings.clear();
+    }
+}
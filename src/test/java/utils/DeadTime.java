@@ -0,0 +1,172 @@
+package utils;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DeadTime - Accounts for time spent in fixed sleeps (page.waitForTimeout)
+ *
+ * DeadTimeAspect reports every page.waitForTimeout / frame.waitForTimeout call with its call
+ * site ("NotificationsPage.markAllAsRead:123") and how long it actually slept. This listener
+ * (JUnit Platform, see META-INF/services) tracks the test running on each thread, and at the
+ * end of the run prints the call sites and tests ranked by total sleep time:
+ * - console: top entries (-Dsleep.report.top, default 20)
+ * - target/benchmarks/sleep-report.txt: full ranking
+ * - target/benchmarks/sleep-callsites.csv, sleep-tests.csv: one line per entry per run
+ *
+ * Flag: -Dsleep.tracking=false (no accounting)
+ */
+public class DeadTime implements TestExecutionListener {
+
+    private static final String REPORT_FILE = "sleep-report.txt";
+    private static final String OUTSIDE_TESTS = "(outside tests)";
+
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private static final ThreadLocal<long[]> threadSleptNanos = ThreadLocal.withInitial(() -> new long[1]);
+    private static final Map<String, Total> callSites = new ConcurrentHashMap<>();
+    private static final Map<String, Total> tests = new ConcurrentHashMap<>();
+    private static volatile long runStart = System.nanoTime();
+
+    /**
+     * Sleeps of one call site or test: calls, requested and actual time
+     */
+    private static class Total {
+        final LongAdder calls = new LongAdder();
+        final LongAdder requestedMs = new LongAdder();
+        final LongAdder sleptNanos = new LongAdder();
+
+        void add(long requested, long nanos) {
+            calls.increment();
+            requestedMs.add(requested);
+            sleptNanos.add(nanos);
+        }
+
+        double sleptMs() {
+            return sleptNanos.sum() / 1_000_000.0;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("sleep.tracking", "true"));
+    }
+
+    /**
+     * Record one fixed sleep for its call site and the test running on this thread
+     */
+    public static void record(String callSite, long requestedMs, long sleptNanos) {
+        String test = currentTest.get();
+        threadSleptNanos.get()[0] += sleptNanos;
+        callSites.computeIfAbsent(callSite, key -> new Total()).add(requestedMs, sleptNanos);
+        tests.computeIfAbsent(test == null ? OUTSIDE_TESTS : test, key -> new Total()).add(requestedMs, sleptNanos);
+    }
+
+    /**
+     * Fixed sleep on this thread so far (take the difference around a timed block to subtract it)
+     */
+    public static long sleptNanosOnThread() {
+        return threadSleptNanos.get()[0];
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        runStart = System.nanoTime();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            currentTest.set(testId(testIdentifier));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest()) {
+            currentTest.remove();
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (callSites.isEmpty()) {
+            return;
+        }
+        long runMs = (System.nanoTime() - runStart) / 1_000_000;
+        String timestamp = LocalDateTime.now().toString();
+        int top = Integer.getInteger("sleep.report.top", 20);
+
+        List<Map.Entry<String, Total>> rankedSites = ranked(callSites);
+        List<Map.Entry<String, Total>> rankedTests = ranked(tests);
+        double totalMs = rankedSites.stream().mapToDouble(entry -> entry.getValue().sleptMs()).sum();
+        String heading = String.format(Locale.ROOT,
+            "Fixed sleeps (page.waitForTimeout): %.1f s in %d call site(s), %.1f%% of %.1f s run time%n",
+            totalMs / 1000, rankedSites.size(), runMs == 0 ? 0 : totalMs * 100 / runMs, runMs / 1000.0);
+
+        System.out.println(heading + table("call site", rankedSites, top, totalMs)
+            + "\n" + table("test", rankedTests, top, totalMs));
+        try {
+            Path report = BenchmarkCsv.path(REPORT_FILE);
+            Files.createDirectories(report.getParent());
+            Files.writeString(report, heading + table("call site", rankedSites, Integer.MAX_VALUE, totalMs)
+                + "\n" + table("test", rankedTests, Integer.MAX_VALUE, totalMs));
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save sleep report: " + e.getMessage());
+        }
+
+        export("sleep-callsites.csv", "callSite", timestamp, rankedSites);
+        export("sleep-tests.csv", "test", timestamp, rankedTests);
+        callSites.clear();
+        tests.clear();
+    }
+
+    private static String testId(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+            .filter(MethodSource.class::isInstance)
+            .map(MethodSource.class::cast)
+            .map(source -> source.getClassName() + "#" + source.getMethodName())
+            .orElse(testIdentifier.getDisplayName());
+    }
+
+    private static List<Map.Entry<String, Total>> ranked(Map<String, Total> totals) {
+        return totals.entrySet().stream()
+            .sorted(Comparator.comparingDouble((Map.Entry<String, Total> entry) -> entry.getValue().sleptMs()).reversed())
+            .toList();
+    }
+
+    private static String table(String label, List<Map.Entry<String, Total>> ranked, int top, double totalMs) {
+        StringBuilder table = new StringBuilder(String.format("%-4s %-70s %6s %10s %6s%n",
+            "#", label, "calls", "slept ms", "share"));
+        for (int i = 0; i < Math.min(top, ranked.size()); i++) {
+            Map.Entry<String, Total> entry = ranked.get(i);
+            double sleptMs = entry.getValue().sleptMs();
+            table.append(String.format(Locale.ROOT, "%-4d %-70s %6d %10.0f %5.1f%%%n", i + 1, entry.getKey(),
+                entry.getValue().calls.sum(), sleptMs, totalMs == 0 ? 0 : sleptMs * 100 / totalMs));
+        }
+        if (ranked.size() > top) {
+            table.append(String.format("... %d more (see %s)%n", ranked.size() - top, BenchmarkCsv.path(REPORT_FILE)));
+        }
+        return table.toString();
+    }
+
+    private static void export(String file, String column, String timestamp, List<Map.Entry<String, Total>> ranked) {
+        for (Map.Entry<String, Total> entry : ranked) {
+            BenchmarkCsv.append(file, "timestamp," + column + ",calls,requestedMs,sleptMs",
+                String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f", timestamp, BenchmarkCsv.quote(entry.getKey()),
+                    entry.getValue().calls.sum(), entry.getValue().requestedMs.sum(), entry.getValue().sleptMs()));
+        }
+    }
+}
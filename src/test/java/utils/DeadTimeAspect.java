@@ -0,0 +1,34 @@
+package utils;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * DeadTimeAspect - Reports every fixed sleep to {@link DeadTime} with its call site
+ *
+ * Intercepts page.waitForTimeout / frame.waitForTimeout at the call site (compile-time woven
+ * into all test sources), so the call site is the page object, helper or test line that sleeps.
+ */
+@Aspect
+public class DeadTimeAspect {
+
+    @Around("call(void com.microsoft.playwright.Page.waitForTimeout(double))"
+        + " || call(void com.microsoft.playwright.Frame.waitForTimeout(double))")
+    public void fixedSleep(ProceedingJoinPoint joinPoint, JoinPoint.EnclosingStaticPart caller) throws Throwable {
+        if (!DeadTime.isEnabled()) {
+            joinPoint.proceed();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            joinPoint.proceed();
+        } finally {
+            String callSite = caller.getSignature().getDeclaringType().getSimpleName() + "."
+                + caller.getSignature().getName() + ":" + joinPoint.getSourceLocation().getLine();
+            long requestedMs = joinPoint.getArgs()[0] instanceof Double timeout ? timeout.longValue() : 0;
+            DeadTime.record(callSite, requestedMs, System.nanoTime() - start);
+        }
+    }
+}
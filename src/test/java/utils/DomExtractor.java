@@ -0,0 +1,146 @@
+package utils;
+
+import com.microsoft.playwright.Locator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * DomExtractor - Reads every item of a card/row list in one in-page evaluation
+ *
+ * Instead of one round trip per field per item (locator.nth(i).textContent() in a loop),
+ * a list locator plus a field mapping is evaluated once with evaluateAll:
+ *
+ * {@code
+ * DomExtractor.Fields fields = DomExtractor.fields()
+ *     .text("userName", "a.text-dark-primary")
+ *     .text("date", "small.activity-date")
+ *     .lastText("description", "div.ps-md-2.pe-2 span")
+ *     .attr("link", ".projectLink a", "href");
+ * List<Map<String, String>> rows = DomExtractor.extract(allActivityEntries, fields);
+ * List<Activity> typed = DomExtractor.extract(allActivityEntries, fields, Activity.class);
+ * }
+ *
+ * Selectors are CSS, relative to each item (null = the item itself). Texts are trimmed
+ * textContent; a field whose element is missing is "".
+ */
+public class DomExtractor {
+
+    private static final String EXTRACT_SCRIPT = """
+        (items, fields) => items.map(item => {
+          const row = {};
+          for (const field of fields) {
+            let el = item;
+            if (field.selector) {
+              if (field.last) {
+                const all = item.querySelectorAll(field.selector);
+                el = all.length ? all[all.length - 1] : null;
+              } else {
+                el = item.querySelector(field.selector);
+              }
+            }
+            let value = '';
+            if (el) {
+              value = field.attribute ? (el.getAttribute(field.attribute) || '') : (el.textContent || '');
+            }
+            row[field.name] = value.trim();
+          }
+          return row;
+        })
+        """;
+
+    /**
+     * Field mapping for an extraction (insertion order is kept)
+     */
+    public static class Fields {
+        private final List<Map<String, Object>> specs = new ArrayList<>();
+
+        /** Trimmed text of the first element matching selector (null = the item itself) */
+        public Fields text(String name, String selector) {
+            return add(name, selector, null, false);
+        }
+
+        /** Trimmed text of the last element matching selector */
+        public Fields lastText(String name, String selector) {
+            return add(name, selector, null, true);
+        }
+
+        /** Attribute value of the first element matching selector */
+        public Fields attr(String name, String selector, String attribute) {
+            return add(name, selector, attribute, false);
+        }
+
+        private Fields add(String name, String selector, String attribute, boolean last) {
+            Map<String, Object> spec = new LinkedHashMap<>();
+            spec.put("name", name);
+            spec.put("selector", selector);
+            spec.put("attribute", attribute);
+            spec.put("last", last);
+            specs.add(spec);
+            return this;
+        }
+    }
+
+    /**
+     * Start a field mapping
+     */
+    public static Fields fields() {
+        return new Fields();
+    }
+
+    /**
+     * Extract all items as maps (field name -> value), in one evaluation
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, String>> extract(Locator items, Fields fields) {
+        long start = System.nanoTime();
+        List<Map<String, String>> rows = (List<Map<String, String>>) items.evaluateAll(EXTRACT_SCRIPT, fields.specs);
+        TestLogger.debug(String.format("Extracted %d item(s) x %d field(s) in %.0f ms",
+            rows.size(), fields.specs.size(), (System.nanoTime() - start) / 1_000_000.0));
+        return rows;
+    }
+
+    /**
+     * Extract all items and map each one
+     */
+    public static <T> List<T> extract(Locator items, Fields fields, Function<Map<String, String>, T> mapper) {
+        return extract(items, fields).stream().map(mapper).toList();
+    }
+
+    /**
+     * Extract all items into a record whose String components are named like the fields
+     */
+    public static <R extends Record> List<R> extract(Locator items, Fields fields, Class<R> recordType) {
+        RecordComponent[] components = recordType.getRecordComponents();
+        Constructor<R> constructor;
+        try {
+            constructor = recordType.getDeclaredConstructor(
+                Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException("No canonical constructor on " + recordType.getName(), e);
+        }
+
+        return extract(items, fields, row -> {
+            Object[] args = Arrays.stream(components).map(component -> row.getOrDefault(component.getName(), "")).toArray();
+            try {
+                return constructor.newInstance(args);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Could not create " + recordType.getSimpleName() + " from " + row, e);
+            }
+        });
+    }
+
+    /**
+     * Trimmed text of every element matched by the locator, in one evaluation
+     */
+    public static List<String> texts(Locator elements) {
+        return elements.allTextContents().stream().map(String::trim).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package utils;
+
+import com.microsoft.playwright.Download;
+import com.microsoft.playwright.Page;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * ExportCapture - Captures a file download triggered by a click and streams it to disk
+ *
+ * Waits on the actual download event (no fixed sleep), then copies the download stream to
+ * target/downloads/ without buffering the file in memory. Generation latency is measured
+ * from the trigger to the download event; transfer time separately.
+ *
+ * Timeout: -Dexport.timeout (default 60000ms)
+ */
+public class ExportCapture {
+
+    private static final int DEFAULT_TIMEOUT_MS = 60000;
+    private static final Path DOWNLOAD_DIR = Paths.get("target", "downloads");
+
+    /**
+     * A captured download
+     *
+     * @param latencyMs  trigger to download event (server-side generation)
+     * @param transferMs streaming the file to disk
+     */
+    public record Export(String format, String suggestedFilename, Path file, long sizeBytes,
+                         long latencyMs, long transferMs) {}
+
+    /**
+     * Run trigger, wait for the download it starts and stream it to target/downloads/
+     *
+     * @param format label for logs/reports (e.g. "xlsx", "pdf")
+     */
+    public static Export capture(Page page, String format, Runnable trigger) {
+        int timeout = Integer.getInteger("export.timeout", DEFAULT_TIMEOUT_MS);
+        long start = System.nanoTime();
+        Download download;
+        try {
+            download = page.waitForDownload(new Page.WaitForDownloadOptions().setTimeout(timeout), trigger);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(String.format("No %s download started. Timeout: %dms", format, timeout), e);
+        }
+        long latencyMs = (System.nanoTime() - start) / 1_000_000;
+
+        String failure = download.failure();
+        if (failure != null) {
+            throw new RuntimeException(String.format("%s download failed: %s", format, failure));
+        }
+
+        String suggested = download.suggestedFilename();
+        Path target = DOWNLOAD_DIR.resolve(System.currentTimeMillis() + "-" + suggested.replaceAll("[\\\\/:*?\"<>|]", "_"));
+        long transferStart = System.nanoTime();
+        long size;
+        try (InputStream in = download.createReadStream()) {
+            Files.createDirectories(DOWNLOAD_DIR);
+            size = Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not save " + format + " download to " + target, e);
+        }
+        long transferMs = (System.nanoTime() - transferStart) / 1_000_000;
+
+        TestLogger.info(String.format("Captured %s export '%s': %,d bytes, generated in %d ms, streamed in %d ms",
+            format, suggested, size, latencyMs, transferMs));
+        return new Export(format, suggested, target, size, latencyMs, transferMs);
+    }
+}
@@ -0,0 +1,240 @@
+package utils;
+
+import io.qameta.allure.Allure;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ExportVerifier - Checks a captured XLSX/PDF export against the values shown on screen
+ *
+ * The export is read as rows: XlsxStreamReader rows (cells, streamed) or PDF text lines
+ * (PDFBox, sorted by position). Every displayed value must appear next to its label:
+ * - the row label must be in an exported row (a PDF label may wrap onto the next line)
+ * - numbers match when a number elsewhere in that row rounds to the displayed one at the
+ *   displayed precision (the export usually carries more decimals, and no thousand separators)
+ * - other non-empty values must appear as text in that row (case-insensitive)
+ *
+ * One line per verification (project, format, latency, size, result) is appended to
+ * target/benchmarks/exports.csv, and the extracted content is attached to Allure.
+ */
+public class ExportVerifier {
+
+    private static final Pattern NUMBER = Pattern.compile("-?\\d[\\d,]*(?:\\.\\d+)?(?:[eE][-+]?\\d+)?");
+    private static final int MAX_ATTACHMENT_CHARS = 200_000;
+
+    /**
+     * Result of comparing an export with the displayed values
+     *
+     * @param mismatches "label: displayed value" for every value not found in the export
+     */
+    public record Report(String project, ExportCapture.Export export, int valuesChecked, List<String> mismatches) {
+
+        public boolean passed() {
+            return mismatches.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s export of '%s': %d/%d value(s) matched, %,d bytes, generated in %d ms%s",
+                export.format(), project, valuesChecked - mismatches.size(), valuesChecked, export.sizeBytes(),
+                export.latencyMs(), passed() ? "" : "\nMissing: " + String.join("; ", mismatches));
+        }
+    }
+
+    /**
+     * Compare a captured export with displayed values keyed "Section / row label #n"
+     * (see BuildingSummaryTab.getDisplayedSummaryValues)
+     */
+    public static Report verify(String project, ExportCapture.Export export, Map<String, String> displayed) {
+        boolean pdf = isPdf(export);
+        List<List<String>> rows = pdf ? pdfRows(export) : xlsxRows(export);
+
+        int checked = 0;
+        List<String> mismatches = new ArrayList<>();
+        for (Map.Entry<String, String> entry : displayed.entrySet()) {
+            String value = entry.getValue() == null ? "" : entry.getValue().trim();
+            if (value.isEmpty() || "-".equals(value)) {
+                continue;
+            }
+            checked++;
+            String label = normalize(label(entry.getKey()));
+            List<String> neighbourhoods = labelRows(rows, label, pdf);
+            if (neighbourhoods.isEmpty()) {
+                mismatches.add(entry.getKey() + ": " + value + " (label not in export)");
+                continue;
+            }
+            BigDecimal expected = parse(value);
+            String expectedText = normalize(value);
+            boolean found = neighbourhoods.stream().anyMatch(text -> expected != null
+                ? numbers(text).stream().anyMatch(number -> matches(number, expected))
+                : text.contains(expectedText));
+            if (!found) {
+                mismatches.add(entry.getKey() + ": " + value);
+            }
+        }
+
+        StringBuilder exportedText = new StringBuilder();
+        rows.forEach(row -> exportedText.append(String.join(" | ", row)).append('\n'));
+        Report report = new Report(project, export, checked, mismatches);
+        record(report);
+        Allure.addAttachment(String.format("%s export content (%s)", export.format().toUpperCase(Locale.ROOT),
+            export.suggestedFilename()), "text/plain", truncate(exportedText.toString()), ".txt");
+        if (report.passed()) {
+            TestLogger.info(report.toString());
+        } else {
+            TestLogger.warn(report.toString());
+        }
+        return report;
+    }
+
+    /**
+     * Text of every exported row holding the label, without the label itself (normalized)
+     */
+    private static List<String> labelRows(List<List<String>> rows, String label, boolean pdf) {
+        List<String> found = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> cells = rows.get(i);
+            String line = normalize(String.join(" ", cells));
+            if (!pdf) {
+                // Cells other than the label cell
+                if (cells.stream().anyMatch(cell -> normalize(cell).contains(label))) {
+                    found.add(normalize(String.join(" ", cells.stream()
+                        .filter(cell -> !normalize(cell).contains(label)).toList())));
+                }
+            } else if (line.contains(label)) {
+                found.add(line.replace(label, " "));
+            } else if (i > 0) {
+                // Label wrapped onto this line
+                String wrapped = normalize(String.join(" ", rows.get(i - 1)) + " " + line);
+                if (wrapped.contains(label)) {
+                    found.add(wrapped.replace(label, " "));
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Row label of a displayed key ("Emissions / Scope 1 #2" -> "Scope 1")
+     */
+    private static String label(String key) {
+        int section = key.indexOf(" / ");
+        int column = key.lastIndexOf(" #");
+        return key.substring(section < 0 ? 0 : section + 3, column > section ? column : key.length());
+    }
+
+    private static boolean isPdf(ExportCapture.Export export) {
+        String name = export.suggestedFilename().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".xlsx") || "xlsx".equalsIgnoreCase(export.format())) {
+            return false;
+        }
+        if (name.endsWith(".pdf") || "pdf".equalsIgnoreCase(export.format())) {
+            return true;
+        }
+        throw new RuntimeException("Unsupported export format: " + export.suggestedFilename());
+    }
+
+    /**
+     * Non-blank cells of every non-empty XLSX row
+     */
+    private static List<List<String>> xlsxRows(ExportCapture.Export export) {
+        List<List<String>> rows = new ArrayList<>();
+        XlsxStreamReader.forEachRow(export.file(), (sheet, row) -> {
+            List<String> cells = row.stream().filter(cell -> !cell.isBlank()).toList();
+            if (!cells.isEmpty()) {
+                rows.add(cells);
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * Text lines of a PDF (one single-cell row per line, in reading order)
+     */
+    private static List<List<String>> pdfRows(ExportCapture.Export export) {
+        String text;
+        try (PDDocument document = Loader.loadPDF(export.file().toFile())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            text = stripper.getText(document);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read PDF export " + export.file() + ": " + e.getMessage(), e);
+        }
+        List<List<String>> rows = new ArrayList<>();
+        for (String line : text.split("\\R")) {
+            if (!line.isBlank()) {
+                rows.add(List.of(line.trim()));
+            }
+        }
+        return rows;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * Displayed value as a number ("1,234.56" -> 1234.56), or null if it is not purely numeric
+     */
+    private static BigDecimal parse(String displayed) {
+        String cleaned = displayed.replace(",", "").replace(" ", "");
+        try {
+            return new BigDecimal(cleaned);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Every number in an exported value (a cell may hold a bare value or text with numbers)
+     */
+    private static List<BigDecimal> numbers(String value) {
+        List<BigDecimal> numbers = new ArrayList<>();
+        BigDecimal whole = parse(value.trim());
+        if (whole != null) {
+            numbers.add(whole);
+            return numbers;
+        }
+        Matcher matcher = NUMBER.matcher(value);
+        while (matcher.find()) {
+            BigDecimal number = parse(matcher.group());
+            if (number != null) {
+                numbers.add(number);
+            }
+        }
+        return numbers;
+    }
+
+    private static boolean matches(BigDecimal exported, BigDecimal displayed) {
+        int scale = Math.max(displayed.scale(), 0);
+        return exported.setScale(scale, RoundingMode.HALF_UP).compareTo(displayed) == 0
+            || exported.compareTo(displayed) == 0;
+    }
+
+    private static String truncate(String text) {
+        return text.length() <= MAX_ATTACHMENT_CHARS ? text
+            : text.substring(0, MAX_ATTACHMENT_CHARS) + "\n... (truncated)";
+    }
+
+    private static void record(Report report) {
+        ExportCapture.Export export = report.export();
+        BenchmarkCsv.append("exports.csv",
+            "timestamp,project,format,file,sizeBytes,latencyMs,transferMs,valuesChecked,mismatches",
+            String.format(Locale.ROOT, "%s,%s,%s,%s,%d,%d,%d,%d,%d", LocalDateTime.now(),
+                BenchmarkCsv.quote(report.project()), export.format(), BenchmarkCsv.quote(export.suggestedFilename()),
+                export.sizeBytes(), export.latencyMs(), export.transferMs(), report.valuesChecked(),
+                report.mismatches().size()));
+    }
+}
@@ -0,0 +1,148 @@
+package utils;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * FailedTestRecorder - Saves the IDs of failing tests so they can be rerun with -Drerun=failed
+ *
+ * Registered as a JUnit Platform listener (META-INF/services). IDs are "ClassName#methodName"
+ * (all invocations of a parameterized test share one ID) and are kept in
+ * test-results/failed-tests.txt (-Drerun.file to change it), which survives mvn clean.
+ *
+ * The file is merged, not overwritten: tests that ran and passed are removed, tests that
+ * failed are added, tests that did not run this time are kept. So a partial rerun
+ * (-Dtest=..., -Drerun=failed) only clears what it actually fixed.
+ *
+ * In a cross-browser matrix run the engines' class loaders only collect their results;
+ * BrowserMatrixRunner merges them (a test failing on any engine counts as failed) and
+ * saves the file once.
+ */
+public class FailedTestRecorder implements TestExecutionListener {
+
+    private static final Set<String> failed = Collections.synchronizedSet(new LinkedHashSet<>());
+    private static final Set<String> executed = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        failed.clear();
+        executed.clear();
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (!testIdentifier.isTest()) {
+            return;
+        }
+        String id = testId(testIdentifier.getSource().orElse(null));
+        if (id == null) {
+            return;
+        }
+        executed.add(id);
+        if (testExecutionResult.getStatus() != TestExecutionResult.Status.SUCCESSFUL) {
+            failed.add(id);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (executed.isEmpty() || BrowserManager.isMatrixRun()) {
+            return;
+        }
+        save(executedTests(), failedTests());
+    }
+
+    /**
+     * IDs of the tests that ran in the last test plan (JDK types, for the matrix runner)
+     */
+    public static Set<String> executedTests() {
+        synchronized (executed) {
+            return new TreeSet<>(executed);
+        }
+    }
+
+    /**
+     * IDs of the tests that did not pass in the last test plan
+     */
+    public static Set<String> failedTests() {
+        synchronized (failed) {
+            return new TreeSet<>(failed);
+        }
+    }
+
+    /**
+     * Merge one run's results into the failed-tests file
+     */
+    public static void save(Set<String> executed, Set<String> failed) {
+        Set<String> merged = new TreeSet<>(load());
+        merged.removeAll(executed);
+        merged.addAll(failed);
+
+        try {
+            Path file = file();
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, merged);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save failed tests: " + e.getMessage());
+            return;
+        }
+
+        if (!failed.isEmpty()) {
+            System.out.println(String.format("🔁 %d failed test(s) saved to %s - rerun with -Drerun=failed",
+                merged.size(), file().toAbsolutePath()));
+        }
+    }
+
+    /**
+     * "ClassName#methodName" for a test source, null for non-method sources
+     */
+    public static String testId(TestSource source) {
+        if (source instanceof MethodSource methodSource) {
+            return methodSource.getClassName() + "#" + methodSource.getMethodName();
+        }
+        return null;
+    }
+
+    /**
+     * IDs saved by previous runs (empty if there is no file yet)
+     */
+    public static Set<String> load() {
+        Path file = file();
+        if (!Files.exists(file)) {
+            return Collections.emptySet();
+        }
+        try {
+            Set<String> ids = new LinkedHashSet<>();
+            for (String line : Files.readAllLines(file)) {
+                if (!line.isBlank()) {
+                    ids.add(line.trim());
+                }
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read failed tests from " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Location of the failed-tests file
+     */
+    public static Path file() {
+        return Paths.get(System.getProperty("rerun.file", "test-results/failed-tests.txt"));
+    }
+}
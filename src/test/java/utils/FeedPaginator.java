@@ -0,0 +1,195 @@
+package utils;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * FeedPaginator - Condition-driven "View more" pagination for feeds (activity log, notifications)
+ *
+ * After each click it waits for the next entry to be attached (entries.nth(previousCount)) instead
+ * of sleeping, and stops as soon as the target count is reached, "View more" disappears or the
+ * click limit is hit. A click that adds nothing within the timeout (-Dpagination.timeout,
+ * default 15000ms) ends loading if the button is gone, and fails otherwise.
+ *
+ * loadUntil also watches the page's fetch/XHR requests: when a click added no entries and no
+ * request has been pending for -Dpagination.quietMs (default 500ms), the feed has nothing more
+ * to load (the button may stay visible on the last page) and loading ends instead of failing.
+ *
+ * Every load is logged with pages/second and appended to target/benchmarks/pagination.csv.
+ */
+public class FeedPaginator {
+
+    private static final int DEFAULT_TIMEOUT_MS = 15000;
+    private static final int POLL_MS = 250;
+
+    /**
+     * Outcome of a pagination run
+     */
+    public record Result(String feed, int pagesLoaded, int entries, long elapsedMs, String stopReason) {
+
+        public double pagesPerSecond() {
+            return elapsedMs == 0 ? 0 : pagesLoaded * 1000.0 / elapsedMs;
+        }
+    }
+
+    /**
+     * Click "View more" once and wait until more entries are attached
+     *
+     * @return the new entry count (unchanged if the button was not visible)
+     */
+    public static int clickViewMore(Page page, Locator entries, Locator viewMoreButton) {
+        return clickViewMore(entries, viewMoreButton, null);
+    }
+
+    private static int clickViewMore(Locator entries, Locator viewMoreButton, PendingRequests requests) {
+        int before = entries.count();
+        if (!viewMoreButton.isVisible()) {
+            return before;
+        }
+        viewMoreButton.scrollIntoViewIfNeeded();
+        if (requests != null) {
+            requests.touch();
+        }
+        viewMoreButton.click();
+        return waitForGrowth(entries, viewMoreButton, before, requests);
+    }
+
+    /**
+     * Click "View more" until targetCount entries are loaded, the button disappears,
+     * or maxClicks is reached
+     */
+    public static Result loadUntil(Page page, String feed, Locator entries, Locator viewMoreButton,
+                                   int targetCount, int maxClicks) {
+        page.waitForLoadState();
+        long start = System.nanoTime();
+        int pages = 0;
+        int count = entries.count();
+        String reason;
+
+        try (PendingRequests requests = new PendingRequests(page)) {
+            while (true) {
+                if (count >= targetCount) {
+                    reason = "target reached";
+                    break;
+                }
+                if (!viewMoreButton.isVisible()) {
+                    reason = "all loaded";
+                    break;
+                }
+                if (pages >= maxClicks) {
+                    reason = "click limit";
+                    break;
+                }
+                int before = count;
+                count = clickViewMore(entries, viewMoreButton, requests);
+                if (count == before) {
+                    reason = "end of feed";
+                    break;
+                }
+                pages++;
+            }
+        }
+
+        Result result = new Result(feed, pages, count, (System.nanoTime() - start) / 1_000_000, reason);
+        record(result);
+        return result;
+    }
+
+    /**
+     * Wait until more than previousCount entries are attached; returns the unchanged count if
+     * "View more" went away, or (when requests are tracked) nothing was pending for the quiet period
+     */
+    private static int waitForGrowth(Locator entries, Locator viewMoreButton, int previousCount,
+                                     PendingRequests requests) {
+        int timeout = Integer.getInteger("pagination.timeout", DEFAULT_TIMEOUT_MS);
+        int quietMs = Integer.getInteger("pagination.quietMs", 500);
+        long deadline = System.nanoTime() + timeout * 1_000_000L;
+        while (true) {
+            long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+            try {
+                entries.nth(previousCount).waitFor(new Locator.WaitForOptions()
+                    .setState(WaitForSelectorState.ATTACHED)
+                    .setTimeout(Math.max(1, Math.min(POLL_MS, remainingMs))));
+                return entries.count();
+            } catch (PlaywrightException e) {
+                if (!viewMoreButton.isVisible()) {
+                    return entries.count();
+                }
+                if (requests != null && requests.isQuiet(quietMs)) {
+                    TestLogger.debug(String.format("'View more' added no entries and no request is pending: "
+                        + "end of feed at %d entries", previousCount));
+                    return entries.count();
+                }
+                if (System.nanoTime() >= deadline) {
+                    throw new RuntimeException(String.format(
+                        "Timeout waiting for more entries after 'View more'. Count stayed at %d, Timeout: %dms",
+                        previousCount, timeout), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fetch/XHR requests of a page that started and have not finished or failed yet
+     */
+    private static final class PendingRequests implements AutoCloseable {
+        private final Page page;
+        private final Set<Request> pending = ConcurrentHashMap.newKeySet();
+        private volatile long lastActivity = System.nanoTime();
+        private final Consumer<Request> started = request -> {
+            String type = request.resourceType();
+            if ("fetch".equals(type) || "xhr".equals(type)) {
+                pending.add(request);
+                touch();
+            }
+        };
+        private final Consumer<Request> done = request -> {
+            if (pending.remove(request)) {
+                touch();
+            }
+        };
+
+        PendingRequests(Page page) {
+            this.page = page;
+            page.onRequest(started);
+            page.onRequestFinished(done);
+            page.onRequestFailed(done);
+        }
+
+        void touch() {
+            lastActivity = System.nanoTime();
+        }
+
+        /**
+         * Nothing pending and no request started or ended for quietMs
+         */
+        boolean isQuiet(int quietMs) {
+            return pending.isEmpty() && System.nanoTime() - lastActivity >= quietMs * 1_000_000L;
+        }
+
+        @Override
+        public void close() {
+            page.offRequest(started);
+            page.offRequestFinished(done);
+            page.offRequestFailed(done);
+        }
+    }
+
+    private static void record(Result result) {
+        TestLogger.info(String.format("Loaded %d page(s) of %s in %d ms (%.2f pages/s, %d entries, %s)",
+            result.pagesLoaded(), result.feed(), result.elapsedMs(), result.pagesPerSecond(),
+            result.entries(), result.stopReason()));
+        BenchmarkCsv.append("pagination.csv", "timestamp,feed,pages,entries,elapsedMs,pagesPerSecond,stopReason",
+            String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.3f,%s", LocalDateTime.now(), result.feed(),
+                result.pagesLoaded(), result.entries(), result.elapsedMs(), result.pagesPerSecond(), result.stopReason()));
+    }
+}
@@ -0,0 +1,176 @@
+package utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.List;
+
+/**
+ * FlightRecorder - Optional JFR recording per test class with framework events
+ *
+ * With -Djfr=true, BaseTest records target/jfr/{TestClass}.jfr from its first to its last test
+ * (target/jfr/{TestClass}-{engine}.jfr in a cross-browser matrix run).
+ * Besides the JVM events of the settings (-Djfr.settings, default "profile": CPU samples,
+ * allocations, locks, socket/file I/O including the Playwright driver pipe), the recording holds
+ * events from {@link FlightRecorderAspect}:
+ * - gnfz.Step: an @AutoStep method including its Allure step and logging
+ * - gnfz.Wait: a WaitHelper call
+ * - gnfz.Input: an InputHelper call
+ * - gnfz.Attachment: an Allure attachment write
+ * each with the page object (class and method) it ran in. Open the file with JDK Mission
+ * Control or `jfr print --events gnfz.Step target/jfr/BuildingProjectTest.jfr`.
+ */
+public class FlightRecorder {
+
+    private static final String OUTPUT_DIR = "target/jfr";
+
+    private static volatile boolean recording;
+    private static Recording current;
+    private static Path currentFile;
+
+    @Name("gnfz.Step")
+    @Label("Page Object Step")
+    @Category("GNFZ")
+    @Description("@AutoStep method including its Allure step and logging")
+    @StackTrace(false)
+    public static class StepEvent extends Event {
+        @Label("Step")
+        public String step;
+
+        @Label("Page Object")
+        public String pageObject;
+
+        @Label("Method")
+        public String method;
+
+        @Label("Failed")
+        public boolean failed;
+    }
+
+    @Name("gnfz.Wait")
+    @Label("Wait")
+    @Category("GNFZ")
+    @Description("WaitHelper call")
+    @StackTrace(false)
+    public static class WaitEvent extends Event {
+        @Label("Wait")
+        public String waitFor;
+
+        @Label("Page Object")
+        public String pageObject;
+
+        @Label("Method")
+        public String method;
+
+        @Label("Failed")
+        public boolean failed;
+    }
+
+    @Name("gnfz.Input")
+    @Label("Input")
+    @Category("GNFZ")
+    @Description("InputHelper call")
+    @StackTrace(false)
+    public static class InputEvent extends Event {
+        @Label("Input")
+        public String input;
+
+        @Label("Page Object")
+        public String pageObject;
+
+        @Label("Method")
+        public String method;
+
+        @Label("Failed")
+        public boolean failed;
+    }
+
+    @Name("gnfz.Attachment")
+    @Label("Allure Attachment")
+    @Category("GNFZ")
+    @Description("Allure attachment write")
+    @StackTrace(false)
+    public static class AttachmentEvent extends Event {
+        @Label("Attachment")
+        public String name;
+
+        @Label("Type")
+        public String type;
+
+        @Label("Page Object")
+        public String pageObject;
+
+        @Label("Method")
+        public String method;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("jfr", "false"));
+    }
+
+    /**
+     * True while a recording is running (the aspect skips event creation otherwise)
+     */
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Start recording a test class (no-op unless -Djfr=true)
+     */
+    public static synchronized void start(Class<?> testClass) {
+        if (!isEnabled() || current != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(Paths.get(OUTPUT_DIR));
+            Configuration settings = Configuration.getConfiguration(System.getProperty("jfr.settings", "profile"));
+            current = new Recording(settings);
+            current.setName(testClass.getSimpleName());
+            current.setToDisk(true);
+            for (Class<? extends Event> event : List.of(StepEvent.class, WaitEvent.class, InputEvent.class,
+                    AttachmentEvent.class)) {
+                current.enable(event);
+            }
+            // Matrix engines record the same classes concurrently
+            String suffix = BrowserManager.isMatrixRun() ? "-" + BrowserManager.getBrowserName() : "";
+            currentFile = Paths.get(OUTPUT_DIR, testClass.getSimpleName() + suffix + ".jfr");
+            current.start();
+            recording = true;
+        } catch (IOException | ParseException e) {
+            current = null;
+            TestLogger.warn("Could not start JFR recording: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop the running recording and write it to target/jfr
+     */
+    public static synchronized void stop() {
+        if (current == null) {
+            return;
+        }
+        recording = false;
+        try {
+            current.stop();
+            current.dump(currentFile);
+            System.out.println("💾 JFR recording saved: " + currentFile.toAbsolutePath());
+        } catch (IOException e) {
+            TestLogger.warn("Could not write JFR recording: " + e.getMessage());
+        } finally {
+            current.close();
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package utils;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.DeclarePrecedence;
+
+/**
+ * FlightRecorderAspect - Emits {@link FlightRecorder} JFR events around framework calls
+ *
+ * Runs outside AutoStepAspect, so a gnfz.Step event covers the Allure step, logging and
+ * timing wrappers as well as the page object method itself. Waits, input and attachments
+ * are intercepted at the call site so the event names the page object that made the call.
+ * Does nothing unless a recording is running (-Djfr=true).
+ */
+@Aspect
+@DeclarePrecedence("utils.FlightRecorderAspect, utils.AutoStepAspect")
+public class FlightRecorderAspect {
+
+    @Around("execution(@utils.AutoStep * *(..))")
+    public Object stepEvent(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!FlightRecorder.isRecording()) {
+            return joinPoint.proceed();
+        }
+        FlightRecorder.StepEvent event = new FlightRecorder.StepEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.pageObject = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            event.method = joinPoint.getSignature().getName();
+            event.step = event.pageObject + "." + event.method;
+            event.commit();
+        }
+    }
+
+    @Around("call(public static * utils.WaitHelper.*(..)) && !within(utils.WaitHelper)")
+    public Object waitEvent(ProceedingJoinPoint joinPoint, JoinPoint.EnclosingStaticPart caller) throws Throwable {
+        if (!FlightRecorder.isRecording()) {
+            return joinPoint.proceed();
+        }
+        FlightRecorder.WaitEvent event = new FlightRecorder.WaitEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.waitFor = joinPoint.getSignature().getName();
+            event.pageObject = caller.getSignature().getDeclaringType().getSimpleName();
+            event.method = caller.getSignature().getName();
+            event.commit();
+        }
+    }
+
+    @Around("call(public static * utils.InputHelper.*(..)) && !within(utils.InputHelper)")
+    public Object inputEvent(ProceedingJoinPoint joinPoint, JoinPoint.EnclosingStaticPart caller) throws Throwable {
+        if (!FlightRecorder.isRecording()) {
+            return joinPoint.proceed();
+        }
+        FlightRecorder.InputEvent event = new FlightRecorder.InputEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.input = joinPoint.getSignature().getName();
+            event.pageObject = caller.getSignature().getDeclaringType().getSimpleName();
+            event.method = caller.getSignature().getName();
+            event.commit();
+        }
+    }
+
+    @Around("call(* io.qameta.allure.Allure.addAttachment(..)) && !within(utils.FlightRecorderAspect)")
+    public Object attachmentEvent(ProceedingJoinPoint joinPoint, JoinPoint.EnclosingStaticPart caller) throws Throwable {
+        if (!FlightRecorder.isRecording()) {
+            return joinPoint.proceed();
+        }
+        FlightRecorder.AttachmentEvent event = new FlightRecorder.AttachmentEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Object[] args = joinPoint.getArgs();
+            event.name = args.length > 0 ? String.valueOf(args[0]) : "";
+            event.type = args.length > 2 && args[1] instanceof String type ? type : "";
+            event.pageObject = caller.getSignature().getDeclaringType().getSimpleName();
+            event.method = caller.getSignature().getName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.StatusDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.opentest4j.TestAbortedException;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * FreshContextRetry - Optional in-JVM retry of a failed test in a brand-new BrowserContext
+ *
+ * Enabled with -Dretry.count=N (default 0 = off). When a test method fails, the test
+ * instance is asked to throw away its context ({@link Restartable#restartInFreshContext})
+ * and the method is run again, up to N more times. Each retry repeats the test's own
+ * lifecycle: the @AfterEach methods of the failed attempt, the restart, then the @BeforeEach
+ * methods (e.g. a subclass's login) and the test method. Lifecycle methods of the class that
+ * implements the restart (and its superclasses) are not repeated - the restart does their
+ * work - and JUnit runs all @AfterEach methods once after the last attempt. The failed
+ * attempt's trace is saved separately.
+ *
+ * Retried methods are invoked directly (parameters resolved by JUnit), so another
+ * InvocationInterceptor would only wrap the first attempt. BaseTest registers this one on
+ * the base class, which makes it the outermost (and currently the only) interceptor.
+ *
+ * Allure: every retry gets a step "Retry n/N in fresh context" with the previous failure
+ * attached, the test is tagged "retried", and a test that passes after a retry is
+ * marked flaky.
+ */
+public class FreshContextRetry implements InvocationInterceptor {
+
+    /**
+     * Implemented by test base classes that can swap their context mid-test
+     */
+    public interface Restartable {
+        void restartInFreshContext(String testName, int failedAttempt);
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        runWithRetries(invocation, invocationContext, extensionContext);
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        runWithRetries(invocation, invocationContext, extensionContext);
+    }
+
+    /**
+     * Number of retries after the first failure (-Dretry.count)
+     */
+    public static int maxRetries() {
+        return Math.max(0, Integer.getInteger("retry.count", 0));
+    }
+
+    private void runWithRetries(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                ExtensionContext extensionContext) throws Throwable {
+        int retries = maxRetries();
+        Object target = invocationContext.getTarget().orElse(null);
+        if (retries == 0 || !(target instanceof Restartable restartable)) {
+            invocation.proceed();
+            return;
+        }
+
+        Throwable failure;
+        try {
+            invocation.proceed();
+            return;
+        } catch (TestAbortedException e) {
+            throw e;
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        String testName = extensionContext.getDisplayName();
+        Allure.label("tag", "retried");
+        for (int attempt = 1; attempt <= retries; attempt++) {
+            TestLogger.warn(String.format("✗ Attempt %d of '%s' failed: %s - retrying in a fresh context (%d/%d)",
+                attempt, testName, failure.getMessage(), attempt, retries));
+            Allure.addAttachment("Attempt " + attempt + " failure", "text/plain", stackTrace(failure), ".txt");
+            runLifecycle(AfterEach.class, target, extensionContext);
+            restartable.restartInFreshContext(testName, attempt);
+
+            Throwable retryFailure = null;
+            try {
+                final Throwable previous = failure;
+                Allure.step(String.format("Retry %d/%d in fresh context", attempt, retries), () -> {
+                    TestLogger.info("Previous failure: " + previous.getMessage());
+                    runLifecycle(BeforeEach.class, target, extensionContext);
+                    invokeAgain(invocationContext);
+                });
+            } catch (Throwable e) {
+                retryFailure = e;
+            }
+
+            if (retryFailure == null) {
+                TestLogger.warn(String.format("'%s' passed on retry %d - marked flaky", testName, attempt));
+                Allure.getLifecycle().updateTestCase(result -> result.setStatusDetails(
+                    (result.getStatusDetails() != null ? result.getStatusDetails() : new StatusDetails()).setFlaky(true)));
+                return;
+            }
+            retryFailure.addSuppressed(failure);
+            failure = retryFailure;
+        }
+        throw failure;
+    }
+
+    /**
+     * Run the @BeforeEach (top-down) or @AfterEach (bottom-up) methods declared below the class
+     * implementing restartInFreshContext. A failing @AfterEach of a failed attempt is only logged.
+     */
+    private static void runLifecycle(Class<? extends Annotation> lifecycle, Object target,
+                                     ExtensionContext extensionContext) throws Throwable {
+        Class<?> restartClass = target.getClass()
+            .getMethod("restartInFreshContext", String.class, int.class).getDeclaringClass();
+        boolean before = lifecycle == BeforeEach.class;
+        List<Method> methods = AnnotationSupport.findAnnotatedMethods(target.getClass(), lifecycle,
+            before ? HierarchyTraversalMode.TOP_DOWN : HierarchyTraversalMode.BOTTOM_UP);
+        for (Method method : methods) {
+            if (method.getDeclaringClass().isAssignableFrom(restartClass)) {
+                continue;
+            }
+            try {
+                extensionContext.getExecutableInvoker().invoke(method, target);
+            } catch (Throwable e) {
+                if (before) {
+                    throw e;
+                }
+                TestLogger.warn("@AfterEach " + method.getName() + " of the failed attempt failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void invokeAgain(ReflectiveInvocationContext<Method> invocationContext) throws Throwable {
+        Method method = invocationContext.getExecutable();
+        method.setAccessible(true);
+        try {
+            method.invoke(invocationContext.getTarget().orElse(null), invocationContext.getArguments().toArray());
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String stackTrace(Throwable throwable) {
+        StringWriter writer = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
@@ -0,0 +1,152 @@
+package utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ImpactMap - Records which page-object and step methods each test calls
+ *
+ * BaseTest marks the test running on the current thread; AutoStepAspect reports every
+ * @AutoStep method it intercepts. At the end of the run (JUnit Platform listener, see
+ * META-INF/services) the map is merged into test-results/impact-map.json
+ * (-Dimpact.file to change it): tests that passed replace their entry, tests that did not pass
+ * add to it (a failure can end the test before the methods it normally calls), others are kept.
+ * All invocations of a parameterized or repeated test add to one entry.
+ *
+ * Format: { "tests.login.LoginTest#testValidLogin": ["pages.authentication.LoginPage#enterEmail", ...] }
+ *
+ * {@link ImpactSelector} uses the map to run only the tests affected by a change.
+ * In a cross-browser matrix run BrowserMatrixRunner merges the engines' maps and saves once.
+ */
+public class ImpactMap implements TestExecutionListener {
+
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private static final Map<String, Set<String>> recorded = new ConcurrentHashMap<>();
+    private static final Set<String> notPassed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Start recording for a test on this thread
+     */
+    public static void begin(String testId) {
+        currentTest.set(testId);
+        recorded.computeIfAbsent(testId, id -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Stop recording on this thread
+     */
+    public static void end() {
+        currentTest.remove();
+    }
+
+    /**
+     * Record a page-object/step method ("pages.x.SomePage#method") for the current test
+     */
+    public static void touch(String declaringType, String methodName) {
+        String testId = currentTest.get();
+        if (testId != null) {
+            Set<String> methods = recorded.get(testId);
+            if (methods != null) {
+                methods.add(declaringType + "#" + methodName);
+            }
+        }
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        recorded.clear();
+        notPassed.clear();
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest() && testExecutionResult.getStatus() != TestExecutionResult.Status.SUCCESSFUL) {
+            String id = FailedTestRecorder.testId(testIdentifier.getSource().orElse(null));
+            if (id != null) {
+                notPassed.add(id);
+            }
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (recorded.isEmpty() || BrowserManager.isMatrixRun()) {
+            return;
+        }
+        save(snapshot(), new TreeSet<>(notPassed));
+    }
+
+    /**
+     * Copy of the methods recorded per test in this run (JDK types, for the matrix runner)
+     */
+    public static Map<String, Set<String>> snapshot() {
+        Map<String, Set<String>> copy = new TreeMap<>();
+        recorded.forEach((test, methods) -> copy.put(test, new TreeSet<>(methods)));
+        return copy;
+    }
+
+    /**
+     * Merge one run's entries into the saved map (passed tests replace their entry, not passed add to it)
+     */
+    public static void save(Map<String, Set<String>> run, Set<String> notPassedTests) {
+        Map<String, Set<String>> merged = new TreeMap<>(load());
+        run.forEach((test, methods) -> {
+            Set<String> entry = new TreeSet<>(methods);
+            if (notPassedTests.contains(test)) {
+                entry.addAll(merged.getOrDefault(test, Set.of()));
+            }
+            merged.put(test, entry);
+        });
+
+        try {
+            Path file = file();
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            mapper.writeValue(file.toFile(), merged);
+            System.out.println("🗺️ Impact map updated: " + merged.size() + " test(s) in " + file.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save impact map: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Saved map from previous runs (empty if none)
+     */
+    public static Map<String, Set<String>> load() {
+        Path file = file();
+        if (!Files.exists(file)) {
+            return Collections.emptyMap();
+        }
+        try {
+            return mapper.readValue(file.toFile(), new TypeReference<LinkedHashMap<String, Set<String>>>() {});
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read impact map " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Location of the impact map file
+     */
+    public static Path file() {
+        return Paths.get(System.getProperty("impact.file", "test-results/impact-map.json"));
+    }
+}
@@ -0,0 +1,255 @@
+package utils;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * ImpactSelector - Runs only the tests affected by a set of changed files
+ *
+ * Changed files come from -Dimpact.changed=a.java,b.java or -Dimpact.diff=&lt;git range&gt;
+ * (e.g. origin/main...HEAD, or HEAD for uncommitted changes). A test is selected when:
+ * - it called a method of an affected class in its last recorded run ({@link ImpactMap}), or
+ * - its own class is affected, or
+ * - it is not in the impact map yet (never recorded, so unknown)
+ *
+ * Affected classes are the changed classes plus the classes whose source references a
+ * changed utility, transitively (a change to InputHelper affects the page objects that use
+ * it, and so the tests that call those page objects). Page objects and steps with @AutoStep
+ * methods are not expanded this way - the recorded map already says which tests use them,
+ * so a change to Scope3TableK only selects the tests that called it. Build / framework files
+ * (pom.xml, aop.xml, BaseTest, ...) select everything; documentation selects nothing.
+ *
+ * Usage:
+ *   mvn test -Dimpact.diff=origin/main...HEAD
+ *   mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=utils.ImpactSelector -Dexec.args="origin/main...HEAD"
+ */
+public class ImpactSelector implements PostDiscoveryFilter {
+
+    private static final Path SOURCE_ROOT = Paths.get("src/test/java");
+    private static final List<String> RUN_ALL_PATTERNS = List.of(
+        "pom.xml", "META-INF/", "tests/base/", "launch-profiles.json", "allure.properties");
+    private static final List<String> IGNORED_SUFFIXES = List.of(".md", ".txt", ".sh", ".gitignore");
+
+    private Selection selection;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (System.getProperty("impact.changed") == null && System.getProperty("impact.diff") == null) {
+            return FilterResult.included("impact selection off");
+        }
+        String id = FailedTestRecorder.testId(descriptor.getSource().orElse(null));
+        if (id == null) {
+            return FilterResult.included("container");
+        }
+        if (selection == null) {
+            selection = select(changedFiles());
+            TestLogger.info(selection.describe());
+        }
+        return selection.includes(id)
+            ? FilterResult.included("affected by change")
+            : FilterResult.excluded("not affected by change");
+    }
+
+    /**
+     * Print the affected classes and selected tests for a git range or list of files
+     */
+    public static void main(String[] args) {
+        List<String> changed;
+        if (args.length == 0) {
+            changed = changedFiles();
+        } else if (args.length == 1 && !args[0].contains(".java") && !Files.exists(Paths.get(args[0]))) {
+            changed = gitDiff(args[0]);
+        } else {
+            changed = Arrays.asList(args);
+        }
+        Selection result = select(changed);
+        System.out.println(result.describe());
+        result.selectedTests().forEach(test -> System.out.println("  " + test));
+    }
+
+    /**
+     * Changed files from -Dimpact.changed, else from git diff -Dimpact.diff
+     */
+    public static List<String> changedFiles() {
+        String changed = System.getProperty("impact.changed");
+        if (changed != null) {
+            return Arrays.stream(changed.split(",")).map(String::trim).filter(path -> !path.isEmpty()).toList();
+        }
+        return gitDiff(System.getProperty("impact.diff", "HEAD"));
+    }
+
+    /**
+     * Files changed in a git range (git diff --name-only)
+     */
+    public static List<String> gitDiff(String range) {
+        try {
+            Process process = new ProcessBuilder("git", "diff", "--name-only", range).redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (process.waitFor() != 0) {
+                throw new RuntimeException("git diff --name-only " + range + " failed: " + output.trim());
+            }
+            return output.lines().map(String::trim).filter(line -> !line.isEmpty()).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not run git diff: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running git diff", e);
+        }
+    }
+
+    /**
+     * Compute the selection for a list of changed paths
+     */
+    public static Selection select(List<String> changedFiles) {
+        Map<String, String> sources = readSources();
+        Map<String, Set<String>> impactMap = ImpactMap.load();
+        boolean runAll = false;
+        Deque<String> pending = new ArrayDeque<>();
+        Set<String> affected = new TreeSet<>();
+
+        for (String file : changedFiles) {
+            String normalized = file.replace('\\', '/');
+            if (IGNORED_SUFFIXES.stream().anyMatch(normalized::endsWith)) {
+                continue;
+            }
+            if (RUN_ALL_PATTERNS.stream().anyMatch(normalized::contains)) {
+                runAll = true;
+                continue;
+            }
+            int root = normalized.indexOf("src/test/java/");
+            if (root >= 0 && normalized.endsWith(".java")) {
+                String className = normalized.substring(root + "src/test/java/".length(), normalized.length() - 5).replace('/', '.');
+                if (affected.add(className)) {
+                    pending.add(className);
+                }
+            } else {
+                // Data and resource files: affect the classes that mention the file name
+                String fileName = normalized.substring(normalized.lastIndexOf('/') + 1);
+                sources.forEach((className, source) -> {
+                    if (source.contains(fileName) && affected.add(className)) {
+                        pending.add(className);
+                    }
+                });
+            }
+        }
+
+        // Propagate utility changes to the classes that use them. Page objects and steps with
+        // @AutoStep methods don't propagate: the impact map already knows who calls them
+        while (!pending.isEmpty()) {
+            String className = pending.poll();
+            if (!propagates(className, sources.getOrDefault(className, ""))) {
+                continue;
+            }
+            Pattern reference = Pattern.compile("\\b" + Pattern.quote(simpleName(className)) + "\\b");
+            sources.forEach((candidate, source) -> {
+                if (!affected.contains(candidate) && reference.matcher(source).find() && affected.add(candidate)) {
+                    pending.add(candidate);
+                }
+            });
+        }
+
+        return new Selection(changedFiles, affected, impactMap, runAll);
+    }
+
+    private static Map<String, String> readSources() {
+        Map<String, String> sources = new LinkedHashMap<>();
+        if (!Files.isDirectory(SOURCE_ROOT)) {
+            return sources;
+        }
+        try (Stream<Path> files = Files.walk(SOURCE_ROOT)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".java")).toList()) {
+                String relative = SOURCE_ROOT.relativize(file).toString().replace('\\', '/');
+                sources.put(relative.substring(0, relative.length() - 5).replace('/', '.'), Files.readString(file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read test sources: " + e.getMessage(), e);
+        }
+        return sources;
+    }
+
+    private static boolean propagates(String className, String source) {
+        if (className.startsWith("tests.")) {
+            return false;
+        }
+        boolean recordedAtRuntime = (className.startsWith("pages.") || className.startsWith("steps."))
+            && source.contains("@AutoStep");
+        return !recordedAtRuntime;
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String topLevel(String className) {
+        int nested = className.indexOf('$');
+        return nested >= 0 ? className.substring(0, nested) : className;
+    }
+
+    /**
+     * Result of an impact selection
+     */
+    public record Selection(List<String> changedFiles, Set<String> affectedClasses,
+                            Map<String, Set<String>> impactMap, boolean runAll) {
+
+        /**
+         * True if the test ("Class#method") should run
+         */
+        public boolean includes(String testId) {
+            if (runAll) {
+                return true;
+            }
+            String testClass = topLevel(testId.substring(0, testId.indexOf('#')));
+            if (affectedClasses.contains(testClass)) {
+                return true;
+            }
+            Set<String> touched = impactMap.get(testId);
+            if (touched == null) {
+                return true;
+            }
+            for (String method : touched) {
+                if (affectedClasses.contains(topLevel(method.substring(0, method.indexOf('#'))))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Recorded tests that would run (tests missing from the map run too, but aren't listed)
+         */
+        public List<String> selectedTests() {
+            List<String> selected = new ArrayList<>();
+            impactMap.keySet().stream().sorted().filter(this::includes).forEach(selected::add);
+            return selected;
+        }
+
+        public String describe() {
+            Set<String> changed = new LinkedHashSet<>(changedFiles);
+            if (runAll) {
+                return String.format("Impact selection: %d changed file(s) include framework/build files - running all tests", changed.size());
+            }
+            return String.format("Impact selection: %d changed file(s), %d affected class(es), %d of %d recorded test(s) selected",
+                changed.size(), affectedClasses.size(), selectedTests().size(), impactMap.size());
+        }
+    }
+}
@@ -2,8 +2,13 @@ package utils;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.options.WaitForSelectorState;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * InputHelper - Utility class for humanized input operations
  *
@@ -24,6 +29,25 @@ import com.microsoft.playwright.options.WaitForSelectorState;
  */
 public class InputHelper {
 
+    // Sets the date through the jQuery UI widget; returns null if the field has no datepicker
+    private static final String DATEPICKER_API_SCRIPT = """
+        (el, [month, day, year]) => {
+          const $ = window.jQuery;
+          if (!$ || !$.datepicker || !$(el).hasClass('hasDatepicker')) return null;
+          const inst = $.data(el, 'datepicker');
+          if (!inst) return null;
+          const picked = new Date(year, month - 1, day);
+          $(el).datepicker('setDate', picked);
+          const text = $.datepicker.formatDate(
+            $(el).datepicker('option', 'dateFormat'), picked, $.datepicker._getFormatConfig(inst));
+          const onSelect = $(el).datepicker('option', 'onSelect');
+          if (onSelect) onSelect.call(el, text, inst);
+          el.dispatchEvent(new Event('input', { bubbles: true }));
+          el.dispatchEvent(new Event('change', { bubbles: true }));
+          return el.value || text;
+        }
+        """;
+
     /**
      * Standard humanized input with Enter key press
      *
@@ -124,8 +148,12 @@ public class InputHelper {
      * Select date from jQuery UI datepicker
      *
      * Use for date fields that use jQuery UI datepicker widget.
-     * Handles the common pattern of clicking the field to open the picker,
-     * then selecting month, year, and day.
+     * Strategy is chosen with -Ddatepicker.strategy:
+     * - auto (default): set the date through the widget API, fall back to the UI if the
+     *   field has no datepicker
+     * - api: widget API only (fails if the widget is missing)
+     * - ui: click the field, then select month, year, and day
+     * Time per strategy is recorded in StepTimings and target/benchmarks/datepicker-strategies.csv.
      *
      * @param page The Playwright Page instance
      * @param dateFieldLocator The date input field locator
@@ -137,15 +165,68 @@ public class InputHelper {
      * }
      */
     public static void selectDateFromDatepicker(Page page, Locator dateFieldLocator, String date) {
+        String strategy = System.getProperty("datepicker.strategy", "auto").toLowerCase();
+        long start = System.nanoTime();
+
+        if (!"ui".equals(strategy)) {
+            if (setDateViaDatepickerApi(page, dateFieldLocator, date)) {
+                recordDatepickerTiming("api", System.nanoTime() - start);
+                return;
+            }
+            if ("api".equals(strategy)) {
+                throw new RuntimeException("jQuery UI datepicker not initialised on field, cannot set date '" + date
+                    + "' with -Ddatepicker.strategy=api");
+            }
+            TestLogger.debug("Datepicker widget not found on field, falling back to UI selection");
+        }
+
         InputHelper.selectDateFromDatepickerCustomWaits(page, dateFieldLocator, date,
                 2000, 2000, 1100);
+        recordDatepickerTiming("auto".equals(strategy) ? "ui-fallback" : "ui", System.nanoTime() - start);
+    }
+
+    /**
+     * Set a date through the jQuery UI datepicker API in one in-page call
+     *
+     * Calls setDate, then the widget's onSelect callback and native input/change events, the same
+     * as picking a day with the mouse. Returns false (and changes nothing) if jQuery UI is not
+     * loaded or the field has no datepicker, so callers can fall back to the UI path.
+     *
+     * @param page The Playwright Page instance
+     * @param dateFieldLocator The date input field locator
+     * @param date The date in MM/DD/YYYY format (e.g., "12/25/2024")
+     * @return true if the widget accepted the date
+     */
+    public static boolean setDateViaDatepickerApi(Page page, Locator dateFieldLocator, String date) {
+        page.waitForLoadState();
+        dateFieldLocator.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED));
+
+        String[] dateParts = date.split("/");
+        List<Integer> parts = List.of(Integer.parseInt(dateParts[0]), Integer.parseInt(dateParts[1]),
+            Integer.parseInt(dateParts[2]));
+
+        Object result = dateFieldLocator.evaluate(DATEPICKER_API_SCRIPT, parts);
+        if (result == null) {
+            return false;
+        }
+        TestLogger.debug("Datepicker set via API: " + result);
+        return true;
+    }
+
+    private static void recordDatepickerTiming(String strategy, long nanos) {
+        double millis = nanos / 1_000_000.0;
+        StepTimings.record("InputHelper.datepicker[" + strategy + "]", nanos);
+        TestLogger.debug(String.format("Date set via %s in %.0f ms", strategy, millis));
+        BenchmarkCsv.append("datepicker-strategies.csv", "timestamp,strategy,ms",
+            String.format(Locale.ROOT, "%s,%s,%.3f", LocalDateTime.now(), strategy, millis));
     }
 
     /**
      * Select date from jQuery UI datepicker with custom wait times
      *
      * Use when the default wait times in selectDateFromDatepicker() are too short/long
-     * for your specific datepicker implementation.
+     * for your specific datepicker implementation. The waits are skipped when animations
+     * are suppressed ({@link AnimationControl}) and the picker opens without them.
      *
      * @param page The Playwright Page instance
      * @param dateFieldLocator The date input field locator
@@ -158,17 +239,32 @@ public class InputHelper {
                                                              int initialWait, int focusToClickWait, int afterClickWait) {
         page.waitForLoadState();
         dateFieldLocator.waitFor();
+        Locator datepicker = page.locator("#ui-datepicker-div");
 
-        // Focus and click to trigger datepicker
-        page.waitForTimeout(initialWait);
-        dateFieldLocator.focus();
-        page.waitForTimeout(focusToClickWait);
-        dateFieldLocator.click();
-        page.waitForTimeout(afterClickWait);
+        // With animations suppressed the picker opens instantly - skip the sleeps unless it doesn't open
+        boolean opened = false;
+        if (AnimationControl.isSuppressed(page)) {
+            dateFieldLocator.focus();
+            dateFieldLocator.click();
+            try {
+                datepicker.waitFor(new Locator.WaitForOptions().setTimeout(2000));
+                opened = true;
+            } catch (PlaywrightException e) {
+                TestLogger.debug("Datepicker did not open without waits, retrying with default waits");
+            }
+        }
 
-        // Wait for datepicker to appear
-        Locator datepicker = page.locator("#ui-datepicker-div");
-        datepicker.waitFor();
+        if (!opened) {
+            // Focus and click to trigger datepicker
+            page.waitForTimeout(initialWait);
+            dateFieldLocator.focus();
+            page.waitForTimeout(focusToClickWait);
+            dateFieldLocator.click();
+            page.waitForTimeout(afterClickWait);
+
+            // Wait for datepicker to appear
+            datepicker.waitFor();
+        }
 
         // Parse date (format: MM/DD/YYYY)
         String[] dateParts = date.split("/");
@@ -179,17 +275,17 @@ public class InputHelper {
         // Select month from dropdown
         Locator monthDropdown = page.locator(".ui-datepicker-month");
         monthDropdown.selectOption(monthValue);
-        page.waitForTimeout(200);
+        AnimationControl.waitForAnimation(page, 200);
 
         // Select year from dropdown
         Locator yearDropdown = page.locator(".ui-datepicker-year");
         yearDropdown.selectOption(year);
-        page.waitForTimeout(200);
+        AnimationControl.waitForAnimation(page, 200);
 
         // Click on the day in the calendar
         Locator dayButton = page.locator(".ui-datepicker-calendar td a");
         dayButton.filter(new Locator.FilterOptions().setHasText(day)).first().click();
 
-        page.waitForTimeout(300);
+        AnimationControl.waitForAnimation(page, 300);
     }
 }
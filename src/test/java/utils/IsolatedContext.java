@@ -0,0 +1,19 @@
+package utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test (or class) that needs full isolation: a brand-new BrowserContext that is
+ * closed after the test, even when the class uses {@link ReuseContext}.
+ *
+ * Use for tests that log out, change the session, or depend on a cold cache.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Inherited
+public @interface IsolatedContext {
+}
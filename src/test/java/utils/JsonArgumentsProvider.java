@@ -0,0 +1,160 @@
+package utils;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JsonArgumentsProvider - Lazy ArgumentsProvider behind {@link JsonDataSource}
+ *
+ * Uses Jackson's MappingIterator so only the row currently handed to JUnit is
+ * held in memory. A top-level JSON array and newline-delimited JSON objects are
+ * both read through the same iterator. The underlying parser is closed when
+ * JUnit closes the argument stream.
+ */
+public class JsonArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<JsonDataSource> {
+
+    private static final String DATA_PATH = "src/test/java/data/";
+    private static final ObjectReader rowReader = new ObjectMapper().readerForMapOf(String.class);
+
+    private JsonDataSource source;
+
+    @Override
+    public void accept(JsonDataSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) throws IOException {
+        Stream<Map<String, String>> rows = streamRows(source.file(), source.filter(),
+            resolveShard(source.shard()), source.limit());
+
+        String descriptionField = source.descriptionField();
+        if (descriptionField.isEmpty()) {
+            return rows.map(row -> Arguments.of(row));
+        }
+        return rows.map(row -> Arguments.of(row.get(descriptionField), row));
+    }
+
+    /**
+     * Stream filtered, sharded rows from a data file.
+     * Callers must close the returned stream (try-with-resources) to release the file.
+     *
+     * @param fileName Data file name under src/test/java/data/
+     * @param filter Filter expression (see {@link JsonDataSource#filter()})
+     * @param shard {index, count} pair, or null for no sharding
+     * @param limit Maximum rows to emit (0 = unlimited)
+     */
+    public static Stream<Map<String, String>> streamRows(String fileName, String filter, int[] shard, long limit)
+            throws IOException {
+        File dataFile = new File(DATA_PATH + fileName);
+        if (!dataFile.exists()) {
+            throw new IOException("Test data file not found: " + dataFile.getAbsolutePath());
+        }
+
+        MappingIterator<Map<String, String>> iterator = rowReader.readValues(dataFile);
+        Stream<Map<String, String>> rows = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                try {
+                    iterator.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+        // Shard on the raw row index so the split is stable regardless of the filter
+        if (shard != null) {
+            AtomicLong index = new AtomicLong();
+            int shardIndex = shard[0];
+            int shardCount = shard[1];
+            rows = rows.filter(row -> index.getAndIncrement() % shardCount == shardIndex);
+        }
+
+        rows = rows.filter(parseFilter(filter));
+
+        if (limit > 0) {
+            rows = rows.limit(limit);
+        }
+        return rows;
+    }
+
+    /**
+     * Parse "index/count" (annotation value first, then -Ddata.shard); null if unsharded
+     */
+    static int[] resolveShard(String shardSpec) {
+        String spec = shardSpec.isEmpty() ? System.getProperty("data.shard", "") : shardSpec;
+        if (spec.isBlank()) {
+            return null;
+        }
+
+        String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Shard must be 'index/count', got: " + spec);
+        }
+        int index = Integer.parseInt(parts[0].trim());
+        int count = Integer.parseInt(parts[1].trim());
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index must be in [0, count), got: " + spec);
+        }
+        return new int[] {index, count};
+    }
+
+    /**
+     * Compile a filter expression into a row predicate
+     */
+    static Predicate<Map<String, String>> parseFilter(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return row -> true;
+        }
+
+        List<Predicate<Map<String, String>>> clauses = new ArrayList<>();
+        for (String clause : expression.split("&&")) {
+            clauses.add(parseClause(clause.trim()));
+        }
+        return row -> clauses.stream().allMatch(clause -> clause.test(row));
+    }
+
+    private static Predicate<Map<String, String>> parseClause(String clause) {
+        int regexOp = clause.indexOf("~=");
+        if (regexOp > 0) {
+            String field = clause.substring(0, regexOp).trim();
+            Pattern pattern = Pattern.compile(clause.substring(regexOp + 2).trim());
+            return row -> row.get(field) != null && pattern.matcher(row.get(field)).matches();
+        }
+
+        int notEqualsOp = clause.indexOf("!=");
+        if (notEqualsOp > 0) {
+            String field = clause.substring(0, notEqualsOp).trim();
+            String value = clause.substring(notEqualsOp + 2).trim();
+            return row -> !value.equals(row.get(field));
+        }
+
+        int equalsOp = clause.indexOf('=');
+        if (equalsOp > 0) {
+            String field = clause.substring(0, equalsOp).trim();
+            String value = clause.substring(equalsOp + 1).trim();
+            return row -> value.equals(row.get(field));
+        }
+
+        throw new IllegalArgumentException("Unsupported filter clause: '" + clause + "'");
+    }
+}
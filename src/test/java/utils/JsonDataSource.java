@@ -0,0 +1,59 @@
+package utils;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Streams parameterized test arguments from a JSON or JSON-lines data file.
+ *
+ * Rows are parsed one at a time while JUnit consumes them, so memory stays
+ * constant no matter how many cases the file holds. Each row is passed as
+ * {@code (String description, Map<String, String> row)} by default.
+ *
+ * Usage:
+ * <pre>
+ * {@code
+ * @ParameterizedTest(name = "Negative Test: {0}")
+ * @JsonDataSource(file = "signup-regression.json", filter = "testType=negative")
+ * void testInvalidSignUp(String description, Map<String, String> testData) { ... }
+ * }
+ * </pre>
+ *
+ * Sharding: {@code shard = "1/4"} (or {@code -Ddata.shard=1/4}) keeps only rows whose
+ * zero-based index modulo 4 equals 1, so parallel CI jobs can split one large file.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@ArgumentsSource(JsonArgumentsProvider.class)
+public @interface JsonDataSource {
+    /**
+     * Data file name under src/test/java/data/ (.json array or .jsonl, one object per line)
+     */
+    String file();
+
+    /**
+     * Filter expression, clauses joined by {@code &&}.
+     * Supported operators: {@code field=value}, {@code field!=value}, {@code field~=regex}.
+     * Empty means every row.
+     */
+    String filter() default "";
+
+    /**
+     * Shard spec {@code "index/count"}; empty falls back to the data.shard system property
+     */
+    String shard() default "";
+
+    /**
+     * Maximum number of rows to emit after filtering (0 = unlimited)
+     */
+    long limit() default 0;
+
+    /**
+     * Row field used as the first (display name) argument; empty passes only the row map
+     */
+    String descriptionField() default "description";
+}
@@ -0,0 +1,222 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.options.ReducedMotion;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LaunchProfile - Named browser launch + context settings loaded from launch-profiles.json
+ *
+ * Select with -Dbrowser.profile=ci-fast|low-memory|debug (default: "default").
+ * Profiles come from src/test/resources/launch-profiles.json, or from the file given by
+ * -Dbrowser.profiles.file. Explicit -Dheadless / -Dslowmo still win over the profile.
+ *
+ * "disableAnimations": true turns on {@link AnimationControl} for the profile.
+ *
+ * Chromium args and headless-shell apply to Chromium only ("headlessShell": false adds --headless=new
+ * for the full browser); the context settings (viewport, device scale, reduced motion, locale,
+ * timezone) apply to every engine.
+ */
+public class LaunchProfile {
+
+    private static final String RESOURCE = "launch-profiles.json";
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static Map<String, LaunchProfile> profiles;
+
+    private final String name;
+    private final String description;
+    private final Boolean headless;
+    private final boolean headlessShell;
+    private final Double slowMo;
+    private final boolean disableAnimations;
+    private final List<String> args;
+    private final Integer viewportWidth;
+    private final Integer viewportHeight;
+    private final Double deviceScaleFactor;
+    private final String reducedMotion;
+    private final String locale;
+    private final String timezoneId;
+
+    private LaunchProfile(String name, JsonNode node) {
+        JsonNode context = node.path("context");
+        JsonNode viewport = context.path("viewport");
+        List<String> argList = new ArrayList<>();
+        node.path("args").forEach(arg -> argList.add(arg.asText()));
+
+        this.name = name;
+        this.description = node.path("description").asText("");
+        this.headless = node.has("headless") ? node.get("headless").asBoolean() : null;
+        this.headlessShell = node.path("headlessShell").asBoolean(true);
+        this.slowMo = node.has("slowMo") ? node.get("slowMo").asDouble() : null;
+        this.disableAnimations = node.path("disableAnimations").asBoolean(false);
+        this.args = Collections.unmodifiableList(argList);
+        this.viewportWidth = viewport.has("width") ? viewport.get("width").asInt() : null;
+        this.viewportHeight = viewport.has("height") ? viewport.get("height").asInt() : null;
+        this.deviceScaleFactor = context.has("deviceScaleFactor") ? context.get("deviceScaleFactor").asDouble() : null;
+        this.reducedMotion = context.has("reducedMotion") ? context.get("reducedMotion").asText() : null;
+        this.locale = context.has("locale") ? context.get("locale").asText() : null;
+        this.timezoneId = context.has("timezoneId") ? context.get("timezoneId").asText() : null;
+    }
+
+    /**
+     * Profile selected by -Dbrowser.profile
+     */
+    public static LaunchProfile active() {
+        return get(System.getProperty("browser.profile", "default"));
+    }
+
+    /**
+     * Profile by name
+     */
+    public static LaunchProfile get(String name) {
+        LaunchProfile profile = all().get(name);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown launch profile '" + name + "', available: " + all().keySet());
+        }
+        return profile;
+    }
+
+    /**
+     * All configured profiles, in file order
+     */
+    public static synchronized Map<String, LaunchProfile> all() {
+        if (profiles == null) {
+            profiles = load();
+        }
+        return profiles;
+    }
+
+    private static Map<String, LaunchProfile> load() {
+        String file = System.getProperty("browser.profiles.file");
+        try (InputStream in = file != null
+                ? new FileInputStream(new File(file))
+                : LaunchProfile.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IOException(RESOURCE + " not found on the test classpath");
+            }
+            Map<String, LaunchProfile> loaded = new LinkedHashMap<>();
+            mapper.readTree(in).fields().forEachRemaining(entry ->
+                loaded.put(entry.getKey(), new LaunchProfile(entry.getKey(), entry.getValue())));
+            loaded.putIfAbsent("default", new LaunchProfile("default", mapper.createObjectNode()));
+            return Collections.unmodifiableMap(loaded);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load launch profiles: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Launch options for the given engine (chrome, firefox, webkit)
+     */
+    public BrowserType.LaunchOptions launchOptions(String browserName) {
+        BrowserType.LaunchOptions options = new BrowserType.LaunchOptions().setHeadless(isHeadless());
+
+        double delay = slowMoMillis();
+        if (delay > 0) {
+            options.setSlowMo(delay);
+        }
+
+        if (isChromium(browserName)) {
+            List<String> chromiumArgs = new ArrayList<>(args);
+            // Playwright 1.45 launches headless Chromium in the old headless shell mode; an explicit
+            // --headless=new comes after Playwright's own --headless and switches to the full browser
+            if (isHeadless() && !headlessShell) {
+                chromiumArgs.add("--headless=new");
+            }
+            if (!chromiumArgs.isEmpty()) {
+                options.setArgs(chromiumArgs);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Context defaults from the profile (empty options for the default profile)
+     */
+    public Browser.NewContextOptions contextOptions() {
+        Browser.NewContextOptions options = new Browser.NewContextOptions();
+        if (viewportWidth != null && viewportHeight != null) {
+            options.setViewportSize(viewportWidth, viewportHeight);
+        }
+        if (deviceScaleFactor != null) {
+            options.setDeviceScaleFactor(deviceScaleFactor);
+        }
+        if (reducedMotion != null) {
+            options.setReducedMotion("reduce".equalsIgnoreCase(reducedMotion) ? ReducedMotion.REDUCE : ReducedMotion.NO_PREFERENCE);
+        }
+        if (locale != null) {
+            options.setLocale(locale);
+        }
+        if (timezoneId != null) {
+            options.setTimezoneId(timezoneId);
+        }
+        return options;
+    }
+
+    /**
+     * Headless unless the profile or -Dheadless says otherwise (-Dheadless wins)
+     */
+    public boolean isHeadless() {
+        String property = System.getProperty("headless");
+        if (property != null) {
+            return Boolean.parseBoolean(property);
+        }
+        return headless != null ? headless : false;
+    }
+
+    /**
+     * Slow-motion delay in ms; -Dslowmo=true keeps its 1 second delay
+     */
+    public double slowMoMillis() {
+        if (Boolean.parseBoolean(System.getProperty("slowmo", "false"))) {
+            return 1000;
+        }
+        return slowMo != null ? slowMo : 0;
+    }
+
+    static boolean isChromium(String browserName) {
+        String engine = browserName.toLowerCase();
+        return !engine.equals("firefox") && !engine.equals("webkit") && !engine.equals("safari");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<String> getArgs() {
+        return args;
+    }
+
+    /**
+     * Whether the profile turns on {@link AnimationControl} (-Danimations.disable wins)
+     */
+    public boolean isDisableAnimations() {
+        return disableAnimations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (headless=%s, args=%d, viewport=%s, scale=%s, motion=%s, locale=%s, tz=%s)",
+            name, isHeadless(), args.size(),
+            viewportWidth != null ? viewportWidth + "x" + viewportHeight : "default",
+            deviceScaleFactor != null ? deviceScaleFactor : "default",
+            reducedMotion != null ? reducedMotion : "default",
+            locale != null ? locale : "default",
+            timezoneId != null ? timezoneId : "default");
+    }
+}
@@ -0,0 +1,83 @@
+package utils;
+
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
+
+/**
+ * MatrixWorker - Runs the selected tests for one engine inside its own class loader
+ *
+ * Loaded by {@link BrowserMatrixRunner} in a fresh class loader per engine, so every
+ * static (BaseTest's Playwright and Browser, TestLogger, Allure lifecycle) is private
+ * to that engine. Results are returned as JDK types only, because the caller lives in
+ * a different class loader.
+ */
+public class MatrixWorker {
+
+    /**
+     * Run the selectors (test classes, "Class#method" or packages) against one engine
+     */
+    public static Map<String, Object> run(String engine, List<String> selectors) {
+        BrowserManager.setBrowserOverride(engine);
+        StepTimings.reset();
+
+        LauncherDiscoveryRequestBuilder request = LauncherDiscoveryRequestBuilder.request()
+            .filters(includeClassNamePatterns(".*Test"));
+        for (String selector : selectors) {
+            if (selector.contains("#")) {
+                request.selectors(DiscoverySelectors.selectMethod(selector));
+            } else if (isClass(selector)) {
+                request.selectors(DiscoverySelectors.selectClass(selector));
+            } else {
+                request.selectors(DiscoverySelectors.selectPackage(selector));
+            }
+        }
+        LauncherDiscoveryRequest discoveryRequest = request.build();
+
+        Launcher launcher = LauncherFactory.create();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        long start = System.nanoTime();
+        launcher.execute(discoveryRequest, listener);
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+
+        TestExecutionSummary summary = listener.getSummary();
+        List<String> failures = new ArrayList<>();
+        summary.getFailures().forEach(failure -> failures.add(
+            failure.getTestIdentifier().getDisplayName() + ": " + failure.getException().getMessage()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("engine", engine);
+        result.put("found", summary.getTestsFoundCount());
+        result.put("succeeded", summary.getTestsSucceededCount());
+        result.put("failed", summary.getTestsFailedCount());
+        result.put("skipped", summary.getTestsSkippedCount());
+        result.put("durationMs", durationMs);
+        result.put("failures", failures);
+        result.put("stepTimings", StepTimings.snapshot());
+        // Shared result files are written once by the runner, not by each engine
+        result.put("executedTests", FailedTestRecorder.executedTests());
+        result.put("failedTests", FailedTestRecorder.failedTests());
+        result.put("impactMap", ImpactMap.snapshot());
+        return result;
+    }
+
+    private static boolean isClass(String name) {
+        try {
+            Class.forName(name, false, MatrixWorker.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
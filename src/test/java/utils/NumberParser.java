@@ -1,5 +1,6 @@
 package utils;
 
+import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -25,13 +26,7 @@ public class NumberParser {
             return 0.0;
         }
 
-        // Remove common formatting characters
-        String cleaned = formattedNumber
-            .replace(",", "")           // Remove thousand separators
-            .replace("$", "")           // Remove currency symbols
-            .replace("%", "")           // Remove percentage
-            .replace(" ", "")           // Remove spaces
-            .trim();
+        String cleaned = clean(formattedNumber);
 
         try {
             return Double.parseDouble(cleaned);
@@ -41,6 +36,37 @@ public class NumberParser {
         }
     }
 
+    /**
+     * Parse a formatted string to BigDecimal, keeping the displayed scale
+     * Handles: "1,234.50" → 1234.50 (ulp 0.01)
+     */
+    public static BigDecimal parseBigDecimal(String formattedNumber) {
+        if (formattedNumber == null || formattedNumber.trim().isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+
+        String cleaned = clean(formattedNumber);
+
+        try {
+            return new BigDecimal(cleaned);
+        } catch (NumberFormatException e) {
+            TestLogger.warn("Failed to parse number: '" + formattedNumber + "' (cleaned: '" + cleaned + "')");
+            throw new IllegalArgumentException("Cannot parse as number: " + formattedNumber, e);
+        }
+    }
+
+    /**
+     * Remove common formatting characters
+     */
+    private static String clean(String formattedNumber) {
+        return formattedNumber
+            .replace(",", "")           // Remove thousand separators
+            .replace("$", "")           // Remove currency symbols
+            .replace("%", "")           // Remove percentage
+            .replace(" ", "")           // Remove spaces
+            .trim();
+    }
+
     /**
      * Parse a formatted string to float
      */
@@ -0,0 +1,104 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PageBudgets - Per-page performance budgets loaded from page-budgets.json
+ *
+ * Budgets come from src/test/resources/page-budgets.json, or from the file given by
+ * -Dperf.budgets.file. Each entry maps metric names (ttfbMs, lcpMs, switchMs, ...) to limits.
+ * Limits for a page key are merged from general to specific:
+ *   "default" -> "building" -> "building.assessment"
+ * so a page entry only lists the metrics it tightens or relaxes.
+ *
+ * An entry may also name the page's readiness signal for client-side routes: "ready" (CSS
+ * selector) and optional "readyText" (text the element contains). PagePerformance times a
+ * route change from the history change to the first frame showing that element.
+ */
+public class PageBudgets {
+
+    private static final String RESOURCE = "page-budgets.json";
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static Map<String, Map<String, Double>> budgets;
+    private static Map<String, ReadySignal> readySignals;
+
+    /**
+     * Element that shows a page has rendered after a client-side route change
+     */
+    public record ReadySignal(String selector, String text) {}
+
+    /**
+     * Limits for a page key (metric -> max value), merged from default and parent keys
+     */
+    public static Map<String, Double> limitsFor(String pageKey) {
+        Map<String, Map<String, Double>> all = all();
+        Map<String, Double> limits = new LinkedHashMap<>(all.getOrDefault("default", Map.of()));
+        int dot = pageKey.indexOf('.');
+        while (dot > 0) {
+            limits.putAll(all.getOrDefault(pageKey.substring(0, dot), Map.of()));
+            dot = pageKey.indexOf('.', dot + 1);
+        }
+        limits.putAll(all.getOrDefault(pageKey, Map.of()));
+        return limits;
+    }
+
+    /**
+     * All configured entries, in file order
+     */
+    public static synchronized Map<String, Map<String, Double>> all() {
+        if (budgets == null) {
+            load();
+        }
+        return budgets;
+    }
+
+    /**
+     * Readiness signals of the entries that define one (page key -> signal)
+     */
+    public static synchronized Map<String, ReadySignal> readySignals() {
+        if (readySignals == null) {
+            load();
+        }
+        return readySignals;
+    }
+
+    private static void load() {
+        String file = System.getProperty("perf.budgets.file");
+        try (InputStream in = file != null
+                ? new FileInputStream(new File(file))
+                : PageBudgets.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IOException(RESOURCE + " not found on the test classpath");
+            }
+            Map<String, Map<String, Double>> loaded = new LinkedHashMap<>();
+            Map<String, ReadySignal> signals = new LinkedHashMap<>();
+            mapper.readTree(in).fields().forEachRemaining(entry -> {
+                Map<String, Double> limits = new LinkedHashMap<>();
+                entry.getValue().fields().forEachRemaining(metric -> {
+                    JsonNode value = metric.getValue();
+                    if (value.isNumber()) {
+                        limits.put(metric.getKey(), value.asDouble());
+                    }
+                });
+                loaded.put(entry.getKey(), Collections.unmodifiableMap(limits));
+                if (entry.getValue().hasNonNull("ready")) {
+                    signals.put(entry.getKey(), new ReadySignal(entry.getValue().get("ready").asText(),
+                        entry.getValue().path("readyText").asText("")));
+                }
+            });
+            budgets = Collections.unmodifiableMap(loaded);
+            readySignals = Collections.unmodifiableMap(signals);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load page budgets: " + e.getMessage(), e);
+        }
+    }
+}
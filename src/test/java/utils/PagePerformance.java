@@ -0,0 +1,353 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import io.qameta.allure.Allure;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * PagePerformance - Navigation, paint and interaction timings checked against page budgets
+ *
+ * BaseTest installs an init script on every context that observes largest-contentful-paint
+ * and long tasks and times client-side route changes (history.pushState/replaceState/popstate
+ * to a new path): from the history change to the first frame showing the readiness signal
+ * ("ready" in page-budgets.json) of each page that was not showing when the route changed.
+ * The timing is taken in the page, so delays on the test side never count. Page objects then
+ * report timings once the page is known to be ready:
+ * - {@link #capture(Page, String)}: the document's navigation (ttfbMs, domContentLoadedMs,
+ *   loadMs, fcpMs, lcpMs, longTasks, longTaskMs) if no route change happened yet, otherwise
+ *   routeMs of the latest route change to this page. Each is reported once; later captures
+ *   return null.
+ * - {@link #measure(Page, String, Runnable, Locator)}: an in-page interaction such as a tab
+ *   switch, reported as switchMs (start to the second animation frame after the given content
+ *   is visible) and long tasks.
+ * LCP and long tasks are Chromium-only; metrics a browser does not report are left out.
+ *
+ * Every measurement is logged, attached to Allure and appended to
+ * target/benchmarks/page-performance.csv, and compared with {@link PageBudgets}. Budget
+ * violations fail the test at the end (BaseTest calls {@link #end()}) so the functional steps
+ * still run to completion; with -Dperf.budgets.enforce=false they are only reported as warnings.
+ *
+ * Flags: -Dperf.capture=false (no capturing), -Dperf.budgets.enforce=false (warn only),
+ * -Dperf.readyTimeout (ms to wait for measured content, default 10000)
+ */
+public class PagePerformance {
+
+    private static final String CSV = "page-performance.csv";
+    private static final String CSV_HEADER = "timestamp,test,page,kind,url,ttfbMs,domContentLoadedMs,loadMs,"
+        + "fcpMs,lcpMs,routeMs,switchMs,longTasks,longTaskMs,violations";
+    private static final List<String> METRICS = List.of("ttfbMs", "domContentLoadedMs", "loadMs", "fcpMs",
+        "lcpMs", "routeMs", "switchMs", "longTasks", "longTaskMs");
+
+    // __READY__ is replaced by the readiness signals of page-budgets.json ({key: {selector, text}})
+    private static final String INIT_SCRIPT = """
+        (() => {
+          if (window.__gnfzPerf) return;
+          const perf = window.__gnfzPerf = {
+            installed: true, lcp: null, longTasks: [], routes: [], path: location.pathname, ready: __READY__
+          };
+          try {
+            new PerformanceObserver(list => {
+              for (const entry of list.getEntries()) perf.lcp = entry.startTime;
+            }).observe({ type: 'largest-contentful-paint', buffered: true });
+          } catch (e) { /* not supported by this engine */ }
+          try {
+            new PerformanceObserver(list => {
+              for (const entry of list.getEntries()) perf.longTasks.push([entry.startTime, entry.duration]);
+            }).observe({ type: 'longtask', buffered: true });
+          } catch (e) { /* not supported by this engine */ }
+
+          const isReady = (signal) => {
+            for (const element of document.querySelectorAll(signal.selector)) {
+              if (signal.text && !(element.textContent || '').includes(signal.text)) continue;
+              const box = element.getBoundingClientRect();
+              if (box.width > 0 && box.height > 0) return true;
+            }
+            return false;
+          };
+          // Every frame until each page that was not showing at the route change shows (60s at most)
+          const watch = (route) => {
+            const tick = () => {
+              const now = performance.now();
+              for (const key of Object.keys(route.pending)) {
+                if (isReady(perf.ready[key])) {
+                  route.readyAt[key] = now;
+                  delete route.pending[key];
+                }
+              }
+              const latest = perf.routes[perf.routes.length - 1] === route;
+              if (latest && Object.keys(route.pending).length && now - route.start < 60000) requestAnimationFrame(tick);
+            };
+            requestAnimationFrame(tick);
+          };
+          const routed = () => {
+            if (location.pathname === perf.path) return;
+            perf.path = location.pathname;
+            const route = { start: performance.now(), url: location.href, pending: {}, readyAt: {}, reported: false };
+            for (const [key, signal] of Object.entries(perf.ready)) {
+              if (!isReady(signal)) route.pending[key] = true;
+            }
+            perf.routes.push(route);
+            if (perf.routes.length > 20) perf.routes.shift();
+            watch(route);
+          };
+          for (const name of ['pushState', 'replaceState']) {
+            const original = history[name];
+            history[name] = function () {
+              const result = original.apply(this, arguments);
+              routed();
+              return result;
+            };
+          }
+          window.addEventListener('popstate', routed);
+        })();
+        """;
+
+    // Navigation timings of the document (first capture, before any route change) or the
+    // timing of the latest route change for this page key; null when nothing new to report
+    private static final String CAPTURE_SCRIPT = """
+        async (key) => {
+          const perf = window.__gnfzPerf || (window.__gnfzPerf = { installed: false, longTasks: [], routes: [] });
+          const longTasks = (from, to) => {
+            if (!perf.installed) return {};
+            const tasks = perf.longTasks.filter(([start]) => start >= from && start <= to);
+            return { longTasks: tasks.length, longTaskMs: tasks.reduce((sum, [, duration]) => sum + duration, 0) };
+          };
+          const positive = (value) => value > 0 ? value : null;
+
+          const route = perf.routes[perf.routes.length - 1];
+          if (!route) {
+            if (perf.captured) return null;
+            perf.captured = true;
+            const nav = performance.getEntriesByType('navigation')[0];
+            const fcp = performance.getEntriesByName('first-contentful-paint')[0];
+            return Object.assign({
+              kind: 'navigation',
+              url: location.href,
+              ttfbMs: nav ? positive(nav.responseStart) : null,
+              domContentLoadedMs: nav ? positive(nav.domContentLoadedEventEnd) : null,
+              loadMs: nav ? positive(nav.loadEventEnd) : null,
+              fcpMs: fcp ? fcp.startTime : null,
+              lcpMs: perf.installed ? perf.lcp : null
+            }, longTasks(0, performance.now()));
+          }
+          // The document's navigation belongs to an earlier page; only routes are reported now
+          perf.captured = true;
+          if (route.reported || !(key in route.pending || key in route.readyAt)) return null;
+          const deadline = performance.now() + 2000;
+          while (route.readyAt[key] == null && performance.now() < deadline) {
+            await new Promise(resolve => setTimeout(resolve, 16));
+          }
+          if (route.readyAt[key] == null) return null;
+          route.reported = true;
+          return Object.assign({
+            kind: 'route',
+            url: route.url,
+            routeMs: route.readyAt[key] - route.start
+          }, longTasks(route.start, route.readyAt[key]));
+        }
+        """;
+
+    // Resolves after the next two animation frames (the frame painting the result), 1s at most
+    private static final String AFTER_INTERACTION_SCRIPT = """
+        (start) => new Promise(resolve => {
+          const done = () => {
+            const perf = window.__gnfzPerf;
+            const result = { kind: 'interaction', url: location.href, switchMs: performance.now() - start };
+            if (perf && perf.installed) {
+              const tasks = perf.longTasks.filter(([taskStart]) => taskStart >= start);
+              result.longTasks = tasks.length;
+              result.longTaskMs = tasks.reduce((sum, [, duration]) => sum + duration, 0);
+            }
+            resolve(result);
+          };
+          const timer = setTimeout(done, 1000);
+          requestAnimationFrame(() => requestAnimationFrame(() => { clearTimeout(timer); done(); }));
+        })
+        """;
+
+    private static final Set<BrowserContext> installedContexts =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private static final ThreadLocal<List<Measurement>> measurements = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * One captured page load or interaction and the budgets it exceeded
+     */
+    public record Measurement(String pageKey, String kind, String url, Map<String, Double> metrics,
+                              List<String> violations) {}
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("perf.capture", "true"));
+    }
+
+    public static boolean isEnforced() {
+        return Boolean.parseBoolean(System.getProperty("perf.budgets.enforce", "true"));
+    }
+
+    /**
+     * Install the observers on a new context (before its first page loads)
+     */
+    public static void install(BrowserContext context) {
+        if (isEnabled() && installedContexts.add(context)) {
+            context.addInitScript(INIT_SCRIPT.replace("__READY__", readySignalsJson()));
+        }
+    }
+
+    /**
+     * Start collecting measurements for a test on this thread
+     */
+    public static void begin(String testId) {
+        currentTest.set(testId);
+        measurements.get().clear();
+    }
+
+    /**
+     * Drop this thread's measurements (a retry starts over in a new context)
+     */
+    public static void reset() {
+        measurements.get().clear();
+    }
+
+    /**
+     * Stop collecting on this thread; throws AssertionError listing every exceeded budget
+     * unless -Dperf.budgets.enforce=false
+     */
+    public static void end() {
+        List<Measurement> measured = new ArrayList<>(measurements.get());
+        String testId = currentTest.get();
+        currentTest.remove();
+        measurements.remove();
+
+        List<String> violations = new ArrayList<>();
+        for (Measurement measurement : measured) {
+            for (String violation : measurement.violations()) {
+                violations.add(measurement.pageKey() + ": " + violation);
+            }
+        }
+        if (!violations.isEmpty() && isEnforced()) {
+            throw new AssertionError("Page performance budgets exceeded in " + testId + ":\n  "
+                + String.join("\n  ", violations));
+        }
+    }
+
+    /**
+     * Report the document's navigation timings, or the latest route change's timing to this
+     * page (null if already reported, not measurable, or capturing is off)
+     */
+    public static Measurement capture(Page page, String pageKey) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            page.waitForLoadState();
+            return record(pageKey, page.evaluate(CAPTURE_SCRIPT, pageKey));
+        } catch (PlaywrightException e) {
+            TestLogger.debug("Could not capture page performance for " + pageKey + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Run an in-page interaction (tab switch, ...) and measure it until the frame painting the
+     * content it shows (null if the content did not show within -Dperf.readyTimeout)
+     */
+    public static Measurement measure(Page page, String pageKey, Runnable action, Locator content) {
+        if (!isEnabled()) {
+            action.run();
+            return null;
+        }
+        Object start = page.evaluate("() => performance.now()");
+        action.run();
+        try {
+            content.first().waitFor(new Locator.WaitForOptions()
+                .setTimeout(Integer.getInteger("perf.readyTimeout", 10000)));
+            return record(pageKey, page.evaluate(AFTER_INTERACTION_SCRIPT, start));
+        } catch (PlaywrightException e) {
+            TestLogger.debug("Could not measure " + pageKey + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String readySignalsJson() {
+        try {
+            return new ObjectMapper().writeValueAsString(PageBudgets.readySignals());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialise page readiness signals", e);
+        }
+    }
+
+    private static Measurement record(String pageKey, Object result) {
+        if (!(result instanceof Map<?, ?> values)) {
+            return null;
+        }
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (String metric : METRICS) {
+            if (values.get(metric) instanceof Number number) {
+                metrics.put(metric, number.doubleValue());
+            }
+        }
+
+        List<String> violations = new ArrayList<>();
+        PageBudgets.limitsFor(pageKey).forEach((metric, limit) -> {
+            Double value = metrics.get(metric);
+            if (value != null && value > limit) {
+                violations.add(String.format(Locale.ROOT, "%s %.0f > %.0f", metric, value, limit));
+            }
+        });
+
+        Measurement measurement = new Measurement(pageKey, (String) values.get("kind"), (String) values.get("url"),
+            metrics, violations);
+        if (currentTest.get() != null) {
+            measurements.get().add(measurement);
+        }
+        report(measurement);
+        return measurement;
+    }
+
+    private static void report(Measurement measurement) {
+        StringBuilder summary = new StringBuilder(String.format("%s (%s)", measurement.pageKey(), measurement.kind()));
+        measurement.metrics().forEach((metric, value) ->
+            summary.append(String.format(Locale.ROOT, " %s=%.0f", metric, value)));
+        if (measurement.violations().isEmpty()) {
+            TestLogger.info("Page performance: " + summary);
+        } else {
+            TestLogger.warn("Page performance: " + summary + " - over budget: " + measurement.violations());
+        }
+
+        StringBuilder attachment = new StringBuilder(measurement.url()).append("\n");
+        Map<String, Double> limits = PageBudgets.limitsFor(measurement.pageKey());
+        measurement.metrics().forEach((metric, value) -> {
+            Double limit = limits.get(metric);
+            attachment.append(String.format(Locale.ROOT, "%-20s %10.0f %s%n", metric, value,
+                limit == null ? "" : String.format(Locale.ROOT, "(budget %.0f)", limit)));
+        });
+        if (!measurement.violations().isEmpty()) {
+            attachment.append("Over budget: ").append(String.join(", ", measurement.violations())).append("\n");
+        }
+        Allure.addAttachment("Page performance: " + measurement.pageKey(), "text/plain", attachment.toString(), ".txt");
+
+        StringBuilder line = new StringBuilder(String.format("%s,%s,%s,%s,%s", LocalDateTime.now(),
+            BenchmarkCsv.quote(currentTest.get()), measurement.pageKey(), measurement.kind(),
+            BenchmarkCsv.quote(measurement.url())));
+        for (String metric : METRICS) {
+            Double value = measurement.metrics().get(metric);
+            line.append(',').append(value == null ? "" : String.format(Locale.ROOT, "%.1f", value));
+        }
+        line.append(',').append(BenchmarkCsv.quote(String.join("; ", measurement.violations())));
+        BenchmarkCsv.append(CSV, CSV_HEADER, line.toString());
+    }
+}
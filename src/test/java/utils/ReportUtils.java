@@ -16,6 +16,9 @@ public class ReportUtils {
         Allure.addAttachment("Environment", "text/plain",
             "Browser: " + BrowserManager.getBrowserName() + "\n" +
             "Headless: " + BrowserManager.isHeadless() + "\n" +
+            "Launch Profile: " + BrowserManager.getProfileName() + "\n" +
+            "Browser Mode: " + BrowserManager.getLastStartupMode() + "\n" +
+            "Browser Startup: " + String.format("%.0f ms", BrowserManager.getLastStartupMillis()) + "\n" +
             "OS: " + System.getProperty("os.name") + "\n" +
             "Java Version: " + System.getProperty("java.version"), ".txt");
     }
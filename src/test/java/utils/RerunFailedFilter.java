@@ -0,0 +1,42 @@
+package utils;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.Set;
+
+/**
+ * RerunFailedFilter - With -Drerun=failed, only runs the tests saved by {@link FailedTestRecorder}
+ *
+ * Registered as a JUnit Platform post-discovery filter (META-INF/services). Classes left
+ * without tests are pruned by the launcher, so their @BeforeAll (browser launch) never runs.
+ *
+ * Usage:
+ *   mvn test                      # failures are saved to test-results/failed-tests.txt
+ *   mvn test -Drerun=failed       # runs only those
+ */
+public class RerunFailedFilter implements PostDiscoveryFilter {
+
+    private Set<String> failedIds;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!"failed".equalsIgnoreCase(System.getProperty("rerun", ""))) {
+            return FilterResult.included("rerun mode off");
+        }
+        String id = FailedTestRecorder.testId(descriptor.getSource().orElse(null));
+        if (id == null) {
+            // Engines, classes and nested classes - kept if any of their tests are kept
+            return FilterResult.included("container");
+        }
+        if (failedIds == null) {
+            failedIds = FailedTestRecorder.load();
+            TestLogger.info(String.format("Rerun mode: %d previously failed test(s) from %s",
+                failedIds.size(), FailedTestRecorder.file()));
+        }
+        return failedIds.contains(id)
+            ? FilterResult.included("failed in a previous run")
+            : FilterResult.excluded("passed in the previous run");
+    }
+}
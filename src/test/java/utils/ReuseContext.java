@@ -0,0 +1,51 @@
+package utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opt a test class (or single test) into reusing one BrowserContext per role.
+ *
+ * Tests with the same role share a context for the lifetime of the class, which keeps
+ * the HTTP cache, compiled page scripts and the login session warm. Between tests
+ * BaseTest resets only the app state that matters (see {@link ContextReset}):
+ * - localStorage / sessionStorage (except auth keys)
+ * - cookies (except auth cookies)
+ * - extra tabs, permissions, and navigation back to about:blank
+ *
+ * Usage:
+ * <pre>
+ * {@code
+ * @ReuseContext(role = "projectOwner")
+ * public class DashboardTest extends BaseTest {
+ *
+ *     @BeforeEach
+ *     void setupDashboard() {
+ *         if (!isSessionReused()) {
+ *             authSteps.loginAsProjectOwner();
+ *         }
+ *     }
+ *
+ *     @Test
+ *     @IsolatedContext // this one gets a brand-new context
+ *     void testLogout() { ... }
+ * }
+ * }
+ * </pre>
+ *
+ * Disable globally with -Dcontext.reuse=false (every test then gets a fresh context).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Inherited
+public @interface ReuseContext {
+    /**
+     * Role the shared context is logged in as; tests with different roles never share
+     *
+     * @return role name used as the pool key
+     */
+    String role() default "default";
+}
@@ -2,6 +2,7 @@ package utils;
 
 import io.qameta.allure.Allure;
 
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -18,6 +19,7 @@ import java.util.function.Supplier;
  * - Auto-logs step start/end
  * - Better exception handling
  * - Support for nested steps
+ * - Step durations ({@link StepTimings}) and browser metrics ({@link BrowserMetrics})
  */
 public class StepLogger {
 
@@ -28,6 +30,8 @@ public class StepLogger {
         Allure.step(stepName, () -> {
             TestLogger.info("▶ Starting step: " + stepName);
             TestLogger.flush(); // Flush previous logs before starting new step
+            Map<String, Double> metricsBefore = BrowserMetrics.sample();
+            long start = System.nanoTime();
 
             try {
                 stepCode.run();
@@ -36,6 +40,9 @@ public class StepLogger {
                 TestLogger.error("✗ Failed step: " + stepName, e);
                 throw e;
             } finally {
+                long duration = System.nanoTime() - start;
+                StepTimings.record(stepName, duration);
+                BrowserMetrics.recordStep(stepName, metricsBefore, duration);
                 TestLogger.flush(); // Flush logs at end of step
             }
         });
@@ -48,6 +55,8 @@ public class StepLogger {
         return Allure.step(stepName, () -> {
             TestLogger.info("▶ Starting step: " + stepName);
             TestLogger.flush();
+            Map<String, Double> metricsBefore = BrowserMetrics.sample();
+            long start = System.nanoTime();
 
             try {
                 T result = stepCode.get();
@@ -62,6 +71,9 @@ public class StepLogger {
                 TestLogger.error("✗ Failed step: " + stepName, e);
                 throw e;
             } finally {
+                long duration = System.nanoTime() - start;
+                StepTimings.record(stepName, duration);
+                BrowserMetrics.recordStep(stepName, metricsBefore, duration);
                 TestLogger.flush();
             }
         });
@@ -0,0 +1,42 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StepTimings - Collects durations of StepLogger steps and @AutoStep methods
+ *
+ * Keys are stable across runs so durations can be compared between browsers:
+ * - StepLogger steps: the step name
+ * - @AutoStep methods: "ClassName.methodName" (parameter values left out)
+ *
+ * Used by the cross-browser matrix to compare step durations per engine.
+ */
+public class StepTimings {
+
+    private static final Map<String, List<Double>> timings = new LinkedHashMap<>();
+
+    /**
+     * Record one step duration
+     */
+    public static synchronized void record(String key, long nanos) {
+        timings.computeIfAbsent(key, k -> new ArrayList<>()).add(nanos / 1_000_000.0);
+    }
+
+    /**
+     * Copy of all durations in milliseconds, by step key (JDK types only, so it can be
+     * handed across class loaders)
+     */
+    public static synchronized Map<String, List<Double>> snapshot() {
+        Map<String, List<Double>> copy = new LinkedHashMap<>();
+        timings.forEach((key, values) -> copy.put(key, Collections.unmodifiableList(new ArrayList<>(values))));
+        return copy;
+    }
+
+    public static synchronized void reset() {
+        timings.clear();
+    }
+}
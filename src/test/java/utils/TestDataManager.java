@@ -5,62 +5,312 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * TestDataManager - Utility class for managing test data
+ *
+ * Each JSON file under src/test/java/data/ is parsed at most once per JVM.
+ * The parsed rows are kept as immutable maps and as typed records, with
+ * lookup indexes (role, testType, expectedSuccess) built on first use.
+ * All caches are safe to read from concurrent test threads.
+ *
+ * Usage:
+ *   User owner = TestDataManager.getUser("projectOwner");
+ *   List<SignUpCase> negatives = TestDataManager.getSignUpCases("negative");
  */
 public class TestDataManager {
     private static final ObjectMapper mapper = new ObjectMapper();
     private static final String DATA_PATH = "src/test/java/data/";
 
+    private static final String USERS_FILE = "users.json";
+    private static final String SMOKE_USERS_FILE = "smoke-users.json";
+    private static final String REGRESSION_USERS_FILE = "regression-users.json";
+    private static final String FORGOT_PASSWORD_SMOKE_FILE = "forgot-password-smoke.json";
+    private static final String FORGOT_PASSWORD_REGRESSION_FILE = "forgot-password-regression.json";
+    private static final String SIGNUP_SMOKE_FILE = "signup-smoke.json";
+    private static final String SIGNUP_REGRESSION_FILE = "signup-regression.json";
+    private static final String PROJECT_TYPES_FILE = "project-types.json";
+
+    // Raw rows per file name (parsed once, immutable)
+    private static final Map<String, List<Map<String, String>>> rawCache = new ConcurrentHashMap<>();
+
+    // Typed, indexed datasets per file name
+    private static final Map<String, Dataset<?>> datasetCache = new ConcurrentHashMap<>();
+
+    // ==================== TYPED RECORDS ====================
+
+    /**
+     * User credentials row (users.json, smoke-users.json, regression-users.json)
+     */
+    public record User(String username, String password, String role,
+                       String expectedSuccess, String expectedError, String description,
+                       Map<String, String> asMap) {
+
+        static User from(Map<String, String> row) {
+            return new User(row.get("username"), row.get("password"), row.get("role"),
+                row.get("expectedSuccess"), row.get("expectedError"), row.get("description"), row);
+        }
+
+        @Override
+        public String toString() {
+            return description != null ? description : username;
+        }
+    }
+
+    /**
+     * Forgot password test case (forgot-password-*.json)
+     */
+    public record ForgotPasswordCase(String email, String testType, String expectedSuccess,
+                                     String expectedError, String description,
+                                     Map<String, String> asMap) {
+
+        static ForgotPasswordCase from(Map<String, String> row) {
+            return new ForgotPasswordCase(row.get("email"), row.get("testType"), row.get("expectedSuccess"),
+                row.get("expectedError"), row.get("description"), row);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Sign-up test case (signup-*.json)
+     */
+    public record SignUpCase(String firstName, String lastName, String email, String password,
+                             String confirmPassword, String testType, String expectedError,
+                             String description, Map<String, String> asMap) {
+
+        static SignUpCase from(Map<String, String> row) {
+            return new SignUpCase(row.get("firstName"), row.get("lastName"), row.get("email"),
+                row.get("password"), row.get("confirmPassword"), row.get("testType"),
+                row.get("expectedError"), row.get("description"), row);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Project type row (project-types.json): how to create a project of this type
+     *
+     * position - 1-based tile position on the project selection page
+     * urlSegment - path segment after /project/ once saved (empty = any)
+     * basicInfoTab / titleField - selectors of the Basic Info tab and the title input
+     */
+    public record ProjectType(String type, int position, String urlSegment, String basicInfoTab,
+                              String titleField, boolean verified, String description,
+                              Map<String, String> asMap) {
+
+        static ProjectType from(Map<String, String> row) {
+            return new ProjectType(row.get("type"), Integer.parseInt(row.get("position")),
+                row.getOrDefault("urlSegment", ""), row.getOrDefault("basicInfoTab", ""),
+                row.get("titleField"), Boolean.parseBoolean(row.get("verified")), row.get("description"), row);
+        }
+
+        @Override
+        public String toString() {
+            return type;
+        }
+    }
+
     /**
-     * Load test data from JSON file
+     * Immutable list of records plus lazily built lookup indexes keyed by field name
+     */
+    private static final class Dataset<T> {
+        private final List<T> rows;
+        private final Map<String, Map<String, List<T>>> indexes = new ConcurrentHashMap<>();
+
+        Dataset(List<T> rows) {
+            this.rows = rows;
+        }
+
+        List<T> all() {
+            return rows;
+        }
+
+        List<T> lookup(String indexName, Function<T, String> keyExtractor, String key) {
+            Map<String, List<T>> index = indexes.computeIfAbsent(indexName, name ->
+                rows.stream()
+                    .filter(row -> keyExtractor.apply(row) != null)
+                    .collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(keyExtractor, LinkedHashMap::new,
+                            Collectors.collectingAndThen(Collectors.toList(), List::copyOf)),
+                        Collections::unmodifiableMap)));
+            return index.getOrDefault(key, List.of());
+        }
+    }
+
+    /**
+     * Load test data from JSON file (parsed once per JVM, returned rows are immutable)
      */
     public static List<Map<String, String>> loadTestData(String fileName) throws IOException {
+        try {
+            return rawCache.computeIfAbsent(fileName, TestDataManager::parseFile);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Parse a data file into an immutable list of immutable rows
+     */
+    private static List<Map<String, String>> parseFile(String fileName) {
         File dataFile = new File(DATA_PATH + fileName);
         if (!dataFile.exists()) {
-            throw new IOException("Test data file not found: " + dataFile.getAbsolutePath());
+            throw new UncheckedIOException(
+                new IOException("Test data file not found: " + dataFile.getAbsolutePath()));
+        }
+
+        try {
+            List<Map<String, String>> rows = mapper.readValue(dataFile, new TypeReference<List<Map<String, String>>>() {});
+            return rows.stream()
+                .map(row -> Collections.unmodifiableMap(new LinkedHashMap<>(row)))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get (or build once) the typed dataset for a data file
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Dataset<T> dataset(String fileName, Function<Map<String, String>, T> factory) throws IOException {
+        List<Map<String, String>> rows = loadTestData(fileName);
+        return (Dataset<T>) datasetCache.computeIfAbsent(fileName,
+            name -> new Dataset<>(rows.stream().map(factory).toList()));
+    }
+
+    private static <T> List<Map<String, String>> asMaps(List<T> records, Function<T, Map<String, String>> toMap) {
+        return records.stream().map(toMap).toList();
+    }
+
+    private static <T> T first(List<T> rows, String errorMessage) {
+        if (rows.isEmpty()) {
+            throw new RuntimeException(errorMessage);
         }
+        return rows.get(0);
+    }
+
+    // ==================== TYPED ACCESSORS ====================
+
+    /**
+     * Get all users from users.json
+     */
+    public static List<User> getUsers() throws IOException {
+        return dataset(USERS_FILE, User::from).all();
+    }
+
+    /**
+     * Get user record by role from users.json (indexed lookup)
+     */
+    public static User getUser(String role) throws IOException {
+        List<User> users = TestDataManager.<User>dataset(USERS_FILE, User::from).lookup("role", User::role, role);
+        return first(users, "No user found with role: " + role);
+    }
+
+    /**
+     * Get smoke test users
+     */
+    public static List<User> getSmokeUsers() throws IOException {
+        return dataset(SMOKE_USERS_FILE, User::from).all();
+    }
+
+    /**
+     * Get regression test users
+     */
+    public static List<User> getRegressionUsers() throws IOException {
+        return dataset(REGRESSION_USERS_FILE, User::from).all();
+    }
+
+    /**
+     * Get regression users by expected result (indexed lookup)
+     */
+    public static List<User> getRegressionUsersByResult(String expectedSuccess) throws IOException {
+        return TestDataManager.<User>dataset(REGRESSION_USERS_FILE, User::from)
+            .lookup("expectedSuccess", User::expectedSuccess, expectedSuccess);
+    }
+
+    /**
+     * Get forgot password regression cases by test type (indexed lookup)
+     */
+    public static List<ForgotPasswordCase> getForgotPasswordCases(String testType) throws IOException {
+        return TestDataManager.<ForgotPasswordCase>dataset(FORGOT_PASSWORD_REGRESSION_FILE, ForgotPasswordCase::from)
+            .lookup("testType", ForgotPasswordCase::testType, testType);
+    }
 
-        return mapper.readValue(dataFile, new TypeReference<List<Map<String, String>>>() {});
+    /**
+     * Get sign-up regression cases by test type (indexed lookup)
+     */
+    public static List<SignUpCase> getSignUpCases(String testType) throws IOException {
+        return TestDataManager.<SignUpCase>dataset(SIGNUP_REGRESSION_FILE, SignUpCase::from)
+            .lookup("testType", SignUpCase::testType, testType);
     }
 
+    /**
+     * Get all project types from project-types.json (selection page order)
+     */
+    public static List<ProjectType> getProjectTypes() throws IOException {
+        return dataset(PROJECT_TYPES_FILE, ProjectType::from).all();
+    }
+
+    /**
+     * Get a project type by name, e.g. "Building", "Supply Chain" (indexed lookup)
+     */
+    public static ProjectType getProjectType(String type) throws IOException {
+        List<ProjectType> types = TestDataManager.<ProjectType>dataset(PROJECT_TYPES_FILE, ProjectType::from)
+            .lookup("type", ProjectType::type, type);
+        return first(types, "No project type found: " + type);
+    }
+
+    /**
+     * Drop all cached data (useful when a test rewrites a data file)
+     */
+    public static void clearCache() {
+        rawCache.clear();
+        datasetCache.clear();
+    }
+
+    // ==================== MAP-BASED ACCESSORS ====================
+
     /**
      * Load smoke test user data
      */
     public static List<Map<String, String>> loadSmokeUsers() throws IOException {
-        return loadTestData("smoke-users.json");
+        return loadTestData(SMOKE_USERS_FILE);
     }
 
     /**
      * Load regression test user data
      */
     public static List<Map<String, String>> loadRegressionUsers() throws IOException {
-        return loadTestData("regression-users.json");
+        return loadTestData(REGRESSION_USERS_FILE);
     }
 
     /**
      * Get the first valid user from smoke test data
      */
     public static Map<String, String> getSmokeUser() throws IOException {
-        List<Map<String, String>> users = loadSmokeUsers();
-        if (users.isEmpty()) {
-            throw new RuntimeException("No smoke test users found");
-        }
-        return users.get(0);
+        return first(getSmokeUsers(), "No smoke test users found").asMap();
     }
 
     /**
      * Get valid user from regression test data (first one is always valid)
      */
     public static Map<String, String> getValidRegressionUser() throws IOException {
-        List<Map<String, String>> users = loadRegressionUsers();
-        if (users.isEmpty()) {
-            throw new RuntimeException("No regression test users found");
-        }
-        return users.get(0);
+        return first(getRegressionUsers(), "No regression test users found").asMap();
     }
 
     /**
@@ -76,41 +326,35 @@ public class TestDataManager {
      * Get all error test cases
      */
     public static List<Map<String, String>> getErrorTestCases() throws IOException {
-        List<Map<String, String>> users = loadRegressionUsers();
-        return filterUsersByResult(users, "error");
+        return asMaps(getRegressionUsersByResult("error"), User::asMap);
     }
 
     /**
      * Get all success test cases
      */
     public static List<Map<String, String>> getSuccessTestCases() throws IOException {
-        List<Map<String, String>> users = loadRegressionUsers();
-        return filterUsersByResult(users, "List of projects");
+        return asMaps(getRegressionUsersByResult("List of projects"), User::asMap);
     }
 
     /**
      * Load forgot password smoke test data
      */
     public static List<Map<String, String>> loadForgotPasswordSmokeData() throws IOException {
-        return loadTestData("forgot-password-smoke.json");
+        return loadTestData(FORGOT_PASSWORD_SMOKE_FILE);
     }
 
     /**
      * Load forgot password regression test data
      */
     public static List<Map<String, String>> loadForgotPasswordRegressionData() throws IOException {
-        return loadTestData("forgot-password-regression.json");
+        return loadTestData(FORGOT_PASSWORD_REGRESSION_FILE);
     }
 
     /**
      * Get the first forgot password smoke test data
      */
     public static Map<String, String> getForgotPasswordSmokeData() throws IOException {
-        List<Map<String, String>> data = loadForgotPasswordSmokeData();
-        if (data.isEmpty()) {
-            throw new RuntimeException("No forgot password smoke test data found");
-        }
-        return data.get(0);
+        return first(loadForgotPasswordSmokeData(), "No forgot password smoke test data found");
     }
 
     /**
@@ -126,34 +370,28 @@ public class TestDataManager {
      * Get positive forgot password test cases
      */
     public static List<Map<String, String>> getPositiveForgotPasswordTestCases() throws IOException {
-        List<Map<String, String>> testCases = loadForgotPasswordRegressionData();
-        return filterForgotPasswordByType(testCases, "positive");
+        return asMaps(getForgotPasswordCases("positive"), ForgotPasswordCase::asMap);
     }
 
     /**
      * Get negative forgot password test cases
      */
     public static List<Map<String, String>> getNegativeForgotPasswordTestCases() throws IOException {
-        List<Map<String, String>> testCases = loadForgotPasswordRegressionData();
-        return filterForgotPasswordByType(testCases, "negative");
+        return asMaps(getForgotPasswordCases("negative"), ForgotPasswordCase::asMap);
     }
 
     /**
      * Load sign-up smoke test data
      */
     public static Map<String, String> loadSignUpSmokeData() throws IOException {
-        List<Map<String, String>> data = loadTestData("signup-smoke.json");
-        if (data.isEmpty()) {
-            throw new RuntimeException("No sign-up smoke test data found");
-        }
-        return data.get(0);
+        return first(loadTestData(SIGNUP_SMOKE_FILE), "No sign-up smoke test data found");
     }
 
     /**
      * Load sign-up regression test data
      */
     public static List<Map<String, String>> loadSignUpRegressionData() throws IOException {
-        return loadTestData("signup-regression.json");
+        return loadTestData(SIGNUP_REGRESSION_FILE);
     }
 
     /**
@@ -169,27 +407,21 @@ public class TestDataManager {
      * Get positive sign-up test cases
      */
     public static List<Map<String, String>> getPositiveSignUpTestCases() throws IOException {
-        List<Map<String, String>> testCases = loadSignUpRegressionData();
-        return filterSignUpByType(testCases, "positive");
+        return asMaps(getSignUpCases("positive"), SignUpCase::asMap);
     }
 
     /**
      * Get negative sign-up test cases
      */
     public static List<Map<String, String>> getNegativeSignUpTestCases() throws IOException {
-        List<Map<String, String>> testCases = loadSignUpRegressionData();
-        return filterSignUpByType(testCases, "negative");
+        return asMaps(getSignUpCases("negative"), SignUpCase::asMap);
     }
 
     /**
      * Get user by role from users.json
      */
     public static Map<String, String> getUserByRole(String role) throws IOException {
-        List<Map<String, String>> users = loadTestData("users.json");
-        return users.stream()
-            .filter(user -> role.equals(user.get("role")))
-            .findFirst()
-            .orElseThrow(() -> new RuntimeException("No user found with role: " + role));
+        return getUser(role).asMap();
     }
 
     /**
@@ -205,4 +437,4 @@ public class TestDataManager {
     public static Map<String, String> getTeamMemberUser() throws IOException {
         return getUserByRole("teamMember");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * TestFileGenerator - Generates upload fixtures of a given size under target/upload-files/
+ *
+ * Files are named {prefix}-{runId}-{nn}.{extension} so every run uploads names that are new
+ * to the project. Content is written in chunks (no full-size buffers):
+ * - pdf: a valid one-page PDF padded with comment lines
+ * - anything else: random printable text
+ *
+ * Defaults: -Dupload.fileCount (5), -Dupload.fileSizeKb (256)
+ */
+public class TestFileGenerator {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "upload-files");
+    private static final int CHUNK = 64 * 1024;
+
+    /**
+     * Generate -Dupload.fileCount files of -Dupload.fileSizeKb each
+     */
+    public static List<Path> generate(String prefix, String extension) {
+        return generate(prefix, extension, Integer.getInteger("upload.fileCount", 5),
+            Long.getLong("upload.fileSizeKb", 256) * 1024);
+    }
+
+    /**
+     * Generate count files of sizeBytes each
+     */
+    public static List<Path> generate(String prefix, String extension, int count, long sizeBytes) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            for (int i = 1; i <= count; i++) {
+                Path file = OUTPUT_DIR.resolve(String.format("%s-%s-%02d.%s", prefix, runId, i, extension));
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    if ("pdf".equalsIgnoreCase(extension)) {
+                        writePdf(out, sizeBytes, file.getFileName().toString());
+                    } else {
+                        writeText(out, sizeBytes, new Random(i));
+                    }
+                }
+                files.add(file);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not generate upload files in " + OUTPUT_DIR, e);
+        }
+        TestLogger.info(String.format("Generated %d %s file(s) of %,d bytes in %s", count, extension, sizeBytes, OUTPUT_DIR));
+        return files;
+    }
+
+    private static void writeText(OutputStream out, long sizeBytes, Random random) throws IOException {
+        byte[] chunk = new byte[CHUNK];
+        long remaining = sizeBytes;
+        while (remaining > 0) {
+            int length = (int) Math.min(chunk.length, remaining);
+            for (int i = 0; i < length; i++) {
+                chunk[i] = (i % 80 == 79) ? (byte) '\n' : (byte) (' ' + random.nextInt(95));
+            }
+            out.write(chunk, 0, length);
+            remaining -= length;
+        }
+    }
+
+    /**
+     * One-page PDF; the padding comment lines sit between the header and the first object
+     * so offsets in the (omitted) xref table do not matter to readers that rebuild it
+     */
+    private static void writePdf(OutputStream out, long sizeBytes, String title) throws IOException {
+        String content = "BT /F1 18 Tf 72 720 Td (" + title + ") Tj ET";
+        String head = "%PDF-1.4\n";
+        String body = "1 0 obj << /Type /Catalog /Pages 2 0 R >> endobj\n"
+            + "2 0 obj << /Type /Pages /Kids [3 0 R] /Count 1 >> endobj\n"
+            + "3 0 obj << /Type /Page /Parent 2 0 R /MediaBox [0 0 612 792] /Contents 4 0 R"
+            + " /Resources << /Font << /F1 5 0 R >> >> >> endobj\n"
+            + "4 0 obj << /Length " + content.length() + " >> stream\n" + content + "\nendstream endobj\n"
+            + "5 0 obj << /Type /Font /Subtype /Type1 /BaseFont /Helvetica >> endobj\n"
+            + "trailer << /Root 1 0 R >>\n%%EOF\n";
+
+        out.write(head.getBytes(StandardCharsets.US_ASCII));
+        long padding = sizeBytes - head.length() - body.length();
+        byte[] line = ("%" + "x".repeat(78) + "\n").getBytes(StandardCharsets.US_ASCII);
+        while (padding >= line.length) {
+            out.write(line);
+            padding -= line.length;
+        }
+        if (padding > 1) {
+            out.write(("%" + "x".repeat((int) padding - 2) + "\n").getBytes(StandardCharsets.US_ASCII));
+        } else if (padding == 1) {
+            out.write('\n');
+        }
+        out.write(body.getBytes(StandardCharsets.US_ASCII));
+    }
+}
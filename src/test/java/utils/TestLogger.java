@@ -19,11 +19,13 @@ import java.util.List;
  * - Printed to console (System.out)
  * - Attached to Allure report as text attachments
  * - Timestamped for easy debugging
+ *
+ * The Allure buffer is per thread, so concurrent workers (benchmarks) attach their own logs.
  */
 public class TestLogger {
 
     private static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
-    private static final List<String> logBuffer = new ArrayList<>();
+    private static final ThreadLocal<List<String>> logBuffer = ThreadLocal.withInitial(ArrayList::new);
     private static final int BUFFER_SIZE = 50; // Attach logs in batches to avoid too many attachments
 
     /**
@@ -117,7 +119,7 @@ public class TestLogger {
      * Flush current log buffer to Allure (forces immediate attachment)
      */
     public static void flush() {
-        if (!logBuffer.isEmpty()) {
+        if (!logBuffer.get().isEmpty()) {
             attachLogs();
         }
     }
@@ -133,10 +135,11 @@ public class TestLogger {
         System.out.println(formattedLog);
 
         // Add to buffer
-        logBuffer.add(formattedLog);
+        List<String> buffer = logBuffer.get();
+        buffer.add(formattedLog);
 
         // Attach to Allure if buffer is full or if it's an ERROR
-        if (logBuffer.size() >= BUFFER_SIZE || level.equals("ERROR")) {
+        if (buffer.size() >= BUFFER_SIZE || level.equals("ERROR")) {
             attachLogs();
         }
     }
@@ -145,11 +148,12 @@ public class TestLogger {
      * Attach buffered logs to Allure report
      */
     private static void attachLogs() {
-        if (logBuffer.isEmpty()) {
+        List<String> buffer = logBuffer.get();
+        if (buffer.isEmpty()) {
             return;
         }
 
-        String logs = String.join("\n", logBuffer);
+        String logs = String.join("\n", buffer);
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
 
         Allure.addAttachment(
@@ -159,7 +163,7 @@ public class TestLogger {
             ".txt"
         );
 
-        logBuffer.clear();
+        buffer.clear();
     }
 
     /**
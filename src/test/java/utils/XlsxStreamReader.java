@@ -0,0 +1,241 @@
+package utils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * XlsxStreamReader - Reads cell values from an .xlsx file without loading the workbook
+ *
+ * An .xlsx is a zip of XML parts. Only the shared string table is kept in memory; each
+ * sheet part is read as a stream with StAX and handed over row by row:
+ *
+ * {@code
+ * XlsxStreamReader.forEachRow(file, (sheet, row) -> ...);
+ * Map<String, List<List<String>>> sheets = XlsxStreamReader.readSheets(file);
+ * }
+ *
+ * Cells are returned as displayed in the sheet XML: numbers as their raw value (not the
+ * cell format), booleans as TRUE/FALSE, strings resolved from the shared string table.
+ * Missing cells in a row are "".
+ */
+public class XlsxStreamReader {
+
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    /**
+     * Receives rows in sheet order
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        void row(String sheetName, List<String> cells);
+    }
+
+    /**
+     * Stream every row of every sheet (workbook order) to the handler
+     */
+    public static void forEachRow(Path xlsx, RowHandler handler) {
+        try (ZipFile zip = new ZipFile(xlsx.toFile())) {
+            List<String> sharedStrings = readSharedStrings(zip);
+            for (Map.Entry<String, String> sheet : readSheetParts(zip).entrySet()) {
+                ZipEntry entry = zip.getEntry(sheet.getValue());
+                if (entry == null) {
+                    TestLogger.warn("Sheet part missing from workbook: " + sheet.getValue());
+                    continue;
+                }
+                try (InputStream in = zip.getInputStream(entry)) {
+                    readSheet(in, sheet.getKey(), sharedStrings, handler);
+                }
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw new RuntimeException("Could not read xlsx " + xlsx, e);
+        }
+    }
+
+    /**
+     * Read all sheets into memory: sheet name -> rows -> cells
+     */
+    public static Map<String, List<List<String>>> readSheets(Path xlsx) {
+        Map<String, List<List<String>>> sheets = new LinkedHashMap<>();
+        forEachRow(xlsx, (sheet, row) -> sheets.computeIfAbsent(sheet, name -> new ArrayList<>()).add(row));
+        return sheets;
+    }
+
+    /**
+     * Shared string table (xl/sharedStrings.xml); rich-text runs are concatenated
+     */
+    private static List<String> readSharedStrings(ZipFile zip) throws IOException, XMLStreamException {
+        List<String> strings = new ArrayList<>();
+        ZipEntry entry = zip.getEntry("xl/sharedStrings.xml");
+        if (entry == null) {
+            return strings;
+        }
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader xml = xmlReader(in);
+            StringBuilder current = null;
+            boolean inPhonetic = false;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "si" -> current = new StringBuilder();
+                        case "rPh" -> inPhonetic = true;
+                        case "t" -> {
+                            String text = xml.getElementText();
+                            if (current != null && !inPhonetic) {
+                                current.append(text);
+                            }
+                        }
+                        default -> { }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("si".equals(xml.getLocalName()) && current != null) {
+                        strings.add(current.toString());
+                        current = null;
+                    } else if ("rPh".equals(xml.getLocalName())) {
+                        inPhonetic = false;
+                    }
+                }
+            }
+            xml.close();
+        }
+        return strings;
+    }
+
+    /**
+     * Sheet name -> zip entry name, in workbook order (xl/workbook.xml + its relationships)
+     */
+    private static Map<String, String> readSheetParts(ZipFile zip) throws IOException, XMLStreamException {
+        Map<String, String> targets = new LinkedHashMap<>();
+        ZipEntry rels = zip.getEntry("xl/_rels/workbook.xml.rels");
+        if (rels != null) {
+            try (InputStream in = zip.getInputStream(rels)) {
+                XMLStreamReader xml = xmlReader(in);
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "Relationship".equals(xml.getLocalName())) {
+                        String target = xml.getAttributeValue(null, "Target");
+                        targets.put(xml.getAttributeValue(null, "Id"),
+                            target.startsWith("/") ? target.substring(1) : "xl/" + target);
+                    }
+                }
+                xml.close();
+            }
+        }
+
+        Map<String, String> sheets = new LinkedHashMap<>();
+        ZipEntry workbook = zip.getEntry("xl/workbook.xml");
+        if (workbook == null) {
+            throw new IOException("Not an xlsx workbook (xl/workbook.xml missing)");
+        }
+        try (InputStream in = zip.getInputStream(workbook)) {
+            XMLStreamReader xml = xmlReader(in);
+            int index = 1;
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(xml.getLocalName())) {
+                    String name = xml.getAttributeValue(null, "name");
+                    String target = targets.get(xml.getAttributeValue(REL_NS, "id"));
+                    sheets.put(name, target != null ? target : "xl/worksheets/sheet" + index + ".xml");
+                    index++;
+                }
+            }
+            xml.close();
+        }
+        return sheets;
+    }
+
+    private static void readSheet(InputStream in, String sheetName, List<String> sharedStrings,
+                                  RowHandler handler) throws XMLStreamException {
+        XMLStreamReader xml = xmlReader(in);
+        List<String> row = null;
+        String cellRef = null;
+        String cellType = null;
+        String value = null;
+        StringBuilder inline = null;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "row" -> row = new ArrayList<>();
+                    case "c" -> {
+                        cellRef = xml.getAttributeValue(null, "r");
+                        cellType = xml.getAttributeValue(null, "t");
+                        value = null;
+                        inline = null;
+                    }
+                    case "v" -> value = xml.getElementText();
+                    case "is" -> inline = new StringBuilder();
+                    case "t" -> {
+                        String text = xml.getElementText();
+                        if (inline != null) {
+                            inline.append(text);
+                        }
+                    }
+                    default -> { }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("c".equals(name) && row != null) {
+                    int column = cellRef != null ? columnIndex(cellRef) : row.size();
+                    while (row.size() < column) {
+                        row.add("");
+                    }
+                    row.add(cellValue(cellType, value, inline, sharedStrings));
+                } else if ("row".equals(name) && row != null) {
+                    handler.row(sheetName, row);
+                    row = null;
+                }
+            }
+        }
+        xml.close();
+    }
+
+    private static String cellValue(String type, String value, StringBuilder inline, List<String> sharedStrings) {
+        if ("inlineStr".equals(type)) {
+            return inline != null ? inline.toString() : "";
+        }
+        if (value == null) {
+            return "";
+        }
+        if ("s".equals(type)) {
+            int index = Integer.parseInt(value.trim());
+            return index < sharedStrings.size() ? sharedStrings.get(index) : "";
+        }
+        if ("b".equals(type)) {
+            return "1".equals(value.trim()) ? "TRUE" : "FALSE";
+        }
+        return value;
+    }
+
+    /**
+     * "C12" -> 2 (0-based column)
+     */
+    private static int columnIndex(String cellRef) {
+        int column = 0;
+        for (char c : cellRef.toCharArray()) {
+            if (!Character.isLetter(c)) {
+                break;
+            }
+            column = column * 26 + (Character.toUpperCase(c) - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static XMLStreamReader xmlReader(InputStream in) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory.createXMLStreamReader(in);
+    }
+}
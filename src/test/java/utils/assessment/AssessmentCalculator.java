@@ -0,0 +1,140 @@
+package utils.assessment;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AssessmentCalculator - Reference model of the Building Assessment calculations
+ *
+ * Exact (BigDecimal) re-implementation of the math the platform performs:
+ * - Emissions / Energy: row total = EF x quantity (x distance), table total = sum of rows,
+ *   scope total = sum of its tables, section total = sum of scopes
+ * - Water: KL/annum = Quantity (kLd) x No. of Days, group total = sum of its tables,
+ *   Annual Freshwater Requirement = consumption - supply - rainwater (a-b-c)
+ * - Waste: group total = sum of quantities, Waste to be Reduced = a-(d+e+f)
+ *
+ * Used both to precompute dataset expectations and to check what the UI shows
+ * (see {@link AssessmentVerifier}).
+ */
+public final class AssessmentCalculator {
+
+    private AssessmentCalculator() {
+    }
+
+    /**
+     * Row total for a full row (text columns first, then numeric columns)
+     */
+    public static BigDecimal rowTotal(AssessmentTable table, List<String> row) {
+        int textCount = table.textColumns().size();
+        if (row.size() != textCount + table.numericColumns().size()) {
+            throw new IllegalArgumentException(table + " expects columns " + table.columns() + " but row was " + row);
+        }
+        List<BigDecimal> numbers = new ArrayList<>(row.size() - textCount);
+        for (String value : row.subList(textCount, row.size())) {
+            numbers.add(parse(value));
+        }
+        return table.formula().apply(numbers);
+    }
+
+    /**
+     * Row totals for every row of a table
+     */
+    public static List<BigDecimal> rowTotals(AssessmentTable table, List<List<String>> rows) {
+        List<BigDecimal> totals = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            totals.add(rowTotal(table, row));
+        }
+        return totals;
+    }
+
+    /**
+     * Sum of values (table total from row totals, group total from table totals)
+     */
+    public static BigDecimal sum(List<BigDecimal> values) {
+        return values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Water: KL/annum = Quantity (kLd) x No. of Days
+     */
+    public static BigDecimal klPerAnnum(String quantityKld, String noOfDays) {
+        return parse(quantityKld).multiply(parse(noOfDays));
+    }
+
+    /**
+     * Water: Annual Freshwater Requirement = consumption - supply - rainwater
+     */
+    public static BigDecimal annualFreshwaterRequirement(BigDecimal consumption, BigDecimal supply, BigDecimal rainwater) {
+        return consumption.subtract(supply).subtract(rainwater);
+    }
+
+    /**
+     * Waste: Waste to be Reduced = generated - (composted + recycled + reused)
+     */
+    public static BigDecimal wasteToBeReduced(BigDecimal generated, BigDecimal composted,
+                                              BigDecimal recycled, BigDecimal reused) {
+        return generated.subtract(composted.add(recycled).add(reused));
+    }
+
+    /**
+     * Derived totals of a section keyed without the section prefix
+     * ("total", "annualFreshwaterRequirement" or "toBeReduced")
+     */
+    public static Map<String, BigDecimal> derivedTotals(AssessmentTable.Section section, Map<String, BigDecimal> groupTotals) {
+        Map<String, BigDecimal> derived = new LinkedHashMap<>();
+        switch (section) {
+            case EMISSIONS, ENERGY -> derived.put("total", sum(section.groups().stream()
+                .map(group -> groupTotals.getOrDefault(group, BigDecimal.ZERO))
+                .toList()));
+            case WATER -> derived.put("annualFreshwaterRequirement", annualFreshwaterRequirement(
+                groupTotals.getOrDefault("consumption", BigDecimal.ZERO),
+                groupTotals.getOrDefault("supply", BigDecimal.ZERO),
+                groupTotals.getOrDefault("rainwater", BigDecimal.ZERO)));
+            case WASTE -> derived.put("toBeReduced", wasteToBeReduced(
+                groupTotals.getOrDefault("generated", BigDecimal.ZERO),
+                groupTotals.getOrDefault("composted", BigDecimal.ZERO),
+                groupTotals.getOrDefault("recycled", BigDecimal.ZERO),
+                groupTotals.getOrDefault("reused", BigDecimal.ZERO)));
+        }
+        return derived;
+    }
+
+    /**
+     * All totals of one section from its table rows, keyed like dataset totals:
+     * table totals ("water.consumption.A"), group totals ("water.consumption")
+     * and derived totals ("water.annualFreshwaterRequirement").
+     * Tables missing from the map count as empty.
+     */
+    public static Map<String, BigDecimal> sectionTotals(AssessmentTable.Section section,
+                                                        Map<AssessmentTable, List<List<String>>> rows) {
+        Map<String, BigDecimal> totals = new LinkedHashMap<>();
+        Map<String, BigDecimal> groupTotals = new LinkedHashMap<>();
+        section.groups().forEach(group -> groupTotals.put(group, BigDecimal.ZERO));
+        for (AssessmentTable table : AssessmentTable.of(section)) {
+            BigDecimal tableTotal = sum(rowTotals(table, rows.getOrDefault(table, List.of())));
+            totals.put(table.key(), tableTotal);
+            groupTotals.merge(table.group(), tableTotal, BigDecimal::add);
+        }
+        groupTotals.forEach((group, value) -> totals.put(section.key() + "." + group, value));
+        derivedTotals(section, groupTotals).forEach((name, value) -> totals.put(section.key() + "." + name, value));
+        return totals;
+    }
+
+    /**
+     * Parse a UI number ("1,234.56", " 12 ") exactly; blank counts as zero
+     */
+    public static BigDecimal parse(String value) {
+        if (value == null || value.isBlank()) {
+            return BigDecimal.ZERO;
+        }
+        String cleaned = value.replace(",", "").replace(" ", "").trim();
+        try {
+            return new BigDecimal(cleaned);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cannot parse as number: " + value, e);
+        }
+    }
+}
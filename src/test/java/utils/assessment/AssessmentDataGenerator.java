@@ -0,0 +1,229 @@
+package utils.assessment;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * AssessmentDataGenerator - Seeded synthetic data for every Building Assessment table
+ *
+ * The same seed and row count always produce the same dataset, so a failing volume
+ * run can be reproduced exactly. Option names and emission factors come from the
+ * dropdown values already used in BuildingProjectTest; the emission factor is typed
+ * into each row explicitly, so expected totals do not depend on the platform's
+ * factor lookup.
+ *
+ * Usage:
+ *   AssessmentDataset dataset = AssessmentDataGenerator.generate(42, 200);
+ *
+ * Command line (writes target/test-data/assessment-seed42-rows200.json):
+ *   java utils.assessment.AssessmentDataGenerator 42 200 [outputFile]
+ */
+public final class AssessmentDataGenerator {
+
+    public static final long DEFAULT_SEED = 42L;
+    public static final int DEFAULT_ROWS_PER_TABLE = 100;
+    public static final Path DEFAULT_OUTPUT_DIR = Path.of("target", "test-data");
+
+    /**
+     * Text column values for one row plus the emission factor that goes with them
+     */
+    private record Option(String factor, String... text) {
+    }
+
+    private static final Map<AssessmentTable, List<Option>> OPTIONS = new EnumMap<>(AssessmentTable.class);
+
+    static {
+        OPTIONS.put(AssessmentTable.EMISSIONS_A, List.of(
+            new Option("2539.25", "Natural Gas"),
+            new Option("2.75776", "Diesel (average biofuel blend)"),
+            new Option("2.35372", "Petrol (average biofuel blend)"),
+            new Option("1.55713", "LPG")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_B, List.of(
+            new Option("1182.0", "R-410A"),
+            new Option("1430.0", "R-134a"),
+            new Option("675.0", "R-32")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_C, List.of(
+            new Option("34.0", "Gasoline"),
+            new Option("2.68787", "Diesel"),
+            new Option("1.55713", "LPG")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_D, List.of(
+            new Option("0.149", "Non Renewable Electricity from Grid"),
+            new Option("0.0", "Renewable Electricity from Grid")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_E, List.of(
+            new Option("0.149", "Water supply"),
+            new Option("0.272", "Water treatment")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_F, List.of(
+            new Option("11.0", "Aggregates"),
+            new Option("520.34", "Average construction"),
+            new Option("5.91", "Asbestos")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_G, List.of(
+            new Option("8.911", "Organic: mixed food and garden waste"),
+            new Option("8.911", "Organic: garden waste")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_H, List.of(
+            new Option("0.985", "Asphalt"),
+            new Option("0.985", "Bricks"),
+            new Option("21.28", "Glass")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_I, List.of(
+            new Option("21.28", "Glass"),
+            new Option("21.28", "Plastics: average plastics"),
+            new Option("21.28", "Wood")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_J, List.of(
+            new Option("885.68706", "LNG"),
+            new Option("0.61101", "Diesel (average biofuel blend)")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_K, List.of(
+            new Option("0.01874", "Ferry", "Foot passenger", "Gasoline"),
+            new Option("0.14652", "Cars (by size)", "Medium car", "Diesel"),
+            new Option("0.03546", "Rail", "National rail", "Electric")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_L, List.of(
+            new Option("0.168004", "Cars (by size)", "Small car", "Petrol"),
+            new Option("0.08306", "Bus", "Average local bus", "Diesel")));
+        // Origin and destination autocompletes take IATA codes
+        OPTIONS.put(AssessmentTable.EMISSIONS_M, List.of(
+            new Option(null, "DXB", "LHR", "Economy", "Return"),
+            new Option(null, "BOM", "SIN", "Business", "One way"),
+            new Option(null, "JFK", "CDG", "First", "Return")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_N, List.of(
+            new Option("0.84", "1 standard breakfast"),
+            new Option("4.7", "1 hot snack (burger + fries)"),
+            new Option("1.7", "1 average meal")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_O, List.of(
+            new Option("0.52", "HGV (all diesel)", "Rigid", "Diesel"),
+            new Option("0.10698", "HGV (all diesel)", "Articulated", "Diesel")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_P, List.of(
+            new Option("241.75", "Bricks"),
+            new Option("1421.66", "Metal: steel cans"),
+            new Option("912.7", "Concrete")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_Q, List.of(
+            new Option("152.25", "Asbestos"),
+            new Option("3.18", "Aggregates")));
+        OPTIONS.put(AssessmentTable.EMISSIONS_R, List.of(
+            new Option("152.25", "Clothing"),
+            new Option("1.1", "Books")));
+
+        OPTIONS.put(AssessmentTable.WATER_A, List.of(
+            new Option(null, "Cooking", "Reverse Osmosis", "RO", "Avg"),
+            new Option(null, "Drinking", "Municipal", "Potable", "Peak")));
+        OPTIONS.put(AssessmentTable.WATER_B, List.of(
+            new Option(null, "Handwashing", "Tertiary treated / Fresh", "DM", "Avg"),
+            new Option(null, "Irrigation", "Groundwater", "Raw", "Peak")));
+        OPTIONS.put(AssessmentTable.WATER_C, List.of(
+            new Option(null, "Treated Blackwater", "STP output", "Treated", "Avg"),
+            new Option(null, "Treated Greywater", "GTP output", "Treated", "Peak")));
+        OPTIONS.put(AssessmentTable.WATER_D, List.of(
+            new Option(null, "Reclaimed water from Municipality", "River", "Fresh water", "Avg")));
+        OPTIONS.put(AssessmentTable.WATER_E, List.of(
+            new Option(null, "Hard surface run-off", "Roads, Courtyards", "NA", "kL/hr", "Avg")));
+        OPTIONS.put(AssessmentTable.WATER_F, List.of(
+            new Option(null, "Roof run-off", "Terraces, roofs, platforms", "NA", "kL/hr", "Avg")));
+        OPTIONS.put(AssessmentTable.WATER_G, List.of(
+            new Option(null, "Recharging groundwater outside", "Groundwater", "NA", "kL/hr", "Avg")));
+        OPTIONS.put(AssessmentTable.WATER_H, List.of(
+            new Option(null, "Groundwater", "kLd"),
+            new Option(null, "Municipal supply", "kLd")));
+
+        List<Option> wasteTypes = List.of(
+            new Option(null, "Asbestos"),
+            new Option(null, "Asphalt"),
+            new Option(null, "Mineral oil"),
+            new Option(null, "Wood"),
+            new Option(null, "Average construction"),
+            new Option(null, "Aggregates"));
+        for (AssessmentTable table : AssessmentTable.of(AssessmentTable.Section.WASTE)) {
+            OPTIONS.put(table, wasteTypes);
+        }
+    }
+
+    private AssessmentDataGenerator() {
+    }
+
+    /**
+     * Generate a dataset with the given number of rows in every (non-mirrored) table
+     */
+    public static AssessmentDataset generate(long seed, int rowsPerTable) {
+        if (rowsPerTable < 1) {
+            throw new IllegalArgumentException("rowsPerTable must be at least 1, was " + rowsPerTable);
+        }
+        Map<AssessmentTable, List<List<String>>> rows = new EnumMap<>(AssessmentTable.class);
+        for (AssessmentTable table : AssessmentTable.values()) {
+            if (table.isMirror()) {
+                continue;
+            }
+            // One stream per table: changing one table's row count never shifts the others
+            Random random = new Random(seed * 31 + table.ordinal());
+            List<List<String>> tableRows = new ArrayList<>(rowsPerTable);
+            for (int i = 0; i < rowsPerTable; i++) {
+                tableRows.add(generateRow(table, random));
+            }
+            rows.put(table, tableRows);
+        }
+        return AssessmentDataset.of(seed, rowsPerTable, rows);
+    }
+
+    /**
+     * Generate and write a dataset, returning the file it was written to
+     */
+    public static Path generateToFile(long seed, int rowsPerTable, Path file) throws IOException {
+        generate(seed, rowsPerTable).write(file);
+        return file;
+    }
+
+    /**
+     * Default file name for a seed / size pair under target/test-data
+     */
+    public static Path defaultFile(long seed, int rowsPerTable) {
+        return DEFAULT_OUTPUT_DIR.resolve("assessment-seed" + seed + "-rows" + rowsPerTable + ".json");
+    }
+
+    private static List<String> generateRow(AssessmentTable table, Random random) {
+        List<Option> options = OPTIONS.get(table);
+        Option option = options.get(random.nextInt(options.size()));
+        List<String> row = new ArrayList<>(List.of(option.text()));
+
+        List<String> numericColumns = table.numericColumns();
+        BigDecimal previous = null;
+        for (String column : numericColumns) {
+            BigDecimal value = switch (column) {
+                case "emissionFactor" -> new BigDecimal(option.factor());
+                case "noOfDays" -> BigDecimal.valueOf(1 + random.nextInt(365));
+                case "passengers" -> BigDecimal.valueOf(1 + random.nextInt(9));
+                // Landfill share can never exceed what was generated
+                case "quantityLandfill" -> quantity(random, previous);
+                default -> quantity(random, null);
+            };
+            row.add(value.toPlainString());
+            previous = value;
+        }
+        return row;
+    }
+
+    /**
+     * Quantity with two decimals between 1.00 and 999.99 (or up to the given maximum)
+     */
+    private static BigDecimal quantity(Random random, BigDecimal max) {
+        int upperCents = max == null ? 99_999 : Math.max(100, max.movePointRight(2).intValue());
+        int cents = 100 + random.nextInt(upperCents - 99);
+        return BigDecimal.valueOf(cents).movePointLeft(2).setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    public static void main(String[] args) throws IOException {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_SEED;
+        int rowsPerTable = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROWS_PER_TABLE;
+        Path file = args.length > 2 ? Path.of(args[2]) : defaultFile(seed, rowsPerTable);
+
+        AssessmentDataset dataset = generate(seed, rowsPerTable);
+        dataset.write(file);
+        System.out.println("Wrote " + dataset + " to " + file.toAbsolutePath());
+        dataset.expectedTotals().forEach((key, value) -> {
+            if (key.chars().filter(c -> c == '.').count() == 1) {
+                System.out.println("  " + key + " = " + value.toPlainString());
+            }
+        });
+    }
+}
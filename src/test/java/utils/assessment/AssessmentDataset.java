@@ -0,0 +1,234 @@
+package utils.assessment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AssessmentDataset - Rows for every assessment table plus the totals the platform should show
+ *
+ * Row values are kept as the strings typed into the UI (text columns first, then numeric
+ * columns, see {@link AssessmentTable#columns()}). Expected totals come from
+ * {@link AssessmentCalculator} and are keyed as:
+ * - "emissions.scope3.K"  table total
+ * - "emissions.scope3"    group / scope total
+ * - "emissions.total"     derived section total (see {@link AssessmentTable.Section#derivedTotals})
+ *
+ * Stored as a single compact JSON document: each row is an array, mirrored energy
+ * tables are not written and are rebuilt from their emissions source on load.
+ */
+public final class AssessmentDataset {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Rows and expected totals of one table
+     */
+    public record TableData(AssessmentTable table, List<List<String>> rows,
+                            List<BigDecimal> rowTotals, BigDecimal total) {
+
+        public TableData {
+            rows = rows.stream().map(List::copyOf).toList();
+            rowTotals = List.copyOf(rowTotals);
+        }
+
+        public int size() {
+            return rows.size();
+        }
+
+        /**
+         * Row value by column name, e.g. value(0, "emissionFactor")
+         */
+        public String value(int rowIndex, String column) {
+            int columnIndex = table.columns().indexOf(column);
+            if (columnIndex < 0) {
+                throw new IllegalArgumentException(table + " has no column '" + column + "'");
+            }
+            return rows.get(rowIndex).get(columnIndex);
+        }
+
+        /**
+         * Row as column name -> value, in column order
+         */
+        public Map<String, String> row(int rowIndex) {
+            Map<String, String> row = new LinkedHashMap<>();
+            List<String> columns = table.columns();
+            for (int i = 0; i < columns.size(); i++) {
+                row.put(columns.get(i), rows.get(rowIndex).get(i));
+            }
+            return row;
+        }
+    }
+
+    private final long seed;
+    private final int rowsPerTable;
+    private final Map<AssessmentTable, TableData> tables;
+    private final Map<String, BigDecimal> expectedTotals;
+
+    private AssessmentDataset(long seed, int rowsPerTable, Map<AssessmentTable, TableData> tables) {
+        this.seed = seed;
+        this.rowsPerTable = rowsPerTable;
+        this.tables = Collections.unmodifiableMap(new EnumMap<>(tables));
+        this.expectedTotals = Collections.unmodifiableMap(computeTotals(this.tables));
+    }
+
+    /**
+     * Build a dataset from raw rows. Row and table totals are computed from each
+     * table's formula; mirrored energy tables are filled from their source.
+     */
+    public static AssessmentDataset of(long seed, int rowsPerTable, Map<AssessmentTable, List<List<String>>> rows) {
+        Map<AssessmentTable, TableData> tables = new EnumMap<>(AssessmentTable.class);
+        for (AssessmentTable table : AssessmentTable.values()) {
+            List<List<String>> tableRows = rows.get(table.isMirror() ? table.mirrorOf() : table);
+            if (tableRows == null) {
+                throw new IllegalArgumentException("No rows for " + table);
+            }
+            tables.put(table, tableData(table, tableRows));
+        }
+        return new AssessmentDataset(seed, rowsPerTable, tables);
+    }
+
+    private static TableData tableData(AssessmentTable table, List<List<String>> rows) {
+        List<BigDecimal> rowTotals = AssessmentCalculator.rowTotals(table, rows);
+        return new TableData(table, rows, rowTotals, AssessmentCalculator.sum(rowTotals));
+    }
+
+    private static Map<String, BigDecimal> computeTotals(Map<AssessmentTable, TableData> tables) {
+        Map<AssessmentTable, List<List<String>>> rows = new EnumMap<>(AssessmentTable.class);
+        tables.forEach((table, data) -> rows.put(table, data.rows()));
+        Map<String, BigDecimal> totals = new LinkedHashMap<>();
+        for (AssessmentTable.Section section : AssessmentTable.Section.values()) {
+            totals.putAll(AssessmentCalculator.sectionTotals(section, rows));
+        }
+        return totals;
+    }
+
+    /**
+     * Rows of every table in one section, as entered
+     */
+    public Map<AssessmentTable, List<List<String>>> rows(AssessmentTable.Section section) {
+        Map<AssessmentTable, List<List<String>>> rows = new EnumMap<>(AssessmentTable.class);
+        AssessmentTable.of(section).forEach(table -> rows.put(table, tables.get(table).rows()));
+        return rows;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public int rowsPerTable() {
+        return rowsPerTable;
+    }
+
+    public TableData table(AssessmentTable table) {
+        return tables.get(table);
+    }
+
+    public Map<AssessmentTable, TableData> tables() {
+        return tables;
+    }
+
+    /**
+     * All expected totals: table, group and derived section totals
+     */
+    public Map<String, BigDecimal> expectedTotals() {
+        return expectedTotals;
+    }
+
+    /**
+     * Expected total by key, e.g. "emissions.scope1" or "waste.toBeReduced"
+     */
+    public BigDecimal expectedTotal(String key) {
+        BigDecimal value = expectedTotals.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("No expected total '" + key + "'");
+        }
+        return value;
+    }
+
+    // ========================================
+    // SERIALIZATION
+    // ========================================
+
+    /**
+     * Write the dataset as one compact JSON document
+     */
+    public void write(Path file) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("seed", seed);
+        root.put("rowsPerTable", rowsPerTable);
+        ObjectNode tablesNode = root.putObject("tables");
+        for (TableData data : tables.values()) {
+            if (data.table().isMirror()) {
+                continue;
+            }
+            ObjectNode tableNode = tablesNode.putObject(data.table().name());
+            ArrayNode columns = tableNode.putArray("columns");
+            data.table().columns().forEach(columns::add);
+            ArrayNode rowsNode = tableNode.putArray("rows");
+            for (List<String> row : data.rows()) {
+                ArrayNode rowNode = rowsNode.addArray();
+                row.forEach(rowNode::add);
+            }
+            ArrayNode rowTotals = tableNode.putArray("rowTotals");
+            data.rowTotals().forEach(value -> rowTotals.add(value.toPlainString()));
+            tableNode.put("total", data.total().toPlainString());
+        }
+        ObjectNode totalsNode = root.putObject("totals");
+        expectedTotals.forEach((key, value) -> totalsNode.put(key, value.toPlainString()));
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), root);
+    }
+
+    /**
+     * Load a dataset written by {@link #write(Path)}. Totals are recomputed from the
+     * rows and checked against the stored ones so a hand-edited file cannot drift.
+     */
+    public static AssessmentDataset read(Path file) throws IOException {
+        JsonNode root = MAPPER.readTree(file.toFile());
+        if (root == null || !root.has("tables")) {
+            throw new IOException("Not an assessment dataset: " + file);
+        }
+        Map<AssessmentTable, List<List<String>>> rows = new EnumMap<>(AssessmentTable.class);
+        root.get("tables").fields().forEachRemaining(entry -> {
+            List<List<String>> tableRows = new ArrayList<>();
+            entry.getValue().get("rows").forEach(rowNode -> {
+                List<String> row = new ArrayList<>(rowNode.size());
+                rowNode.forEach(cell -> row.add(cell.asText()));
+                tableRows.add(row);
+            });
+            rows.put(AssessmentTable.valueOf(entry.getKey()), tableRows);
+        });
+        AssessmentDataset dataset = of(root.path("seed").asLong(), root.path("rowsPerTable").asInt(), rows);
+
+        JsonNode storedTotals = root.path("totals");
+        storedTotals.fields().forEachRemaining(entry -> {
+            BigDecimal expected = dataset.expectedTotals.get(entry.getKey());
+            if (expected == null || expected.compareTo(new BigDecimal(entry.getValue().asText())) != 0) {
+                throw new IllegalStateException("Stored total " + entry.getKey() + "=" + entry.getValue().asText()
+                    + " does not match rows of " + file + " (computed " + expected + ")");
+            }
+        });
+        return dataset;
+    }
+
+    @Override
+    public String toString() {
+        return "AssessmentDataset(seed=" + seed + ", rowsPerTable=" + rowsPerTable + ")";
+    }
+}
@@ -0,0 +1,351 @@
+package utils.assessment;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * AssessmentTable - Catalogue of every data table in the Building Assessment tab
+ *
+ * Mirrors the page objects under pages.dashboard.project.building.assessment
+ * (tablesEmissions, tablesEnergy, tablesWater, tablesWaste). Each entry knows
+ * which section and group (scope / sub-section) it rolls up into, the columns
+ * a row is filled with (with their ftestcaseref fragments), and how the
+ * platform derives the row total.
+ *
+ * Energy tables are not entered separately - the platform copies them from the
+ * matching emissions tables, so they are declared as mirrors.
+ */
+public enum AssessmentTable {
+
+    // Net Zero Emissions - Scope 1
+    EMISSIONS_A(Section.EMISSIONS, "scope1", "A", "Fuels", "scope1_fuels", Formula.PRODUCT,
+        cols(col("fuel", "fuel")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("consumption", "consumption"))),
+    EMISSIONS_B(Section.EMISSIONS, "scope1", "B", "Refrigerants", "scope1_refrigerants", Formula.PRODUCT,
+        cols(col("type", "type")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("consumption", "consumption"))),
+    EMISSIONS_C(Section.EMISSIONS, "scope1", "C", "Mobile Combustion", "scope1_mobile_combustion", Formula.PRODUCT,
+        cols(col("fuel", "fuel")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("consumption", "consumption"))),
+
+    // Net Zero Emissions - Scope 2
+    EMISSIONS_D(Section.EMISSIONS, "scope2", "D", "Energy", "scope2_energy", Formula.PRODUCT,
+        cols(col("activity", "activity")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("consumption", "consumption"))),
+
+    // Net Zero Emissions - Scope 3
+    EMISSIONS_E(Section.EMISSIONS, "scope3", "E", "Water", "scope3_water", Formula.PRODUCT,
+        cols(col("activity", "activity")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("consumption", "consumption"))),
+    EMISSIONS_F(Section.EMISSIONS, "scope3", "F", "Waste Disposal", "scope3_waste_disposal", Formula.FACTOR_TIMES_LAST,
+        cols(col("typeOfWaste", "type_of_waste")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"),
+            col("quantityGenerated", "quantity_of_waste_generated"),
+            col("quantityLandfill", "quantity_of_waste_sent_to_landfill"))),
+    EMISSIONS_G(Section.EMISSIONS, "scope3", "G", "Composed Waste", "scope3_composed_waste", Formula.PRODUCT,
+        cols(col("typeOfWaste", "type_of_waste")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("quantityComposted", "quantity_of_waste_composted"))),
+    EMISSIONS_H(Section.EMISSIONS, "scope3", "H", "Waste Recycled", "scope3_waste_recycled", Formula.PRODUCT,
+        cols(col("typeOfWaste", "type_of_waste")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("quantityRecycled", "quantity_of_waste_recycled"))),
+    EMISSIONS_I(Section.EMISSIONS, "scope3", "I", "Waste Incinerated", "scope3_waste_incinerated", Formula.PRODUCT,
+        cols(col("typeOfWaste", "type_of_waste")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("quantityIncinerated", "quantity_of_waste_incinerated"))),
+    EMISSIONS_J(Section.EMISSIONS, "scope3", "J", "WTT", "scope3_wtt", Formula.PRODUCT,
+        cols(col("fuel", "fuel")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("consumption", "consumption"))),
+    EMISSIONS_K(Section.EMISSIONS, "scope3", "K", "Employee Commute", "scope3_employee_commute", Formula.PRODUCT,
+        cols(col("vehicleType", "vehicle_type"), col("vehicleSize", "vehicle_size"), col("fuel", "fuel")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("totalDistance", "total_distance"))),
+    EMISSIONS_L(Section.EMISSIONS, "scope3", "L", "Business Travel", "scope3_business_travel", Formula.PRODUCT,
+        cols(col("vehicleType", "vehicle_type"), col("vehicleSize", "vehicle_size"), col("fuel", "fuel")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("totalDistance", "total_distance"))),
+    EMISSIONS_M(Section.EMISSIONS, "scope3", "M", "Flights", "scope3_flights", Formula.LAST,
+        cols(col("origin", "origin"), col("destination", "destination"), col("flightClass", "class"),
+            col("tripType", "trip_type")),
+        cols(col("passengers", "no_of_passengers"), col("totalEmissions", "total_emissions_(kgco2e)"))),
+    EMISSIONS_N(Section.EMISSIONS, "scope3", "N", "Food", "scope3_food", Formula.PRODUCT,
+        cols(col("foodType", "food_type")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("quantity", "quantity_(no._of_units)"))),
+    EMISSIONS_O(Section.EMISSIONS, "scope3", "O", "Logistics & Supply", "scope3_logistics_&_supply", Formula.PRODUCT,
+        cols(col("vehicle", "vehicle"), col("type", "type"), col("fuel", "fuel")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("weightTonnes", "weight_(tonnes)"),
+            col("distanceKm", "distance_(km)"))),
+    EMISSIONS_P(Section.EMISSIONS, "scope3", "P", "Primary Materials", "scope3_primary_materials", Formula.PRODUCT,
+        cols(col("typeOfMaterial", "type_of_material")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("quantity", "quantity"))),
+    EMISSIONS_Q(Section.EMISSIONS, "scope3", "Q", "Recycled Materials", "scope3_recycled_materials", Formula.PRODUCT,
+        cols(col("typeOfMaterial", "type_of_material")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("quantity", "quantity"))),
+    EMISSIONS_R(Section.EMISSIONS, "scope3", "R", "Reused Materials", "scope3_reused_materials", Formula.PRODUCT,
+        cols(col("typeOfMaterial", "type_of_material")),
+        cols(col("emissionFactor", "emission_factor_(kgco2e)"), col("quantity", "quantity"))),
+
+    // Net Zero Energy (copied from emissions tables A, C and D)
+    ENERGY_A(Section.ENERGY, "scope1", "A", "Fuels", EMISSIONS_A),
+    ENERGY_B(Section.ENERGY, "scope1", "B", "Mobile Combustion", EMISSIONS_C),
+    ENERGY_C(Section.ENERGY, "scope2", "C", "Energy", EMISSIONS_D),
+
+    // Net Zero Water - KL/annum = Quantity (kLd) x No. of Days
+    WATER_A(Section.WATER, "consumption", "A", "Potable", "scope1_potable", Formula.PRODUCT,
+        waterText(), cols(col("quantity", "quantity(kld)"), col("noOfDays", "no._of_days"))),
+    WATER_B(Section.WATER, "consumption", "B", "Non Potable", "scope1_non_potable", Formula.PRODUCT,
+        waterText(), cols(col("quantity", "quantity(kld)"), col("noOfDays", "no._of_days"))),
+    WATER_C(Section.WATER, "supply", "C", "Recycled on-site", "scope1_recycled_on-site", Formula.PRODUCT,
+        waterText(), cols(col("quantity", "quantity(kld)"), col("noOfDays", "no._of_days"))),
+    WATER_D(Section.WATER, "supply", "D", "Recycled off-site", "scope1_recycled_off-site", Formula.PRODUCT,
+        waterText(), cols(col("quantity", "quantity(kld)"), col("noOfDays", "no._of_days"))),
+    WATER_E(Section.WATER, "rainwater", "E", "Run-off - for treatment", "scope1_run-off_-_for_treatment", Formula.PRODUCT,
+        runOffText(), cols(col("quantity", "quantity"), col("noOfDays", "no._of_days"))),
+    WATER_F(Section.WATER, "rainwater", "F", "Run-off - for recharge", "scope1_run-off_-_for_recharge", Formula.PRODUCT,
+        runOffText(), cols(col("quantity", "quantity"), col("noOfDays", "no._of_days"))),
+    WATER_G(Section.WATER, "rainwater", "G", "Run-off: outside project boundary",
+        "scope1_run-off:outside_project_boundary", Formula.PRODUCT,
+        runOffText(), cols(col("quantity", "quantity"), col("noOfDays", "no._of_days"))),
+    WATER_H(Section.WATER, "freshwaterProvision", "H", "Freshwater provision", "scope1_freshwater_provision", Formula.LAST,
+        cols(col("description", "type"), col("unit", "unit")), cols(col("quantity", "quantity"))),
+
+    // Net Zero Waste - quantities in tonnes
+    WASTE_A(Section.WASTE, "generated", "A", "Generated", "generated", Formula.LAST,
+        wasteText(), cols(col("quantity", "quantity_of_waste_generated_(tonnes)"))),
+    WASTE_B(Section.WASTE, "landfill", "B", "Sent to Landfill", "sent_to_landfill", Formula.LAST,
+        wasteText(), cols(col("quantity", "quantity_of_waste_sent_to_landfill_(tonnes)"))),
+    WASTE_C(Section.WASTE, "incinerated", "C", "Incinerated", "incinerated", Formula.LAST,
+        wasteText(), cols(col("quantity", "quantity_of_waste_incinerated_(tonnes)"))),
+    WASTE_D(Section.WASTE, "composted", "D", "Composted", "composted", Formula.LAST,
+        wasteText(), cols(col("quantity", "quantity_of_waste_composted(tonnes)"))),
+    WASTE_E(Section.WASTE, "recycled", "E", "Recycled", "recycled", Formula.LAST,
+        wasteText(), cols(col("quantity", "quantity_of_waste_recycled_(tonnes)"))),
+    WASTE_F(Section.WASTE, "reused", "F", "Reused", "reused", Formula.LAST,
+        wasteText(), cols(col("quantity", "quantity_of_waste_reused_(tonnes)")));
+
+    /**
+     * Assessment tab sections and their derived (read-only) totals
+     */
+    public enum Section {
+        EMISSIONS("emissions", "scope1", "scope2", "scope3"),
+        ENERGY("energy", "scope1", "scope2"),
+        WATER("water", "consumption", "supply", "rainwater", "freshwaterProvision"),
+        WASTE("waste", "generated", "landfill", "incinerated", "composted", "recycled", "reused");
+
+        private final String key;
+        private final List<String> groups;
+
+        Section(String key, String... groups) {
+            this.key = key;
+            this.groups = List.of(groups);
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public List<String> groups() {
+            return groups;
+        }
+
+        /**
+         * Derived totals shown below the tables, computed from group totals
+         * (see {@link AssessmentCalculator#derivedTotals})
+         */
+        public Map<String, BigDecimal> derivedTotals(Map<String, BigDecimal> groupTotals) {
+            return AssessmentCalculator.derivedTotals(this, groupTotals);
+        }
+    }
+
+    /**
+     * How a row total is derived from the row's numeric columns
+     */
+    public enum Formula {
+        /** Product of all numeric columns (EF x consumption, EF x weight x distance, kLd x days) */
+        PRODUCT,
+        /** First column times last column (Table F: EF x quantity sent to landfill) */
+        FACTOR_TIMES_LAST,
+        /** Last column as entered (manual totals, plain quantities) */
+        LAST;
+
+        public BigDecimal apply(List<BigDecimal> values) {
+            return switch (this) {
+                case PRODUCT -> values.stream().reduce(BigDecimal.ONE, BigDecimal::multiply);
+                case FACTOR_TIMES_LAST -> values.get(0).multiply(values.get(values.size() - 1));
+                case LAST -> values.get(values.size() - 1);
+            };
+        }
+    }
+
+    /**
+     * A table column: field name used in datasets and the ftestcaseref fragment the UI uses for it
+     */
+    public record Column(String name, String ref) {
+    }
+
+    private final Section section;
+    private final String group;
+    private final String letter;
+    private final String title;
+    private final String ref;
+    private final Formula formula;
+    private final List<Column> textColumns;
+    private final List<Column> numericColumns;
+    private final AssessmentTable mirrorOf;
+
+    AssessmentTable(Section section, String group, String letter, String title, String ref, Formula formula,
+                    Column[] textColumns, Column[] numericColumns) {
+        this.section = section;
+        this.group = group;
+        this.letter = letter;
+        this.title = title;
+        this.ref = ref;
+        this.formula = formula;
+        this.textColumns = List.of(textColumns);
+        this.numericColumns = List.of(numericColumns);
+        this.mirrorOf = null;
+    }
+
+    AssessmentTable(Section section, String group, String letter, String title, AssessmentTable mirrorOf) {
+        this.section = section;
+        this.group = group;
+        this.letter = letter;
+        this.title = title;
+        this.ref = mirrorOf.ref;
+        this.formula = mirrorOf.formula;
+        this.textColumns = mirrorOf.textColumns;
+        this.numericColumns = mirrorOf.numericColumns;
+        this.mirrorOf = mirrorOf;
+    }
+
+    private static Column col(String name, String ref) {
+        return new Column(name, ref);
+    }
+
+    private static Column[] cols(Column... columns) {
+        return columns;
+    }
+
+    private static Column[] waterText() {
+        return cols(col("type", "type"), col("source", "source"), col("quality", "quality"), col("avgPeak", "avg/peak"));
+    }
+
+    private static Column[] runOffText() {
+        return cols(col("type", "type"), col("source", "source"), col("quality", "quality"), col("unit", "unit"),
+            col("avgPeak", "avg/peak"));
+    }
+
+    private static Column[] wasteText() {
+        return cols(col("type", "type_of_waste"));
+    }
+
+    public Section section() {
+        return section;
+    }
+
+    public String group() {
+        return group;
+    }
+
+    public String letter() {
+        return letter;
+    }
+
+    public String title() {
+        return title;
+    }
+
+    public Formula formula() {
+        return formula;
+    }
+
+    /**
+     * ftestcaseref prefix shared by every input of this table, e.g. "scope1_fuels"
+     */
+    public String ref() {
+        return ref;
+    }
+
+    public List<String> textColumns() {
+        return textColumns.stream().map(Column::name).toList();
+    }
+
+    public List<String> numericColumns() {
+        return numericColumns.stream().map(Column::name).toList();
+    }
+
+    /**
+     * Text columns followed by numeric columns - the order row values are stored in
+     */
+    public List<String> columns() {
+        return columnDefinitions().stream().map(Column::name).toList();
+    }
+
+    /**
+     * Column definitions (name + ftestcaseref fragment) in row order
+     */
+    public List<Column> columnDefinitions() {
+        return Stream.concat(textColumns.stream(), numericColumns.stream()).toList();
+    }
+
+    /**
+     * ftestcaseref of a cell, e.g. cellRef("consumption", 2) -> "scope1_fuels_consumption_2"
+     */
+    public String cellRef(String column, int rowIndex) {
+        Column definition = columnDefinitions().stream()
+            .filter(candidate -> candidate.name().equals(column))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(this + " has no column '" + column + "'"));
+        return ref + "_" + definition.ref() + "_" + rowIndex;
+    }
+
+    /**
+     * ftestcaseref of the calculated row total (Total emissions / KL per annum), or null
+     * when the table has no per-row total (waste tables, freshwater provision)
+     */
+    public String rowTotalRef(int rowIndex) {
+        if (section == Section.EMISSIONS || section == Section.ENERGY) {
+            return ref + "_total_emissions_(kgco2e)_" + rowIndex;
+        }
+        if (section == Section.WATER && formula == Formula.PRODUCT) {
+            return ref + "_kl/_annum_" + rowIndex;
+        }
+        return null;
+    }
+
+    /**
+     * ftestcaseref of the table total
+     */
+    public String totalRef() {
+        return ref + "_total";
+    }
+
+    /**
+     * The emissions table this energy table is copied from, or null
+     */
+    public AssessmentTable mirrorOf() {
+        return mirrorOf;
+    }
+
+    public boolean isMirror() {
+        return mirrorOf != null;
+    }
+
+    /**
+     * Total key used in datasets and snapshots, e.g. "emissions.scope3.K"
+     */
+    public String key() {
+        return section.key() + "." + group + "." + letter;
+    }
+
+    /**
+     * All tables of one section, in UI order
+     */
+    public static List<AssessmentTable> of(Section section) {
+        return Arrays.stream(values()).filter(table -> table.section == section).toList();
+    }
+
+    @Override
+    public String toString() {
+        return section.key() + " Table " + letter + " (" + title + ")";
+    }
+}
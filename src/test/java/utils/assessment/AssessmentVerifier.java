@@ -0,0 +1,230 @@
+package utils.assessment;
+
+import io.qameta.allure.Allure;
+import utils.TestLogger;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AssessmentVerifier - Checks a whole section snapshot against the reference calculations
+ *
+ * Every row total, table total, group total and derived total is compared in one
+ * pass; all mismatches are collected and reported together instead of failing on
+ * the first one.
+ *
+ * Usage:
+ *   // Recompute from what the UI shows
+ *   AssessmentVerifier.verify(snapshot).assertPassed();
+ *
+ *   // Also check the section holds exactly the dataset's rows
+ *   AssessmentVerifier.verify(snapshot, dataset).assertPassed();
+ *
+ * Tolerance: -Dassessment.tolerance (default 0.01, same as AssertLogger.assertNumberEquals),
+ * scaled up for very large values, and never below the displayed value's own rounding: the exact
+ * expected value must be within half a unit of its last displayed decimal ("1,235" allows 0.5).
+ */
+public final class AssessmentVerifier {
+
+    private static final BigDecimal DEFAULT_TOLERANCE = new BigDecimal(System.getProperty("assessment.tolerance", "0.01"));
+    private static final BigDecimal RELATIVE_TOLERANCE = new BigDecimal("1e-9");
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+    /**
+     * One failed check
+     */
+    public record Mismatch(String key, String expected, String actual, String detail) {
+    }
+
+    /**
+     * Outcome of a verification pass
+     */
+    public static final class Result {
+        private final AssessmentTable.Section section;
+        private final List<Mismatch> mismatches = new ArrayList<>();
+        private int checks;
+
+        private Result(AssessmentTable.Section section) {
+            this.section = section;
+        }
+
+        public AssessmentTable.Section section() {
+            return section;
+        }
+
+        public List<Mismatch> mismatches() {
+            return Collections.unmodifiableList(mismatches);
+        }
+
+        public int checks() {
+            return checks;
+        }
+
+        public boolean passed() {
+            return mismatches.isEmpty();
+        }
+
+        /**
+         * Plain-text table of all mismatches
+         */
+        public String report() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("%s: %d checks, %d mismatches%n", section.key(), checks, mismatches.size()));
+            if (!mismatches.isEmpty()) {
+                report.append(String.format("%-36s | %-22s | %-22s | %s%n", "Key", "Expected", "Actual", "Detail"));
+                report.append("-".repeat(110)).append('\n');
+                for (Mismatch mismatch : mismatches) {
+                    report.append(String.format("%-36s | %-22s | %-22s | %s%n",
+                        mismatch.key(), mismatch.expected(), mismatch.actual(), mismatch.detail()));
+                }
+            }
+            return report.toString();
+        }
+
+        /**
+         * Attach the report to Allure and fail once with every mismatch listed
+         */
+        public Result assertPassed() {
+            String report = report();
+            Allure.addAttachment("Assessment verification - " + section.key(), "text/plain", report, ".txt");
+            if (passed()) {
+                TestLogger.info("✓ " + section.key() + " verified (" + checks + " checks)");
+                return this;
+            }
+            TestLogger.error("✗ " + section.key() + ": " + mismatches.size() + " of " + checks + " checks failed");
+            throw new AssertionError(report);
+        }
+
+        private void check(String key, BigDecimal expected, String actual, String detail) {
+            checks++;
+            BigDecimal actualValue;
+            try {
+                actualValue = parseDisplayed(actual);
+            } catch (IllegalArgumentException e) {
+                mismatches.add(new Mismatch(key, expected.toPlainString(), actual, "not a number"));
+                return;
+            }
+            if (actualValue == null) {
+                mismatches.add(new Mismatch(key, expected.toPlainString(), actual, "not displayed"));
+                return;
+            }
+            BigDecimal rounding = actualValue.ulp().divide(BigDecimal.valueOf(2));
+            BigDecimal tolerance = DEFAULT_TOLERANCE.max(expected.abs().multiply(RELATIVE_TOLERANCE)).max(rounding);
+            if (expected.subtract(actualValue).abs().compareTo(tolerance) > 0) {
+                mismatches.add(new Mismatch(key, expected.toPlainString(), actual, detail));
+            }
+        }
+
+        private void checkText(String key, String expected, String actual) {
+            checks++;
+            String expectedText = expected == null ? "" : expected.trim();
+            String actualText = actual == null ? "" : actual.trim();
+            if (!expectedText.equals(actualText)) {
+                mismatches.add(new Mismatch(key, expectedText, actualText, "entered value differs"));
+            }
+        }
+    }
+
+    private AssessmentVerifier() {
+    }
+
+    /**
+     * Recompute every total from the rows the snapshot shows and compare with what is displayed
+     */
+    public static Result verify(SectionSnapshot snapshot) {
+        Result result = new Result(snapshot.section());
+        Map<String, BigDecimal> expectedTotals = AssessmentCalculator.sectionTotals(snapshot.section(), snapshot.rows());
+        for (SectionSnapshot.TableSnapshot table : snapshot.tables().values()) {
+            checkRowTotals(result, table, AssessmentCalculator.rowTotals(table.table(), table.rows()));
+        }
+        checkTotals(result, snapshot, expectedTotals);
+        return result;
+    }
+
+    /**
+     * Check the snapshot holds the dataset's rows and shows the dataset's precomputed totals
+     */
+    public static Result verify(SectionSnapshot snapshot, AssessmentDataset dataset) {
+        Result result = new Result(snapshot.section());
+        for (SectionSnapshot.TableSnapshot table : snapshot.tables().values()) {
+            AssessmentDataset.TableData expected = dataset.table(table.table());
+            result.checks++;
+            if (expected.size() != table.rows().size()) {
+                result.mismatches.add(new Mismatch(table.table().key() + ".rows", String.valueOf(expected.size()),
+                    String.valueOf(table.rows().size()), "row count differs"));
+            }
+            int textCount = table.table().textColumns().size();
+            List<String> columns = table.table().columns();
+            for (int row = 0; row < Math.min(expected.size(), table.rows().size()); row++) {
+                for (int column = 0; column < columns.size(); column++) {
+                    String key = table.table().key() + "[" + row + "]." + columns.get(column);
+                    String expectedValue = expected.rows().get(row).get(column);
+                    String actualValue = table.rows().get(row).get(column);
+                    if (column < textCount) {
+                        result.checkText(key, expectedValue, actualValue);
+                    } else {
+                        result.check(key, new BigDecimal(expectedValue), actualValue, "entered value differs");
+                    }
+                }
+            }
+            checkRowTotals(result, table, expected.rowTotals());
+        }
+        checkTotals(result, snapshot, dataset.expectedTotals());
+        return result;
+    }
+
+    private static void checkRowTotals(Result result, SectionSnapshot.TableSnapshot table, List<BigDecimal> expected) {
+        if (table.rowTotals().isEmpty()) {
+            return;
+        }
+        for (int row = 0; row < Math.min(expected.size(), table.rowTotals().size()); row++) {
+            result.check(table.table().key() + "[" + row + "].total", expected.get(row), table.rowTotals().get(row),
+                describeRow(table.table(), table.rows().get(row)));
+        }
+    }
+
+    private static void checkTotals(Result result, SectionSnapshot snapshot, Map<String, BigDecimal> expectedTotals) {
+        for (SectionSnapshot.TableSnapshot table : snapshot.tables().values()) {
+            result.check(table.table().key(), expectedTotals.get(table.table().key()), table.total(),
+                "table total = sum of " + table.rows().size() + " rows");
+        }
+        snapshot.totals().forEach((key, actual) -> {
+            BigDecimal expected = expectedTotals.get(key);
+            if (expected != null) {
+                result.check(key, expected, actual, isGroup(snapshot.section(), key) ? "group total" : "derived total");
+            }
+        });
+    }
+
+    private static boolean isGroup(AssessmentTable.Section section, String key) {
+        return section.groups().contains(key.substring(key.indexOf('.') + 1));
+    }
+
+    private static String describeRow(AssessmentTable table, List<String> row) {
+        List<String> numbers = row.subList(table.textColumns().size(), row.size());
+        return switch (table.formula()) {
+            case PRODUCT -> String.join(" x ", numbers);
+            case FACTOR_TIMES_LAST -> numbers.get(0) + " x " + numbers.get(numbers.size() - 1);
+            case LAST -> "as entered: " + numbers.get(numbers.size() - 1);
+        };
+    }
+
+    /**
+     * Parse a displayed number leniently ("1,234.56 kgCO2e" -> 1234.56); null when nothing is shown
+     */
+    private static BigDecimal parseDisplayed(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Matcher number = NUMBER.matcher(value.replace(",", ""));
+        if (!number.find()) {
+            throw new IllegalArgumentException("Cannot parse as number: " + value);
+        }
+        return new BigDecimal(number.group());
+    }
+}
@@ -0,0 +1,399 @@
+package utils.assessment;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import utils.BenchmarkCsv;
+import utils.InputHelper;
+import utils.TestLogger;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * CalculationProbe - Measures how long the calculation engine takes to update totals after an entry
+ *
+ * The assessment table page objects enter numeric cells through {@link #enter}. Before typing, the
+ * probe is armed in the page on the input: it remembers the row total, table total and group total
+ * (scope / sub-section) and polls them every animation frame. Each time one changes, its latency is
+ * taken from the last commit event on the input (keystroke, Enter or change). The input itself is
+ * still typed by InputHelper.humanizedInput, so tests behave exactly as before.
+ *
+ * Samples are keyed by table, target (row / table / group) and the number of rows the table had,
+ * appended to target/benchmarks/calc-latency.csv, and summarised per run (JUnit Platform listener,
+ * see META-INF/services) as latency histograms:
+ * - target/benchmarks/calc-latency-runs.csv (one line per table/rows/target with bucket counts)
+ * - target/benchmarks/calc-latency-histogram.txt (last run, printed to the console)
+ * Groups whose p90 grew by more than -Dcalc.probe.regressionPct (default 50%, and 100ms) since the
+ * previous run are flagged as regressions.
+ *
+ * The probe only observes: by default it is collected as soon as the input's own wait is over.
+ * The row's numeric cells are read before and after the entry; when the reference formula
+ * ({@link AssessmentCalculator}) gives a different row total, every target is expected to change.
+ * An expected target that has not changed yet is recorded as censored (its latency is only known
+ * to exceed the time since the commit); entries that cannot change a total (the first factor of
+ * an empty EF x quantity row) record nothing. Censored samples are counted per group and left
+ * out of the percentiles and buckets, so a slow engine shows up as a growing censored count.
+ *
+ * Flags: -Dcalc.probe=false (off), -Dcalc.probe.settleMs (keep watching totals that have not
+ * updated yet after the input's wait, default 0)
+ */
+public class CalculationProbe implements TestExecutionListener {
+
+    /** Upper bounds (ms) of the histogram buckets; the last bucket is open-ended */
+    private static final int[] BUCKETS = {50, 100, 200, 400, 800, 1600, 3200};
+    private static final String SAMPLES_CSV = "calc-latency.csv";
+    private static final String RUNS_CSV = "calc-latency-runs.csv";
+    private static final String HISTOGRAM_FILE = "calc-latency-histogram.txt";
+
+    // Arms the probe on the input: watches the targets and timestamps commit events on the input
+    private static final String ARM_SCRIPT = """
+        (input, spec) => {
+          const inScope = el => (!spec.root || el.closest(spec.root)) && (!spec.exclude || !el.closest(spec.exclude));
+          const find = selector => selector ? [...document.querySelectorAll(selector)].find(inScope) || null : null;
+          const read = el => (el.tagName === 'INPUT' || el.tagName === 'SELECT') ? el.value : el.textContent.trim();
+          if (window.__gnfzCalcProbe) window.__gnfzCalcProbe.stop();
+
+          const cells = spec.cells.map(find);
+          const targets = [];
+          for (const [name, selector] of Object.entries(spec.targets)) {
+            const el = find(selector);
+            if (el) targets.push({ name, el, last: read(el) });
+          }
+          const probe = {
+            rows: [...document.querySelectorAll(spec.rows)].filter(inScope).length,
+            targetNames: targets.map(target => target.name),
+            cells,
+            before: cells.map(cell => cell ? cell.value : null),
+            lastCommit: null,
+            latencies: {},
+            stopped: false
+          };
+          const commit = () => { probe.lastCommit = performance.now(); };
+          const onKey = event => { if (event.key === 'Enter') commit(); };
+          input.addEventListener('input', commit, true);
+          input.addEventListener('change', commit, true);
+          input.addEventListener('keydown', onKey, true);
+          probe.stop = () => {
+            probe.stopped = true;
+            input.removeEventListener('input', commit, true);
+            input.removeEventListener('change', commit, true);
+            input.removeEventListener('keydown', onKey, true);
+          };
+
+          const poll = () => {
+            if (probe.stopped) return;
+            const now = performance.now();
+            for (const target of targets) {
+              const value = read(target.el);
+              if (value !== target.last) {
+                target.last = value;
+                if (probe.lastCommit !== null) probe.latencies[target.name] = now - probe.lastCommit;
+              }
+            }
+            requestAnimationFrame(poll);
+          };
+          requestAnimationFrame(poll);
+          window.__gnfzCalcProbe = probe;
+          return probe.targetNames.length;
+        }
+        """;
+
+    // Stops the probe and returns { rows, latencies, censored, waitedMs, before, after }, waiting up
+    // to settleMs for targets not updated yet; censored lists the targets that still had not changed,
+    // before/after the row's numeric cells at arming and at collection
+    private static final String COLLECT_SCRIPT = """
+        (settleMs) => new Promise(resolve => {
+          const probe = window.__gnfzCalcProbe;
+          if (!probe) return resolve(null);
+          const started = performance.now();
+          const finish = () => {
+            probe.stop();
+            window.__gnfzCalcProbe = null;
+            const censored = probe.lastCommit === null ? []
+              : probe.targetNames.filter(name => !(name in probe.latencies));
+            const waitedMs = probe.lastCommit === null ? 0 : performance.now() - probe.lastCommit;
+            const after = probe.cells.map(cell => cell ? cell.value : null);
+            resolve({ rows: probe.rows, latencies: probe.latencies, censored, waitedMs, before: probe.before, after });
+          };
+          const check = () => Object.keys(probe.latencies).length >= probe.targetNames.length
+            || performance.now() - started >= settleMs ? finish() : setTimeout(check, 16);
+          check();
+        })
+        """;
+
+    /**
+     * One observed total update; censored when the total had not changed after latencyMs
+     */
+    public record Sample(String table, int rows, String target, double latencyMs, boolean censored) {}
+
+    private static final List<Sample> samples = new ArrayList<>();
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("calc.probe", "true"));
+    }
+
+    /**
+     * Type a value into a table cell (InputHelper.humanizedInput) and record how long each total
+     * took to update
+     */
+    public static void enter(Page page, AssessmentTable table, int rowIndex, Locator input, String value) {
+        boolean armed = isEnabled() && arm(table, rowIndex, input);
+        InputHelper.humanizedInput(page, input, value);
+        if (armed) {
+            collect(page, table);
+        }
+    }
+
+    private static boolean arm(AssessmentTable table, int rowIndex, Locator input) {
+        Map<String, Object> targets = new LinkedHashMap<>();
+        String rowTotalRef = table.rowTotalRef(rowIndex);
+        if (rowTotalRef != null) {
+            targets.put("row", "[ftestcaseref='" + rowTotalRef + "']");
+        }
+        targets.put("table", "[ftestcaseref='" + table.totalRef() + "']");
+        String groupTotal = SectionSnapshot.groupTotalSelector(table.section(), table.group());
+        if (groupTotal != null) {
+            targets.put(table.group(), groupTotal);
+        }
+        List<String> cells = new ArrayList<>();
+        for (String column : table.numericColumns()) {
+            cells.add("[ftestcaseref='" + table.cellRef(column, rowIndex) + "']");
+        }
+
+        Map<String, Object> spec = new HashMap<>();
+        spec.put("targets", targets);
+        spec.put("cells", cells);
+        spec.put("rows", "[ftestcaseref^='" + table.ref() + "_" + table.columnDefinitions().get(0).ref() + "_']");
+        spec.put("root", SectionSnapshot.scopeRoot(table.section()));
+        spec.put("exclude", SectionSnapshot.scopeExclude(table.section()));
+        try {
+            return input.evaluate(ARM_SCRIPT, spec) instanceof Number count && count.intValue() > 0;
+        } catch (PlaywrightException e) {
+            TestLogger.debug("Calculation probe not armed for " + table + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void collect(Page page, AssessmentTable table) {
+        Object result;
+        try {
+            result = page.evaluate(COLLECT_SCRIPT, Integer.getInteger("calc.probe.settleMs", 0));
+        } catch (PlaywrightException e) {
+            TestLogger.debug("Calculation probe lost for " + table + ": " + e.getMessage());
+            return;
+        }
+        if (!(result instanceof Map<?, ?> values) || !(values.get("latencies") instanceof Map<?, ?> latencies)) {
+            return;
+        }
+        int rows = values.get("rows") instanceof Number count ? count.intValue() : 0;
+        List<Sample> collected = new ArrayList<>();
+        latencies.forEach((target, latency) ->
+            collected.add(new Sample(table.key(), rows, target.toString(), ((Number) latency).doubleValue(), false)));
+        if (values.get("censored") instanceof List<?> censored
+                && changesRowTotal(table, values.get("before"), values.get("after"))) {
+            double waitedMs = values.get("waitedMs") instanceof Number waited ? waited.doubleValue() : 0;
+            censored.forEach(target -> collected.add(new Sample(table.key(), rows, target.toString(), waitedMs, true)));
+        }
+
+        String timestamp = LocalDateTime.now().toString();
+        for (Sample sample : collected) {
+            synchronized (samples) {
+                samples.add(sample);
+            }
+            TestLogger.debug(String.format(Locale.ROOT, sample.censored()
+                    ? "%s: %s total not updated %.0f ms after commit (%d rows)"
+                    : "%s: %s total updated %.0f ms after commit (%d rows)",
+                table, sample.target(), sample.latencyMs(), rows));
+            BenchmarkCsv.append(SAMPLES_CSV, "timestamp,table,rows,target,latencyMs,censored",
+                String.format(Locale.ROOT, "%s,%s,%d,%s,%.1f,%s", timestamp, sample.table(), rows, sample.target(),
+                    sample.latencyMs(), sample.censored()));
+        }
+    }
+
+    /**
+     * True when the reference formula gives a different row total for the cells after the entry
+     * (false when the cells could not be read or parsed)
+     */
+    private static boolean changesRowTotal(AssessmentTable table, Object before, Object after) {
+        if (!(before instanceof List<?> cellsBefore) || !(after instanceof List<?> cellsAfter)
+                || cellsBefore.size() != table.numericColumns().size() || cellsAfter.size() != cellsBefore.size()) {
+            return false;
+        }
+        try {
+            return table.formula().apply(numbers(cellsBefore)).compareTo(table.formula().apply(numbers(cellsAfter))) != 0;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static List<BigDecimal> numbers(List<?> cells) {
+        List<BigDecimal> numbers = new ArrayList<>();
+        for (Object cell : cells) {
+            if (cell == null) {
+                throw new IllegalArgumentException("cell not found");
+            }
+            numbers.add(AssessmentCalculator.parse(cell.toString()));
+        }
+        return numbers;
+    }
+
+    /**
+     * Copy of this run's samples
+     */
+    public static List<Sample> snapshot() {
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        List<Sample> run = snapshot();
+        if (run.isEmpty()) {
+            return;
+        }
+        synchronized (samples) {
+            samples.clear();
+        }
+        String report = histogram(run);
+        System.out.println(report);
+        try {
+            Path histogram = BenchmarkCsv.path(HISTOGRAM_FILE);
+            Files.createDirectories(histogram.getParent());
+            Files.writeString(histogram, report);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save calculation latency histogram: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Histogram report of one run (also appended to calc-latency-runs.csv) with regressions
+     * against the previous run
+     */
+    private static String histogram(List<Sample> run) {
+        Map<String, List<Double>> groups = new TreeMap<>();
+        Map<String, Integer> censored = new HashMap<>();
+        for (Sample sample : run) {
+            String key = sample.table() + "," + sample.rows() + "," + sample.target();
+            List<Double> values = groups.computeIfAbsent(key, k -> new ArrayList<>());
+            if (sample.censored()) {
+                censored.merge(key, 1, Integer::sum);
+            } else {
+                values.add(sample.latencyMs());
+            }
+        }
+        Map<String, Double> previous = previousRunP90();
+        double regressionPct = Double.parseDouble(System.getProperty("calc.probe.regressionPct", "50"));
+
+        String timestamp = LocalDateTime.now().toString();
+        StringBuilder header = new StringBuilder("timestamp,table,rows,target,n,p50Ms,p90Ms,maxMs");
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i <= BUCKETS.length; i++) {
+            String label = i < BUCKETS.length ? "le" + BUCKETS[i] : "gt" + BUCKETS[BUCKETS.length - 1];
+            header.append(',').append(label);
+            labels.append(String.format("%7s", i < BUCKETS.length ? "<=" + BUCKETS[i] : ">" + BUCKETS[BUCKETS.length - 1]));
+        }
+
+        header.append(",censored");
+        int censoredTotal = censored.values().stream().mapToInt(Integer::intValue).sum();
+
+        StringBuilder report = new StringBuilder(String.format(
+            "Calculation latency (commit -> total update, ms) - %d sample(s), %d censored%n"
+                + "%-28s %4s %-9s %4s %7s %7s %7s%s %8s%n",
+            run.size() - censoredTotal, censoredTotal, "table", "rows", "target", "n", "p50", "p90", "max", labels,
+            "censored"));
+        List<String> regressions = new ArrayList<>();
+        groups.forEach((key, values) -> {
+            List<Double> sorted = values.stream().sorted().toList();
+            int notUpdated = censored.getOrDefault(key, 0);
+            double p50 = sorted.isEmpty() ? 0 : percentile(sorted, 50);
+            double p90 = sorted.isEmpty() ? 0 : percentile(sorted, 90);
+            double max = sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1);
+            int[] counts = new int[BUCKETS.length + 1];
+            for (double value : sorted) {
+                counts[bucket(value)]++;
+            }
+
+            String[] parts = key.split(",", 3);
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%s,%s,%s,%s,%d,%.1f,%.1f,%.1f",
+                timestamp, parts[0], parts[1], parts[2], sorted.size(), p50, p90, max));
+            StringBuilder bars = new StringBuilder();
+            for (int count : counts) {
+                line.append(',').append(count);
+                bars.append(String.format("%7s", count == 0 ? "." : count));
+            }
+            line.append(',').append(notUpdated);
+            BenchmarkCsv.append(RUNS_CSV, header.toString(), line.toString());
+            report.append(String.format(Locale.ROOT, "%-28s %4s %-9s %4d %7.0f %7.0f %7.0f%s %8s%n",
+                parts[0], parts[1], parts[2], sorted.size(), p50, p90, max, bars, notUpdated == 0 ? "." : notUpdated));
+
+            Double before = previous.get(key);
+            if (before != null && !sorted.isEmpty() && p90 > before * (1 + regressionPct / 100) && p90 - before > 100) {
+                regressions.add(String.format(Locale.ROOT, "%s (%s rows, %s): p90 %.0f ms -> %.0f ms",
+                    parts[0], parts[1], parts[2], before, p90));
+            }
+        });
+        if (censoredTotal > 0) {
+            report.append(String.format("%d total(s) had not updated when collected (-Dcalc.probe.settleMs); "
+                + "they are counted as censored, not in the percentiles%n", censoredTotal));
+        }
+        if (!regressions.isEmpty()) {
+            report.append("Regressions since the previous run:\n  ").append(String.join("\n  ", regressions)).append('\n');
+        }
+        return report.toString();
+    }
+
+    /**
+     * p90 per "table,rows,target" of the most recent run in calc-latency-runs.csv
+     */
+    private static Map<String, Double> previousRunP90() {
+        Path file = BenchmarkCsv.path(RUNS_CSV);
+        Map<String, Double> p90 = new HashMap<>();
+        if (!Files.exists(file)) {
+            return p90;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file);
+            String lastRun = lines.size() > 1 ? lines.get(lines.size() - 1).split(",", 2)[0] : null;
+            for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                String[] fields = line.split(",");
+                if (fields.length > 6 && fields[0].equals(lastRun)) {
+                    p90.put(fields[1] + "," + fields[2] + "," + fields[3], Double.parseDouble(fields[6]));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            TestLogger.warn("Could not read previous calculation latencies: " + e.getMessage());
+        }
+        return p90;
+    }
+
+    private static int bucket(double latencyMs) {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            if (latencyMs <= BUCKETS[i]) {
+                return i;
+            }
+        }
+        return BUCKETS.length;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values
+     */
+    private static double percentile(List<Double> sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+}
@@ -0,0 +1,209 @@
+package utils.assessment;
+
+import com.microsoft.playwright.Page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SectionSnapshot - Everything one assessment section currently shows, read in a single evaluate
+ *
+ * Holds the entered row values, calculated row totals and table totals of every
+ * table in the section, plus the group and derived totals below the tables
+ * (keyed like dataset totals: "emissions.scope1", "water.annualFreshwaterRequirement").
+ *
+ * Usage:
+ *   SectionSnapshot snapshot = SectionSnapshot.capture(page, AssessmentTable.Section.EMISSIONS);
+ *   AssessmentVerifier.verify(snapshot).assertPassed();
+ *
+ * Only rendered inputs are visible to the capture, so expand the section's accordions first.
+ */
+public record SectionSnapshot(AssessmentTable.Section section,
+                              Map<AssessmentTable, TableSnapshot> tables,
+                              Map<String, String> totals) {
+
+    /**
+     * Values shown by one table: entered rows, calculated row totals (empty when the
+     * table has none) and the table total
+     */
+    public record TableSnapshot(AssessmentTable table, List<List<String>> rows, List<String> rowTotals, String total) {
+
+        public TableSnapshot {
+            rows = rows.stream().map(List::copyOf).toList();
+            rowTotals = List.copyOf(rowTotals);
+        }
+    }
+
+    /**
+     * Where a group / derived total is displayed. Mirrors the locators in the
+     * NetZero*Section page objects; rowLabel selects a row of a summary table.
+     */
+    private record TotalLocator(String key, String selector, String rowLabel) {
+    }
+
+    private static final String EMISSIONS_SUMMARY = "#flush-collapse__Summary .summary-table tbody";
+    private static final String ENERGY_ROOT = "#net-zero-energy";
+
+    private static final Map<AssessmentTable.Section, List<TotalLocator>> TOTAL_LOCATORS = Map.of(
+        AssessmentTable.Section.EMISSIONS, List.of(
+            new TotalLocator("scope1", "[ftestcaseref='scope_1_total']", null),
+            new TotalLocator("scope2", "[ftestcaseref='scope2_energy_total']", null),
+            new TotalLocator("scope3", "[ftestcaseref='scope_3_total']", null),
+            new TotalLocator("total", EMISSIONS_SUMMARY, "d. Total emissions")),
+        AssessmentTable.Section.ENERGY, List.of(
+            new TotalLocator("scope1", ENERGY_ROOT + " input[ftestcaseref='scope_1_total']", null),
+            new TotalLocator("scope2", ENERGY_ROOT + " input[ftestcaseref='scope2_energy_total']", null),
+            new TotalLocator("total", ENERGY_ROOT + " " + EMISSIONS_SUMMARY, "c. Total energy of the building")),
+        AssessmentTable.Section.WATER, List.of(
+            new TotalLocator("consumption", "#collapse_total_water_consumption", null),
+            new TotalLocator("supply", "#collapse_total_water_supply", null),
+            new TotalLocator("rainwater", "#collapse_total_rainwater", null),
+            new TotalLocator("freshwaterProvision", "#collapse_total_freshwater_provision", null),
+            new TotalLocator("annualFreshwaterRequirement", "#collapse_total_scope6", null)),
+        AssessmentTable.Section.WASTE, List.of(
+            new TotalLocator("generated", "#collapse_total_0", null),
+            new TotalLocator("landfill", "#collapse_total_1", null),
+            new TotalLocator("incinerated", "#collapse_total_2", null),
+            new TotalLocator("composted", "#collapse_total_3", null),
+            new TotalLocator("recycled", "#collapse_total_4", null),
+            new TotalLocator("reused", "#collapse_total_5", null),
+            new TotalLocator("toBeReduced", "#collapse_total_scope7", null)));
+
+    /**
+     * Collects every [ftestcaseref] input/select value in scope plus the displayed totals.
+     * Emissions and energy share ftestcaseref values, so emissions skips the energy container.
+     */
+    private static final String CAPTURE_SCRIPT = """
+        ({ root, exclude, totals }) => {
+          const inScope = el => (!root || el.closest(root)) && (!exclude || !el.closest(exclude));
+          const read = el => el == null ? null
+            : (el.tagName === 'INPUT' || el.tagName === 'SELECT') ? el.value : el.textContent.trim();
+          const values = {};
+          document.querySelectorAll('input[ftestcaseref], select[ftestcaseref]').forEach(el => {
+            const ref = el.getAttribute('ftestcaseref');
+            if (!(ref in values) && inScope(el)) {
+              values[ref] = el.value;
+            }
+          });
+          const shown = {};
+          for (const total of totals) {
+            let el;
+            if (total.rowLabel) {
+              const row = [...document.querySelectorAll(total.selector + ' tr')]
+                .find(tr => tr.textContent.includes(total.rowLabel));
+              el = row ? row.querySelector('td:nth-child(2)') : null;
+            } else {
+              el = [...document.querySelectorAll(total.selector)].find(inScope) || null;
+            }
+            shown[total.key] = read(el);
+          }
+          return { values, shown };
+        }
+        """;
+
+    public SectionSnapshot {
+        tables = Collections.unmodifiableMap(new EnumMap<>(tables));
+        totals = Collections.unmodifiableMap(new LinkedHashMap<>(totals));
+    }
+
+    /**
+     * Read the whole section from the page in one round trip
+     */
+    @SuppressWarnings("unchecked")
+    public static SectionSnapshot capture(Page page, AssessmentTable.Section section) {
+        Map<String, Object> arg = new LinkedHashMap<>();
+        arg.put("root", scopeRoot(section));
+        arg.put("exclude", scopeExclude(section));
+        List<Map<String, Object>> totalLocators = new ArrayList<>();
+        for (TotalLocator locator : TOTAL_LOCATORS.get(section)) {
+            Map<String, Object> spec = new LinkedHashMap<>();
+            spec.put("key", locator.key());
+            spec.put("selector", locator.selector());
+            spec.put("rowLabel", locator.rowLabel());
+            totalLocators.add(spec);
+        }
+        arg.put("totals", totalLocators);
+
+        Map<String, Object> result = (Map<String, Object>) page.evaluate(CAPTURE_SCRIPT, arg);
+        Map<String, Object> values = (Map<String, Object>) result.get("values");
+        Map<String, Object> shown = (Map<String, Object>) result.get("shown");
+
+        Map<String, String> cells = new LinkedHashMap<>();
+        values.forEach((ref, value) -> cells.put(ref, value == null ? null : value.toString()));
+        Map<String, String> totals = new LinkedHashMap<>();
+        shown.forEach((key, value) -> totals.put(section.key() + "." + key, value == null ? null : value.toString()));
+        return fromCells(section, cells, totals);
+    }
+
+    /**
+     * Container the section's inputs live in (null: whole page)
+     */
+    static String scopeRoot(AssessmentTable.Section section) {
+        return section == AssessmentTable.Section.ENERGY ? ENERGY_ROOT : null;
+    }
+
+    /**
+     * Container to skip when looking up the section's inputs (emissions and energy share ftestcaseref values)
+     */
+    static String scopeExclude(AssessmentTable.Section section) {
+        return section == AssessmentTable.Section.EMISSIONS ? ENERGY_ROOT : null;
+    }
+
+    /**
+     * Selector of the displayed total of a group ("scope1", "consumption", ...), or null
+     */
+    static String groupTotalSelector(AssessmentTable.Section section, String group) {
+        return TOTAL_LOCATORS.get(section).stream()
+            .filter(locator -> locator.key().equals(group) && locator.rowLabel() == null)
+            .map(TotalLocator::selector)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Assemble a snapshot from ftestcaseref -> value pairs (rows are read until the
+     * first index with no inputs)
+     */
+    public static SectionSnapshot fromCells(AssessmentTable.Section section, Map<String, String> cells,
+                                            Map<String, String> totals) {
+        Map<AssessmentTable, TableSnapshot> tables = new EnumMap<>(AssessmentTable.class);
+        for (AssessmentTable table : AssessmentTable.of(section)) {
+            List<List<String>> rows = new ArrayList<>();
+            List<String> rowTotals = new ArrayList<>();
+            for (int i = 0; hasRow(table, cells, i); i++) {
+                List<String> row = new ArrayList<>();
+                for (String column : table.columns()) {
+                    row.add(cells.getOrDefault(table.cellRef(column, i), ""));
+                }
+                rows.add(row);
+                String rowTotalRef = table.rowTotalRef(i);
+                if (rowTotalRef != null) {
+                    rowTotals.add(cells.getOrDefault(rowTotalRef, ""));
+                }
+            }
+            tables.put(table, new TableSnapshot(table, rows, rowTotals, cells.getOrDefault(table.totalRef(), "")));
+        }
+        return new SectionSnapshot(section, tables, totals);
+    }
+
+    private static boolean hasRow(AssessmentTable table, Map<String, String> cells, int rowIndex) {
+        return table.columns().stream().anyMatch(column -> cells.containsKey(table.cellRef(column, rowIndex)));
+    }
+
+    public TableSnapshot table(AssessmentTable table) {
+        return tables.get(table);
+    }
+
+    /**
+     * Entered rows of every table, in the shape {@link AssessmentCalculator#sectionTotals} takes
+     */
+    public Map<AssessmentTable, List<List<String>>> rows() {
+        Map<AssessmentTable, List<List<String>>> rows = new EnumMap<>(AssessmentTable.class);
+        tables.forEach((table, snapshot) -> rows.put(table, snapshot.rows()));
+        return rows;
+    }
+}